@@ -0,0 +1,103 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.service.ExportService;
+import com.example.taskmanagement.util.DateUtil;
+import com.example.taskmanagement.util.TaskConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Streaming CSV and JSON export, including CSV quoting of titles, descriptions and notes.
+ * The repository is stubbed to stream the synthetic tasks, so only formatting is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ExportServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    private ExportService exportService;
+    private CountingOutputStream output;
+
+    @Setup
+    public void setUp() {
+        List<Task> tasks = TaskDataset.generate(taskCount).getTasks();
+
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.streamAllForExport()).thenAnswer(invocation -> tasks.stream());
+
+        exportService = new ExportService();
+        ReflectionTestUtils.setField(exportService, "taskRepository", taskRepository);
+        ReflectionTestUtils.setField(exportService, "objectMapper", new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(exportService, "taskConverter", new TaskConverter());
+        ReflectionTestUtils.setField(exportService, "dateUtil", new DateUtil());
+        ReflectionTestUtils.setField(exportService, "entityManager", mock(EntityManager.class));
+        output = new CountingOutputStream();
+    }
+
+    @Benchmark
+    public long csv() {
+        output.reset();
+        exportService.writeTasksAsCsv(null, output);
+        return output.getCount();
+    }
+
+    @Benchmark
+    public long json() {
+        output.reset();
+        exportService.writeTasksAsJson(null, output);
+        return output.getCount();
+    }
+
+    /**
+     * Discards the export while counting its bytes, so the result cannot be optimized away.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        void reset() {
+            count = 0;
+        }
+    }
+}
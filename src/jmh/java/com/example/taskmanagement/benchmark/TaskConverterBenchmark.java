@@ -0,0 +1,54 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.util.TaskConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response conversion, for single tasks and whole result lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskConverterBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    private final TaskConverter taskConverter = new TaskConverter();
+    private List<Task> tasks;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        tasks = TaskDataset.generate(taskCount).getTasks();
+        task = tasks.get(tasks.size() / 2);
+    }
+
+    @Benchmark
+    public TaskResponse convertOne() {
+        return taskConverter.convertToResponse(task);
+    }
+
+    @Benchmark
+    public List<TaskResponse> convertList() {
+        return taskConverter.convertToResponseList(tasks);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic task data for the benchmarks.
+ * The same seed always yields the same tasks, so results stay comparable across commits.
+ * Descriptions and notes are drawn from a shared pool so a million tasks fit in a modest heap.
+ */
+public final class TaskDataset {
+
+    private static final long SEED = 20240101L;
+    private static final int TEXT_POOL_SIZE = 64;
+
+    private static final String[] VERBS = {
+        "Prepare", "Review", "Update", "Fix", "Write", "Plan", "Deploy", "Test", "Refactor", "Document"
+    };
+    private static final String[] SUBJECTS = {
+        "quarterly report", "login page", "release notes", "database migration", "team meeting",
+        "customer feedback", "API documentation", "build pipeline", "security audit", "onboarding guide"
+    };
+    private static final String[] WORDS = {
+        "the", "task", "needs", "to", "be", "done", "before", "review", "with", "client", "data",
+        "owner", "follow", "up", "on", "deadline", "scope", "details", "budget", "notes", "draft"
+    };
+
+    private final List<Task> tasks;
+    private final String[] texts;
+
+    private TaskDataset(List<Task> tasks, String[] texts) {
+        this.tasks = tasks;
+        this.texts = texts;
+    }
+
+    /**
+     * Generates a dataset of the given size.
+     *
+     * @param taskCount the number of tasks
+     * @return the generated dataset
+     */
+    public static TaskDataset generate(int taskCount) {
+        Random random = new Random(SEED);
+        String[] texts = new String[TEXT_POOL_SIZE];
+        for (int i = 0; i < texts.length; i++) {
+            // Lengths spread up to the 2000-character description limit
+            texts[i] = text(random, 20 + random.nextInt(1980));
+        }
+
+        Status[] statuses = Status.values();
+        Priority[] priorities = Priority.values();
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task(title(random, i), priorities[random.nextInt(priorities.length)],
+                    statuses[random.nextInt(statuses.length)]);
+            task.setId((long) i + 1);
+            task.setDescription(texts[random.nextInt(texts.length)]);
+            task.setNotes(random.nextInt(4) == 0 ? null : texts[random.nextInt(texts.length)]);
+            task.setDueDate(random.nextInt(5) == 0 ? null : today.plusDays(random.nextInt(120) - 60L));
+            task.setCreatedAt(now.minusMinutes(taskCount - (long) i));
+            task.setUpdatedAt(task.getCreatedAt());
+            if (task.getStatus() == Status.COMPLETED) {
+                task.setCompletedAt(task.getUpdatedAt());
+            }
+            tasks.add(task);
+        }
+        return new TaskDataset(Collections.unmodifiableList(tasks), texts);
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Returns the pool of description and notes texts.
+     *
+     * @return a copy of the text pool
+     */
+    public String[] getTexts() {
+        return texts.clone();
+    }
+
+    private static String title(Random random, int index) {
+        return VERBS[random.nextInt(VERBS.length)] + " " + SUBJECTS[random.nextInt(SUBJECTS.length)] + " " + index;
+    }
+
+    private static String text(Random random, int length) {
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            if (text.length() > 0) {
+                text.append(random.nextInt(12) == 0 ? ". " : " ");
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+}
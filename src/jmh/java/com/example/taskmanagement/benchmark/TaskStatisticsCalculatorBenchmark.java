@@ -0,0 +1,71 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.dto.TaskCounters;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.util.TaskStatisticsCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics over a task list compared with statistics over pre-aggregated counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskStatisticsCalculatorBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    private final TaskStatisticsCalculator calculator = new TaskStatisticsCalculator();
+    private List<Task> tasks;
+    private TaskCounters counters;
+
+    @Setup
+    public void setUp() {
+        tasks = TaskDataset.generate(taskCount).getTasks();
+
+        long[][] counts = new long[Status.values().length][Priority.values().length];
+        long overdue = 0;
+        for (Task task : tasks) {
+            counts[task.getStatus().ordinal()][task.getPriority().ordinal()]++;
+            if (task.isOverdue()) {
+                overdue++;
+            }
+        }
+        counters = new TaskCounters(counts, overdue);
+    }
+
+    @Benchmark
+    public Map<String, Object> statsFromTaskList() {
+        return calculator.calculateComprehensiveStats(tasks);
+    }
+
+    @Benchmark
+    public Map<Status, Long> statusCountsFromTaskList() {
+        return calculator.calculateStatusCounts(tasks);
+    }
+
+    @Benchmark
+    public Map<String, Object> statsFromCounters() {
+        return calculator.calculateComprehensiveStats(counters);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.service.TaskTitleIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Title similarity lookups behind the smart suggestions.
+ * The index replaced SmartSuggestionService.calculateSimilarity, so this is the hot path it left behind.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskTitleIndexBenchmark {
+
+    private static final double MIN_SIMILARITY = 0.3;
+    private static final int MAX_SIMILAR_TASKS = 5;
+
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    private TaskTitleIndex titleIndex;
+    private String title;
+
+    @Setup
+    public void setUp() {
+        List<Task> tasks = TaskDataset.generate(taskCount).getTasks();
+        List<Object[]> rows = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            rows.add(new Object[] {task.getId(), task.getTitle()});
+        }
+
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.findAllIdAndTitle()).thenReturn(rows);
+        titleIndex = new TaskTitleIndex(taskRepository);
+        titleIndex.rebuild();
+        title = "Prepare the quarterly report";
+    }
+
+    @Benchmark
+    public List<TaskTitleIndex.TitleMatch> findSimilar() {
+        return titleIndex.findSimilar(title, MIN_SIMILARITY, MAX_SIMILAR_TASKS);
+    }
+
+    @Benchmark
+    public String[] tokenize() {
+        return TaskTitleIndex.tokenize(title);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.validation.NoSqlInjectionValidator;
+import com.example.taskmanagement.validation.NoXssValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Input validation cost per field value, for the values real requests carry.
+ * Each invocation validates the next value of the selected input set.
+ * The legacy methods run the regex rules the single-pass scanners replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private static final String[] ATTACKS = {
+        "'; DROP TABLE tasks; --",
+        "admin' OR '1'='1",
+        "value /* comment */ here",
+        "exec xp_cmdshell 'dir'",
+        "<script>alert('xss')</script>",
+        "<img src=x onerror=alert(1)>",
+        "javascript:alert(document.cookie)",
+        "<iframe src=\"http://evil.example\"></iframe>"
+    };
+
+    /**
+     * titles: short generated titles; texts: descriptions and notes up to 2000 characters;
+     * attacks: values that must be rejected.
+     */
+    @Param({"titles", "texts", "attacks"})
+    private String inputs;
+
+    private static final Pattern[] LEGACY_SQL_INJECTION_PATTERNS = {
+        Pattern.compile(".*[';]\\s*(or|and)\\s+['\"]?\\d+['\"]?\\s*=\\s*['\"]?\\d+.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*[';]\\s*(drop|delete|insert|update|exec|execute|union|select).*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*[';]\\s*--.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*/\\*.*\\*/.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*(xp_|sp_)\\w+.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*;\\s*(select|insert|update|delete|drop|create|alter|exec|execute|union).*", Pattern.CASE_INSENSITIVE)
+    };
+
+    private static final Pattern[] LEGACY_XSS_PATTERNS = {
+        Pattern.compile(".*<script.*?>.*</script>.*", Pattern.CASE_INSENSITIVE | Pattern.DOTALL),
+        Pattern.compile(".*javascript:.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*onerror\\s*=.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*onload\\s*=.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*onclick\\s*=.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*<iframe.*?>.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*<object.*?>.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*<embed.*?>.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*eval\\s*\\(.*", Pattern.CASE_INSENSITIVE),
+        Pattern.compile(".*expression\\s*\\(.*", Pattern.CASE_INSENSITIVE)
+    };
+
+    private final NoSqlInjectionValidator sqlInjectionValidator = new NoSqlInjectionValidator();
+    private final NoXssValidator xssValidator = new NoXssValidator();
+    private String[] values;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        TaskDataset dataset = TaskDataset.generate(1000);
+        switch (inputs) {
+            case "titles":
+                List<String> titles = new ArrayList<>();
+                for (Task task : dataset.getTasks()) {
+                    titles.add(task.getTitle());
+                }
+                values = titles.toArray(new String[0]);
+                break;
+            case "texts":
+                values = dataset.getTexts();
+                break;
+            default:
+                values = ATTACKS.clone();
+                break;
+        }
+    }
+
+    @Benchmark
+    public boolean noSqlInjection() {
+        return sqlInjectionValidator.isValid(nextValue(), null);
+    }
+
+    @Benchmark
+    public boolean noXss() {
+        return xssValidator.isValid(nextValue(), null);
+    }
+
+    @Benchmark
+    public boolean legacyNoSqlInjection() {
+        return matchesNone(LEGACY_SQL_INJECTION_PATTERNS, nextValue());
+    }
+
+    @Benchmark
+    public boolean legacyNoXss() {
+        return matchesNone(LEGACY_XSS_PATTERNS, nextValue());
+    }
+
+    private static boolean matchesNone(Pattern[] patterns, String value) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(value).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String nextValue() {
+        String value = values[next];
+        next = next + 1 == values.length ? 0 : next + 1;
+        return value;
+    }
+}
@@ -1,10 +1,9 @@
 package com.example.taskmanagement.aspect;
 
-import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.constants.TaskConstants;
+import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.entity.TaskAudit;
-import com.example.taskmanagement.repository.TaskAuditRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.taskmanagement.service.AuditWriter;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
@@ -13,10 +12,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 
 /**
  * Aspect for auditing task changes.
  * Automatically creates audit records when tasks are modified.
+ * Records are handed to the {@link AuditWriter}, which persists them in the background
+ * once the service transaction commits.
  */
 @Aspect
 @Component
@@ -25,10 +28,7 @@ public class TaskAuditAspect {
     private static final Logger logger = LoggerFactory.getLogger(TaskAuditAspect.class);
 
     @Autowired
-    private TaskAuditRepository taskAuditRepository;
-
-    @Autowired
-    private ObjectMapper objectMapper;
+    private AuditWriter auditWriter;
 
     /**
      * Audit task creation.
@@ -39,107 +39,46 @@ public class TaskAuditAspect {
     @AfterReturning(pointcut = "execution(* com.example.taskmanagement.service.TaskService.createTask(..))", 
                     returning = "result")
     public void auditTaskCreation(JoinPoint joinPoint, Object result) {
-        if (result instanceof Task) {
-            Task task = (Task) result;
-            try {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Auditing task creation for task ID: {}", task.getId());
-                }
-                
-                TaskAudit audit = new TaskAudit(task.getId(), task.getTitle(), "CREATED");
-                audit.setNewValues(serializeTask(task));
-                audit.setChangedBy("SYSTEM");
-                
-                taskAuditRepository.save(audit);
-            } catch (Exception e) {
-                if (logger.isErrorEnabled()) {
-                    logger.error("Failed to audit task creation for task ID: {}", task.getId(), e);
-                }
-            }
-        }
+        auditTaskChange(result, TaskConstants.AUDIT_ACTION_CREATED);
     }
 
     /**
-     * Audit task updates.
+     * Audit task updates, full or partial.
      *
      * @param joinPoint the join point
-     * @param result the updated task
+     * @param result the updated task, usually wrapped in an Optional
      */
-    @AfterReturning(pointcut = "execution(* com.example.taskmanagement.service.TaskService.updateTask(..))", 
+    @AfterReturning(pointcut = "execution(* com.example.taskmanagement.service.TaskService.updateTask(..))"
+                    + " || execution(* com.example.taskmanagement.service.TaskService.patchTask(..))", 
                     returning = "result")
     public void auditTaskUpdate(JoinPoint joinPoint, Object result) {
-        if (result instanceof Task) {
-            Task task = (Task) result;
-            try {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Auditing task update for task ID: {}", task.getId());
-                }
-                
-                TaskAudit audit = new TaskAudit(task.getId(), task.getTitle(), "UPDATED");
-                audit.setNewValues(serializeTask(task));
-                audit.setChangedBy("SYSTEM");
-                
-                taskAuditRepository.save(audit);
-            } catch (Exception e) {
-                if (logger.isErrorEnabled()) {
-                    logger.error("Failed to audit task update for task ID: {}", task.getId(), e);
-                }
-            }
-        }
+        auditTaskChange(result, TaskConstants.AUDIT_ACTION_UPDATED);
     }
 
     /**
      * Audit task completion.
      *
      * @param joinPoint the join point
-     * @param result the completed task
+     * @param result the completed task, usually wrapped in an Optional
      */
     @AfterReturning(pointcut = "execution(* com.example.taskmanagement.service.TaskService.completeTask(..))", 
                     returning = "result")
     public void auditTaskCompletion(JoinPoint joinPoint, Object result) {
-        if (result instanceof Task) {
-            Task task = (Task) result;
-            try {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Auditing task completion for task ID: {}", task.getId());
-                }
-                
-                TaskAudit audit = new TaskAudit(task.getId(), task.getTitle(), "COMPLETED");
-                audit.setNewValues(serializeTask(task));
-                audit.setChangedBy("SYSTEM");
-                
-                taskAuditRepository.save(audit);
-            } catch (Exception e) {
-                if (logger.isErrorEnabled()) {
-                    logger.error("Failed to audit task completion for task ID: {}", task.getId(), e);
-                }
-            }
-        }
+        auditTaskChange(result, TaskConstants.AUDIT_ACTION_COMPLETED);
     }
 
     /**
      * Audit task deletion.
      *
      * @param joinPoint the join point
+     * @param result whether the task was deleted
      */
-    @AfterReturning(pointcut = "execution(* com.example.taskmanagement.service.TaskService.deleteTask(..))")
-    public void auditTaskDeletion(JoinPoint joinPoint) {
-        try {
-            Object[] args = joinPoint.getArgs();
-            if (args.length > 0 && args[0] instanceof Long) {
-                Long taskId = (Long) args[0];
-                
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Auditing task deletion for task ID: {}", taskId);
-                }
-                
-                TaskAudit audit = new TaskAudit(taskId, "DELETED_TASK", "DELETED");
-                audit.setChangedBy("SYSTEM");
-                
-                taskAuditRepository.save(audit);
-            }
-        } catch (Exception e) {
-            logger.error("Failed to audit task deletion", e);
+    @AfterReturning(pointcut = "execution(* com.example.taskmanagement.service.TaskService.deleteTask(..))", 
+                    returning = "result")
+    public void auditTaskDeletion(JoinPoint joinPoint, Object result) {
+        Object[] args = joinPoint.getArgs();
+        if (Boolean.TRUE.equals(result) && args.length > 0 && args[0] instanceof Long) {
+            auditTaskDeletion(joinPoint, (Long) args[0]);
         }
     }
 
@@ -155,23 +94,41 @@ public class TaskAuditAspect {
                 logger.debug("Auditing task deletion for task ID: {}", taskId);
             }
             
-            TaskAudit audit = new TaskAudit(taskId, "DELETED_TASK", "DELETED");
-            audit.setChangedBy("SYSTEM");
+            TaskAudit audit = new TaskAudit(taskId, "DELETED_TASK", TaskConstants.AUDIT_ACTION_DELETED);
+            audit.setChangedBy(TaskConstants.SYSTEM_USER);
             
-            taskAuditRepository.save(audit);
+            auditWriter.submit(audit, null);
         } catch (Exception e) {
             logger.error("Failed to audit task deletion", e);
         }
     }
 
     /**
-     * Serialize task to JSON for audit storage.
+     * Queue an audit record for a service result carrying the task's new state.
      *
-     * @param task the task to serialize
-     * @return JSON string representation of the task
-     * @throws JsonProcessingException if serialization fails
+     * @param result the service result, a TaskResponse or an Optional of one
+     * @param action the audit action
      */
-    private String serializeTask(Task task) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(task);
+    private void auditTaskChange(Object result, String action) {
+        Object value = result instanceof Optional ? ((Optional<?>) result).orElse(null) : result;
+        if (!(value instanceof TaskResponse)) {
+            return;
+        }
+        TaskResponse task = (TaskResponse) value;
+        try {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Auditing task {} for task ID: {}", action, task.getId());
+            }
+            
+            TaskAudit audit = new TaskAudit(task.getId(), task.getTitle(), action);
+            audit.setChangedBy(TaskConstants.SYSTEM_USER);
+            
+            // Serialization is deferred to the audit writer thread
+            auditWriter.submit(audit, task);
+        } catch (Exception e) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Failed to audit task {} for task ID: {}", action, task.getId(), e);
+            }
+        }
     }
 }
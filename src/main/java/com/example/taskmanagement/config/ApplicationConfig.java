@@ -1,6 +1,8 @@
 package com.example.taskmanagement.config;
 
 import com.example.taskmanagement.constants.TaskConstants;
+import com.example.taskmanagement.enums.AuditOverflowPolicy;
+import com.example.taskmanagement.enums.EventRejectionPolicy;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -8,6 +10,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Centralized application configuration.
  * Consolidates all application-specific settings and properties.
@@ -82,6 +87,30 @@ public class ApplicationConfig {
         
         // Validation settings
         private ValidationSettings validation = new ValidationSettings();
+        
+        // Audit settings
+        private AuditSettings audit = new AuditSettings();
+        
+        // JPA settings
+        private JpaSettings jpa = new JpaSettings();
+        
+        // Full-text search settings
+        private SearchSettings search = new SearchSettings();
+
+        // Connection pool settings
+        private DataSourceSettings datasource = new DataSourceSettings();
+
+        // Per-request statistics settings
+        private RequestStatsSettings requestStats = new RequestStatsSettings();
+
+        // Asynchronous event settings
+        private EventSettings events = new EventSettings();
+
+        // Transactional outbox settings
+        private OutboxSettings outbox = new OutboxSettings();
+
+        // Change stream settings
+        private StreamSettings stream = new StreamSettings();
 
         // Getters and setters
         public String getName() { return name; }
@@ -107,15 +136,60 @@ public class ApplicationConfig {
         public ValidationSettings getValidation() { return validation; }
         @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
         public void setValidation(ValidationSettings validation) { this.validation = validation; }
+        
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public AuditSettings getAudit() { return audit; }
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public void setAudit(AuditSettings audit) { this.audit = audit; }
+        
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public JpaSettings getJpa() { return jpa; }
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public void setJpa(JpaSettings jpa) { this.jpa = jpa; }
+        
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public SearchSettings getSearch() { return search; }
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public void setSearch(SearchSettings search) { this.search = search; }
+        
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public DataSourceSettings getDatasource() { return datasource; }
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public void setDatasource(DataSourceSettings datasource) { this.datasource = datasource; }
+        
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public RequestStatsSettings getRequestStats() { return requestStats; }
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public void setRequestStats(RequestStatsSettings requestStats) { this.requestStats = requestStats; }
+        
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public EventSettings getEvents() { return events; }
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public void setEvents(EventSettings events) { this.events = events; }
+        
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public OutboxSettings getOutbox() { return outbox; }
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public void setOutbox(OutboxSettings outbox) { this.outbox = outbox; }
+        
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public StreamSettings getStream() { return stream; }
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+        public void setStream(StreamSettings stream) { this.stream = stream; }
 
         /**
          * Cache configuration settings.
+         * The top-level values are defaults for every cache; entries under
+         * {@code specs} override them for the named cache.
          */
         public static class CacheSettings {
             private int maxSize = 1000;
             private int expireAfterWriteMinutes = 10;
             private int expireAfterAccessMinutes = 5;
+            private int refreshAfterWriteSeconds = 60;
+            private int loaderThreads = 4;
             private boolean recordStats = true;
+            private Map<String, Spec> specs = new LinkedHashMap<>();
 
             // Getters and setters
             public int getMaxSize() { return maxSize; }
@@ -131,8 +205,49 @@ public class ApplicationConfig {
                 this.expireAfterAccessMinutes = expireAfterAccessMinutes; 
             }
             
+            public int getRefreshAfterWriteSeconds() { return refreshAfterWriteSeconds; }
+            public void setRefreshAfterWriteSeconds(int refreshAfterWriteSeconds) { 
+                this.refreshAfterWriteSeconds = refreshAfterWriteSeconds; 
+            }
+            
+            public int getLoaderThreads() { return loaderThreads; }
+            public void setLoaderThreads(int loaderThreads) { this.loaderThreads = loaderThreads; }
+            
             public boolean isRecordStats() { return recordStats; }
             public void setRecordStats(boolean recordStats) { this.recordStats = recordStats; }
+            
+            @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+            public Map<String, Spec> getSpecs() { return specs; }
+            @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring ConfigurationProperties pattern - framework uses these for property injection")
+            public void setSpecs(Map<String, Spec> specs) { this.specs = specs; }
+
+            /**
+             * Overrides for one named cache. Unset values fall back to the defaults;
+             * a positive maxWeightBytes bounds the cache by payload size instead of entry count.
+             */
+            public static class Spec {
+                private Long maxSize;
+                private Long maxWeightBytes;
+                private Integer expireAfterWriteMinutes;
+                private Integer expireAfterAccessMinutes;
+
+                // Getters and setters
+                public Long getMaxSize() { return maxSize; }
+                public void setMaxSize(Long maxSize) { this.maxSize = maxSize; }
+                
+                public Long getMaxWeightBytes() { return maxWeightBytes; }
+                public void setMaxWeightBytes(Long maxWeightBytes) { this.maxWeightBytes = maxWeightBytes; }
+                
+                public Integer getExpireAfterWriteMinutes() { return expireAfterWriteMinutes; }
+                public void setExpireAfterWriteMinutes(Integer expireAfterWriteMinutes) { 
+                    this.expireAfterWriteMinutes = expireAfterWriteMinutes; 
+                }
+                
+                public Integer getExpireAfterAccessMinutes() { return expireAfterAccessMinutes; }
+                public void setExpireAfterAccessMinutes(Integer expireAfterAccessMinutes) { 
+                    this.expireAfterAccessMinutes = expireAfterAccessMinutes; 
+                }
+            }
         }
 
         /**
@@ -180,5 +295,214 @@ public class ApplicationConfig {
             public int getMaxNotesLength() { return maxNotesLength; }
             public void setMaxNotesLength(int maxNotesLength) { this.maxNotesLength = maxNotesLength; }
         }
+
+        /**
+         * Audit writer settings.
+         */
+        public static class AuditSettings {
+            private int queueCapacity = 10000;
+            private int batchSize = 100;
+            private long flushIntervalMs = 200;
+            private AuditOverflowPolicy overflowPolicy = AuditOverflowPolicy.BLOCK;
+            private long blockTimeoutMs = 100;
+
+            // Getters and setters
+            public int getQueueCapacity() { return queueCapacity; }
+            public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+            
+            public int getBatchSize() { return batchSize; }
+            public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+            
+            public long getFlushIntervalMs() { return flushIntervalMs; }
+            public void setFlushIntervalMs(long flushIntervalMs) { this.flushIntervalMs = flushIntervalMs; }
+            
+            public AuditOverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+            public void setOverflowPolicy(AuditOverflowPolicy overflowPolicy) { 
+                this.overflowPolicy = overflowPolicy; 
+            }
+            
+            public long getBlockTimeoutMs() { return blockTimeoutMs; }
+            public void setBlockTimeoutMs(long blockTimeoutMs) { this.blockTimeoutMs = blockTimeoutMs; }
+        }
+
+        /**
+         * JDBC batching and diagnostics settings passed to Hibernate.
+         * A slow query threshold of zero turns the slow query log off.
+         */
+        public static class JpaSettings {
+            private int batchSize = 50;
+            private boolean orderInserts = true;
+            private boolean orderUpdates = true;
+            private boolean statisticsEnabled = false;
+            private long slowQueryThresholdMs = 500;
+
+            // Getters and setters
+            public int getBatchSize() { return batchSize; }
+            public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+            
+            public boolean isOrderInserts() { return orderInserts; }
+            public void setOrderInserts(boolean orderInserts) { this.orderInserts = orderInserts; }
+            
+            public boolean isOrderUpdates() { return orderUpdates; }
+            public void setOrderUpdates(boolean orderUpdates) { this.orderUpdates = orderUpdates; }
+            
+            public boolean isStatisticsEnabled() { return statisticsEnabled; }
+            public void setStatisticsEnabled(boolean statisticsEnabled) { this.statisticsEnabled = statisticsEnabled; }
+            
+            public long getSlowQueryThresholdMs() { return slowQueryThresholdMs; }
+            public void setSlowQueryThresholdMs(long slowQueryThresholdMs) { this.slowQueryThresholdMs = slowQueryThresholdMs; }
+        }
+
+        /**
+         * Full-text search index settings.
+         * An empty index path keeps the index in memory; an on-disk index
+         * commits pending changes every commit interval.
+         */
+        public static class SearchSettings {
+            private boolean enabled = true;
+            private String indexPath = "";
+            private int rebuildBatchSize = 1000;
+            private double ramBufferMb = 32;
+            private long commitIntervalMs = 1000;
+
+            // Getters and setters
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            
+            public String getIndexPath() { return indexPath; }
+            public void setIndexPath(String indexPath) { this.indexPath = indexPath; }
+            
+            public int getRebuildBatchSize() { return rebuildBatchSize; }
+            public void setRebuildBatchSize(int rebuildBatchSize) { this.rebuildBatchSize = rebuildBatchSize; }
+            
+            public double getRamBufferMb() { return ramBufferMb; }
+            public void setRamBufferMb(double ramBufferMb) { this.ramBufferMb = ramBufferMb; }
+            
+            public long getCommitIntervalMs() { return commitIntervalMs; }
+            public void setCommitIntervalMs(long commitIntervalMs) { this.commitIntervalMs = commitIntervalMs; }
+        }
+
+        /**
+         * Connection pool health settings. The pool itself is configured
+         * with the standard spring.datasource.hikari settings.
+         */
+        public static class DataSourceSettings {
+            private long acquireLatencyThresholdMs = 100;
+            private long healthWindowSeconds = 60;
+
+            // Getters and setters
+            public long getAcquireLatencyThresholdMs() { return acquireLatencyThresholdMs; }
+            public void setAcquireLatencyThresholdMs(long acquireLatencyThresholdMs) { 
+                this.acquireLatencyThresholdMs = acquireLatencyThresholdMs; 
+            }
+            
+            public long getHealthWindowSeconds() { return healthWindowSeconds; }
+            public void setHealthWindowSeconds(long healthWindowSeconds) { this.healthWindowSeconds = healthWindowSeconds; }
+        }
+
+        /**
+         * Per-request statement, row and allocation counting.
+         * Response headers are meant for non-production profiles.
+         */
+        public static class RequestStatsSettings {
+            private boolean enabled = true;
+            private boolean trackAllocation = true;
+            private boolean responseHeaders = false;
+
+            // Getters and setters
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            
+            public boolean isTrackAllocation() { return trackAllocation; }
+            public void setTrackAllocation(boolean trackAllocation) { this.trackAllocation = trackAllocation; }
+            
+            public boolean isResponseHeaders() { return responseHeaders; }
+            public void setResponseHeaders(boolean responseHeaders) { this.responseHeaders = responseHeaders; }
+        }
+
+        /**
+         * Executor settings for asynchronous task event listeners.
+         */
+        public static class EventSettings {
+            private int corePoolSize = 2;
+            private int maxPoolSize = 4;
+            private int queueCapacity = 1000;
+            private EventRejectionPolicy rejectionPolicy = EventRejectionPolicy.CALLER_RUNS;
+            private int shutdownTimeoutSeconds = 10;
+
+            // Getters and setters
+            public int getCorePoolSize() { return corePoolSize; }
+            public void setCorePoolSize(int corePoolSize) { this.corePoolSize = corePoolSize; }
+            
+            public int getMaxPoolSize() { return maxPoolSize; }
+            public void setMaxPoolSize(int maxPoolSize) { this.maxPoolSize = maxPoolSize; }
+            
+            public int getQueueCapacity() { return queueCapacity; }
+            public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+            
+            public EventRejectionPolicy getRejectionPolicy() { return rejectionPolicy; }
+            public void setRejectionPolicy(EventRejectionPolicy rejectionPolicy) { 
+                this.rejectionPolicy = rejectionPolicy; 
+            }
+            
+            public int getShutdownTimeoutSeconds() { return shutdownTimeoutSeconds; }
+            public void setShutdownTimeoutSeconds(int shutdownTimeoutSeconds) { 
+                this.shutdownTimeoutSeconds = shutdownTimeoutSeconds; 
+            }
+        }
+
+        /**
+         * Transactional outbox and relay settings.
+         * Delivered entries are kept for the retention period so subscribers can catch up.
+         */
+        public static class OutboxSettings {
+            private boolean enabled = true;
+            private int batchSize = 500;
+            private long pollIntervalMs = 1000;
+            private int retentionHours = 24;
+
+            // Getters and setters
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            
+            public int getBatchSize() { return batchSize; }
+            public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+            
+            public long getPollIntervalMs() { return pollIntervalMs; }
+            public void setPollIntervalMs(long pollIntervalMs) { this.pollIntervalMs = pollIntervalMs; }
+            
+            public int getRetentionHours() { return retentionHours; }
+            public void setRetentionHours(int retentionHours) { this.retentionHours = retentionHours; }
+        }
+
+        /**
+         * Server-sent change stream settings.
+         * A client whose buffer fills is told to resync instead of holding back the others.
+         */
+        public static class StreamSettings {
+            private int maxClients = 1000;
+            private int clientBufferSize = 256;
+            private long heartbeatIntervalMs = 15000;
+            private long timeoutMs = 1800000;
+            private int senderThreads = 2;
+
+            // Getters and setters
+            public int getMaxClients() { return maxClients; }
+            public void setMaxClients(int maxClients) { this.maxClients = maxClients; }
+            
+            public int getClientBufferSize() { return clientBufferSize; }
+            public void setClientBufferSize(int clientBufferSize) { this.clientBufferSize = clientBufferSize; }
+            
+            public long getHeartbeatIntervalMs() { return heartbeatIntervalMs; }
+            public void setHeartbeatIntervalMs(long heartbeatIntervalMs) { 
+                this.heartbeatIntervalMs = heartbeatIntervalMs; 
+            }
+            
+            public long getTimeoutMs() { return timeoutMs; }
+            public void setTimeoutMs(long timeoutMs) { this.timeoutMs = timeoutMs; }
+            
+            public int getSenderThreads() { return senderThreads; }
+            public void setSenderThreads(int senderThreads) { this.senderThreads = senderThreads; }
+        }
     }
 }
@@ -0,0 +1,137 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.enums.EventRejectionPolicy;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuration for asynchronous task event listeners.
+ *
+ * <p>Listeners annotated with {@code @Async(AsyncEventConfig.EVENT_EXECUTOR)} and
+ * {@code @TransactionalEventListener} run on a dedicated bounded pool once the
+ * publishing transaction has committed, so they add neither request latency nor
+ * lock hold time. When the pool and its queue are full the configured
+ * {@link EventRejectionPolicy} applies and the call is counted in
+ * {@code task.events.rejected}. The pool reports as {@code executor.*} metrics
+ * tagged {@code name=taskEventExecutor}, and {@code @Timed} listener methods
+ * are timed per class and method.</p>
+ *
+ * @author Task Management Team
+ * @version 1.0
+ * @since 2.0
+ */
+@Configuration
+@EnableAsync
+public class AsyncEventConfig {
+
+    public static final String EVENT_EXECUTOR = "taskEventExecutor";
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEventConfig.class);
+
+    /**
+     * Creates the executor for asynchronous event listeners.
+     *
+     * @param applicationProperties the application properties
+     * @param meterRegistry the registry rejections are counted in
+     * @return the event executor
+     */
+    @Bean(name = EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor taskEventExecutor(ApplicationConfig.ApplicationProperties applicationProperties,
+                                                    MeterRegistry meterRegistry) {
+        ApplicationConfig.ApplicationProperties.EventSettings settings = applicationProperties.getEvents();
+        Counter rejected = Counter.builder("task.events.rejected")
+            .description("Event listener calls that did not fit in the event executor")
+            .tag("policy", settings.getRejectionPolicy().name())
+            .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("task-event-");
+        executor.setCorePoolSize(Math.max(1, settings.getCorePoolSize()));
+        executor.setMaxPoolSize(Math.max(settings.getCorePoolSize(), settings.getMaxPoolSize()));
+        executor.setQueueCapacity(Math.max(0, settings.getQueueCapacity()));
+        executor.setRejectedExecutionHandler(rejectionHandler(settings.getRejectionPolicy(), rejected));
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(settings.getShutdownTimeoutSeconds());
+        return executor;
+    }
+
+    /**
+     * Recreates Spring Boot's general-purpose executor, which backs off as soon
+     * as any other executor bean exists. Spring MVC runs async requests such as
+     * streamed exports on it, and plain {@code @Async} methods default to it.
+     *
+     * @param builder Spring Boot's executor builder, bound to {@code spring.task.execution.*}
+     * @return the application executor
+     */
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Enables {@code @Timed} on listener methods.
+     *
+     * @param meterRegistry the meter registry
+     * @return the timed aspect
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    static RejectedExecutionHandler rejectionHandler(EventRejectionPolicy policy, Counter rejected) {
+        return (Runnable task, ThreadPoolExecutor executor) -> {
+            rejected.increment();
+            if (policy == EventRejectionPolicy.CALLER_RUNS && !executor.isShutdown()) {
+                task.run();
+            } else if (logger.isWarnEnabled()) {
+                logger.warn("Event executor saturated; dropped a listener call");
+            }
+        };
+    }
+
+    /**
+     * Carries the publishing thread's MDC, including the correlation ID, to the listener.
+     */
+    static final class MdcTaskDecorator implements TaskDecorator {
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                if (context != null) {
+                    MDC.setContextMap(context);
+                } else {
+                    MDC.clear();
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    if (previous != null) {
+                        MDC.setContextMap(previous);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            };
+        }
+    }
+}
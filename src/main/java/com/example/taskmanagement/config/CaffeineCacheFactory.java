@@ -0,0 +1,179 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskSummary;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds Caffeine caches from the {@code app.cache.*} settings and registers
+ * them with Micrometer, so every cache in the application is tuned and
+ * monitored the same way.
+ *
+ * <p>Hit, miss, eviction, load and size metrics appear under
+ * {@code /actuator/metrics/cache.*}, tagged with the cache name.</p>
+ */
+@Component
+public class CaffeineCacheFactory {
+
+    /** Tags match those Spring Boot uses when it binds the primary cache manager itself. */
+    private static final String CACHE_MANAGER_TAG = "cacheManager";
+    private static final String CACHE_MANAGER_NAME = "cacheManager";
+
+    private final ApplicationConfig.ApplicationProperties.CacheSettings settings;
+    private final MeterRegistry meterRegistry;
+    private final Weigher<Object, Object> payloadWeigher;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    public CaffeineCacheFactory(ApplicationConfig.ApplicationProperties applicationProperties,
+                                MeterRegistry meterRegistry) {
+        this.settings = applicationProperties.getCache();
+        this.meterRegistry = meterRegistry;
+        this.payloadWeigher = new PayloadWeigher();
+    }
+
+    /**
+     * Returns a builder configured with the spec for the named cache.
+     * Callers may add loader-specific options before building.
+     *
+     * @param cacheName the cache name, used to look up its spec
+     * @return a configured builder
+     */
+    public Caffeine<Object, Object> newBuilder(String cacheName) {
+        ApplicationConfig.ApplicationProperties.CacheSettings.Spec spec = settings.getSpecs().get(cacheName);
+        if (spec == null) {
+            spec = new ApplicationConfig.ApplicationProperties.CacheSettings.Spec();
+        }
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (spec.getMaxWeightBytes() != null && spec.getMaxWeightBytes() > 0) {
+            builder.maximumWeight(spec.getMaxWeightBytes()).weigher(payloadWeigher);
+        } else {
+            builder.maximumSize(spec.getMaxSize() != null ? spec.getMaxSize() : settings.getMaxSize());
+        }
+
+        int expireAfterWrite = spec.getExpireAfterWriteMinutes() != null
+            ? spec.getExpireAfterWriteMinutes() : settings.getExpireAfterWriteMinutes();
+        if (expireAfterWrite > 0) {
+            builder.expireAfterWrite(expireAfterWrite, TimeUnit.MINUTES);
+        }
+        int expireAfterAccess = spec.getExpireAfterAccessMinutes() != null
+            ? spec.getExpireAfterAccessMinutes() : settings.getExpireAfterAccessMinutes();
+        if (expireAfterAccess > 0) {
+            builder.expireAfterAccess(expireAfterAccess, TimeUnit.MINUTES);
+        }
+
+        if (settings.isRecordStats()) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    /**
+     * Builds the named cache and registers its metrics.
+     *
+     * @param cacheName the cache name
+     * @return the monitored cache
+     */
+    public Cache<Object, Object> build(String cacheName) {
+        Cache<Object, Object> cache = newBuilder(cacheName).build();
+        monitor(cacheName, cache);
+        return cache;
+    }
+
+    /**
+     * Registers the cache's metrics under the given name.
+     *
+     * @param cacheName the cache name
+     * @param cache the cache to monitor
+     */
+    public void monitor(String cacheName, Cache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName, CACHE_MANAGER_TAG, CACHE_MANAGER_NAME);
+    }
+
+    /**
+     * Weighs a cached value by an estimate of its JSON size, which tracks its
+     * footprint closely enough to bound a cache by bytes. The estimate only
+     * reads string lengths and collection sizes, because Caffeine weighs
+     * every value as it is stored.
+     */
+    static final class PayloadWeigher implements Weigher<Object, Object> {
+
+        /** JSON for a task's fixed-size fields: names, IDs, enums, dates and flags. */
+        static final int TASK_RESPONSE_BASE = 260;
+        static final int TASK_SUMMARY_BASE = 90;
+        /** Page metadata Spring Data serializes next to the content. */
+        static final int PAGE_BASE = 300;
+        static final int SCALAR = 8;
+        static final int TEMPORAL = 28;
+        /** Fallback for types without an estimate. */
+        static final int OTHER = 256;
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return (int) Math.max(1, Math.min(Integer.MAX_VALUE, estimate(value)));
+        }
+
+        static long estimate(Object value) {
+            if (value == null || value instanceof NullValue) {
+                return 1;
+            }
+            if (value instanceof TaskResponse) {
+                TaskResponse task = (TaskResponse) value;
+                return TASK_RESPONSE_BASE + length(task.getTitle()) + length(task.getDescription())
+                    + length(task.getNotes());
+            }
+            if (value instanceof TaskSummary) {
+                return TASK_SUMMARY_BASE + length(((TaskSummary) value).getTitle());
+            }
+            if (value instanceof CharSequence) {
+                return ((CharSequence) value).length() + 2L;
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return SCALAR;
+            }
+            if (value instanceof Enum) {
+                return ((Enum<?>) value).name().length() + 2L;
+            }
+            if (value instanceof TemporalAccessor) {
+                return TEMPORAL;
+            }
+            if (value instanceof Page) {
+                return PAGE_BASE + estimate(((Page<?>) value).getContent());
+            }
+            if (value instanceof Collection) {
+                long size = 1;
+                for (Object element : (Collection<?>) value) {
+                    size += estimate(element) + 1;
+                }
+                return size;
+            }
+            if (value instanceof Map) {
+                long size = 1;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    size += estimate(entry.getKey()) + estimate(entry.getValue()) + 2;
+                }
+                return size;
+            }
+            return OTHER;
+        }
+
+        private static int length(String text) {
+            return text != null ? text.length() : 0;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Reports connection pool pressure as the {@code dataSourcePool} health component.
+ *
+ * <p>Each check looks at the connections acquired over a recent window that
+ * does not depend on how often or by whom the component is checked: the
+ * baseline moves forward once every {@code app.datasource.health-window-seconds},
+ * so a check covers the last one to two windows. A check that follows the
+ * previous one by two windows or more starts a new, empty window, since
+ * neither baseline is recent enough to keep. The component is
+ * {@code DEGRADED} when the mean acquire time in that span exceeds
+ * {@code app.datasource.acquire-latency-threshold-ms} or when any caller timed
+ * out waiting for a connection, and {@code UP} otherwise. Pool counts are
+ * included as details.</p>
+ */
+@Component
+public class DataSourcePoolHealthIndicator extends AbstractHealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Connection acquisition is slow");
+
+    static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+    static final String TIMEOUT_COUNTER = "hikaricp.connections.timeout";
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    // Guarded by this
+    private Sample windowStart;
+    private Sample nextWindowStart;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    public DataSourcePoolHealthIndicator(HikariDataSource dataSource,
+                                         MeterRegistry meterRegistry,
+                                         ApplicationConfig.ApplicationProperties applicationProperties) {
+        this(dataSource, meterRegistry, applicationProperties, System::nanoTime);
+    }
+
+    DataSourcePoolHealthIndicator(HikariDataSource dataSource,
+                                  MeterRegistry meterRegistry,
+                                  ApplicationConfig.ApplicationProperties applicationProperties,
+                                  LongSupplier nanoClock) {
+        super("Connection pool health check failed");
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(
+            applicationProperties.getDatasource().getAcquireLatencyThresholdMs());
+        this.windowNanos = TimeUnit.SECONDS.toNanos(applicationProperties.getDatasource().getHealthWindowSeconds());
+        this.nanoClock = nanoClock;
+        this.windowStart = new Sample(nanoClock.getAsLong(), 0, 0, 0);
+        this.nextWindowStart = windowStart;
+    }
+
+    @Override
+    protected synchronized void doHealthCheck(Health.Builder builder) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            // The pool starts on the first connection request
+            builder.unknown().withDetail("pool", dataSource.getPoolName());
+            return;
+        }
+
+        Timer acquire = meterRegistry.find(ACQUIRE_TIMER).tag("pool", dataSource.getPoolName()).timer();
+        Counter timeouts = meterRegistry.find(TIMEOUT_COUNTER).tag("pool", dataSource.getPoolName()).counter();
+
+        Sample now = new Sample(nanoClock.getAsLong(),
+            acquire != null ? acquire.count() : 0,
+            acquire != null ? acquire.totalTime(TimeUnit.NANOSECONDS) : 0,
+            timeouts != null ? timeouts.count() : 0);
+        long sinceNextWindowStart = now.nanos - nextWindowStart.nanos;
+        if (sinceNextWindowStart >= 2 * windowNanos) {
+            windowStart = now;
+            nextWindowStart = now;
+        } else if (sinceNextWindowStart >= windowNanos) {
+            windowStart = nextWindowStart;
+            nextWindowStart = now;
+        }
+
+        long acquiredInWindow = now.acquired - windowStart.acquired;
+        double meanAcquireNanos = acquiredInWindow > 0
+            ? (now.acquireNanos - windowStart.acquireNanos) / acquiredInWindow : 0;
+        long timeoutsInWindow = (long) (now.timeouts - windowStart.timeouts);
+
+        builder.status(meanAcquireNanos > thresholdNanos || timeoutsInWindow > 0 ? DEGRADED : Status.UP)
+            .withDetail("pool", dataSource.getPoolName())
+            .withDetail("active", pool.getActiveConnections())
+            .withDetail("idle", pool.getIdleConnections())
+            .withDetail("total", pool.getTotalConnections())
+            .withDetail("maximum", dataSource.getMaximumPoolSize())
+            .withDetail("pending", pool.getThreadsAwaitingConnection())
+            .withDetail("windowSeconds", TimeUnit.NANOSECONDS.toSeconds(now.nanos - windowStart.nanos))
+            .withDetail("acquiredInWindow", acquiredInWindow)
+            .withDetail("meanAcquireMs", TimeUnit.NANOSECONDS.toMillis((long) meanAcquireNanos))
+            .withDetail("timeoutsInWindow", timeoutsInWindow)
+            .withDetail("thresholdMs", TimeUnit.NANOSECONDS.toMillis(thresholdNanos));
+    }
+
+    /**
+     * Pool counter readings taken at one moment.
+     */
+    private static final class Sample {
+        private final long nanos;
+        private final long acquired;
+        private final double acquireNanos;
+        private final double timeouts;
+
+        Sample(long nanos, long acquired, double acquireNanos, double timeouts) {
+            this.nanos = nanos;
+            this.acquired = acquired;
+            this.acquireNanos = acquireNanos;
+            this.timeouts = timeouts;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.taskmanagement.config;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for Hibernate statistics.
+ * {@code GET /actuator/hibernatestats} reports totals, per-query timings and
+ * per-entity load counts, and {@code DELETE /actuator/hibernatestats} resets them.
+ *
+ * <p>Statistics are only gathered while {@code app.jpa.statistics-enabled} is set.
+ * Queries are listed by total execution time, slowest first. Actuator
+ * requests are neither authenticated nor rate limited, so the endpoint is not
+ * exposed over HTTP by default; expose it only on a management port operators control.</p>
+ */
+@Component
+@Endpoint(id = "hibernatestats")
+public class HibernateStatisticsEndpoint {
+
+    private final Statistics statistics;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Reports the statistics gathered since startup or the last reset.
+     */
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("enabled", statistics.isStatisticsEnabled());
+        report.put("since", Instant.ofEpochMilli(statistics.getStartTime()).toString());
+        report.put("totals", totals());
+        report.put("queries", queries());
+        report.put("entities", entities());
+        return report;
+    }
+
+    /**
+     * Resets every counter and reports the cleared statistics.
+     */
+    @DeleteOperation
+    public Map<String, Object> reset() {
+        statistics.clear();
+        return statistics();
+    }
+
+    private Map<String, Object> totals() {
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("transactions", statistics.getTransactionCount());
+        totals.put("sessionsOpened", statistics.getSessionOpenCount());
+        totals.put("statementsPrepared", statistics.getPrepareStatementCount());
+        totals.put("queryExecutions", statistics.getQueryExecutionCount());
+        totals.put("queryMaxTimeMs", statistics.getQueryExecutionMaxTime());
+        totals.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        totals.put("entityLoads", statistics.getEntityLoadCount());
+        totals.put("entityFetches", statistics.getEntityFetchCount());
+        totals.put("entityInserts", statistics.getEntityInsertCount());
+        totals.put("entityUpdates", statistics.getEntityUpdateCount());
+        totals.put("entityDeletes", statistics.getEntityDeleteCount());
+        totals.put("collectionLoads", statistics.getCollectionLoadCount());
+        totals.put("collectionFetches", statistics.getCollectionFetchCount());
+        totals.put("flushes", statistics.getFlushCount());
+        return totals;
+    }
+
+    private List<Map<String, Object>> queries() {
+        List<QueryStats> queries = new ArrayList<>();
+        for (String query : statistics.getQueries()) {
+            queries.add(new QueryStats(query, statistics.getQueryStatistics(query)));
+        }
+        queries.sort(Comparator.comparingLong(QueryStats::totalTimeMs).reversed());
+
+        List<Map<String, Object>> report = new ArrayList<>(queries.size());
+        for (QueryStats query : queries) {
+            report.add(query.toMap());
+        }
+        return report;
+    }
+
+    private Map<String, Object> entities() {
+        Map<String, Object> entities = new LinkedHashMap<>();
+        for (String entityName : statistics.getEntityNames()) {
+            EntityStatistics entity = statistics.getEntityStatistics(entityName);
+            Map<String, Object> counts = new LinkedHashMap<>();
+            counts.put("loads", entity.getLoadCount());
+            counts.put("fetches", entity.getFetchCount());
+            counts.put("inserts", entity.getInsertCount());
+            counts.put("updates", entity.getUpdateCount());
+            counts.put("deletes", entity.getDeleteCount());
+            counts.put("optimisticFailures", entity.getOptimisticFailureCount());
+            entities.put(entityName, counts);
+        }
+        return entities;
+    }
+
+    /**
+     * One query's counters, read once so sorting and reporting see the same values.
+     */
+    private static final class QueryStats {
+        private final String query;
+        private final long executions;
+        private final long rows;
+        private final long meanTimeMs;
+        private final long maxTimeMs;
+
+        QueryStats(String query, QueryStatistics stats) {
+            this.query = query;
+            this.executions = stats.getExecutionCount();
+            this.rows = stats.getExecutionRowCount();
+            this.meanTimeMs = stats.getExecutionAvgTime();
+            this.maxTimeMs = stats.getExecutionMaxTime();
+        }
+
+        long totalTimeMs() {
+            return executions * meanTimeMs;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("query", query);
+            map.put("executions", executions);
+            map.put("rows", rows);
+            map.put("meanTimeMs", meanTimeMs);
+            map.put("maxTimeMs", maxTimeMs);
+            map.put("totalTimeMs", totalTimeMs());
+            return map;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * HikariCP pool whose connections report to the current {@link RequestStatistics}.
+ *
+ * <p>Connections taken outside a request scope are returned untouched, so
+ * background work pays nothing. Inside a scope the connection, its statements
+ * and their result sets are wrapped in thin proxies that count executions and
+ * rows into the scope that was open when the connection was taken.</p>
+ */
+public class InstrumentedDataSource extends HikariDataSource {
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrument(super.getConnection(username, password));
+    }
+
+    private static Connection instrument(Connection connection) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics == null) {
+            return connection;
+        }
+        return proxy(Connection.class, new ConnectionHandler(connection, statistics));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+            new Class<?>[] {type}, handler));
+    }
+
+    /**
+     * Base handler that forwards calls to the JDBC object it wraps.
+     */
+    private abstract static class ForwardingHandler implements InvocationHandler {
+        private final Object target;
+
+        ForwardingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // Proxies are used as keys by Hibernate's resource registry
+            if ("equals".equals(method.getName()) && args != null && args.length == 1) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(method.getName()) && args == null) {
+                return System.identityHashCode(proxy);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return afterInvoke(method, result);
+        }
+
+        abstract Object afterInvoke(Method method, Object result);
+    }
+
+    private static final class ConnectionHandler extends ForwardingHandler {
+        private final RequestStatistics statistics;
+
+        ConnectionHandler(Connection connection, RequestStatistics statistics) {
+            super(connection);
+            this.statistics = statistics;
+        }
+
+        @Override
+        Object afterInvoke(Method method, Object result) {
+            if (result instanceof Statement) {
+                // Statement, PreparedStatement or CallableStatement, as the method declares
+                return proxy(method.getReturnType(), new StatementHandler(result, statistics));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler extends ForwardingHandler {
+        private final RequestStatistics statistics;
+
+        StatementHandler(Object statement, RequestStatistics statistics) {
+            super(statement);
+            this.statistics = statistics;
+        }
+
+        @Override
+        Object afterInvoke(Method method, Object result) {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                statistics.statementExecuted();
+            }
+            if (result instanceof ResultSet && !"getGeneratedKeys".equals(name)) {
+                return proxy(ResultSet.class, new ResultSetHandler(result, statistics));
+            }
+            return result;
+        }
+    }
+
+    private static final class ResultSetHandler extends ForwardingHandler {
+        private final RequestStatistics statistics;
+
+        ResultSetHandler(Object resultSet, RequestStatistics statistics) {
+            super(resultSet);
+            this.statistics = statistics;
+        }
+
+        @Override
+        Object afterInvoke(Method method, Object result) {
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                statistics.rowRead();
+            }
+            return result;
+        }
+    }
+}
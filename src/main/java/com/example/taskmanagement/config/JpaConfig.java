@@ -1,5 +1,8 @@
 package com.example.taskmanagement.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
@@ -10,7 +13,8 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  * 
  * <p>This configuration class enables JPA repositories, transaction
  * management, and JPA auditing for the application. It also configures 
- * the base package for repository scanning.</p>
+ * the base package for repository scanning and applies the JDBC batching
+ * and diagnostics settings from {@code app.jpa.*} to Hibernate.</p>
  * 
  * @author Task Management Team
  * @version 1.0.0
@@ -21,8 +25,43 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableTransactionManagement
 @EnableJpaAuditing
 public class JpaConfig {
-    
-    // JPA configuration is handled by Spring Boot auto-configuration
-    // This class serves as a placeholder for any custom JPA configuration
-    // that might be needed in the future
+
+    /**
+     * Applies the JDBC batching settings to Hibernate.
+     * Batching only takes effect for entities whose IDs are not generated by
+     * IDENTITY columns, which is why the entities use pooled sequences.
+     *
+     * @param applicationProperties the application properties
+     * @return the Hibernate properties customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(ApplicationConfig.ApplicationProperties applicationProperties) {
+        ApplicationConfig.ApplicationProperties.JpaSettings settings = applicationProperties.getJpa();
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(settings.getBatchSize()));
+            hibernateProperties.put(AvailableSettings.ORDER_INSERTS, String.valueOf(settings.isOrderInserts()));
+            hibernateProperties.put(AvailableSettings.ORDER_UPDATES, String.valueOf(settings.isOrderUpdates()));
+            hibernateProperties.put(AvailableSettings.BATCH_VERSIONED_DATA, "true");
+        };
+    }
+
+    /**
+     * Applies the diagnostics settings to Hibernate.
+     * Statistics are read through {@code /actuator/hibernatestats}; statements
+     * slower than the threshold are logged to {@code org.hibernate.SQL_SLOW} on
+     * the request thread, so the log line carries the request's correlation ID.
+     *
+     * @param applicationProperties the application properties
+     * @return the Hibernate properties customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer diagnosticsCustomizer(ApplicationConfig.ApplicationProperties applicationProperties) {
+        ApplicationConfig.ApplicationProperties.JpaSettings settings = applicationProperties.getJpa();
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, String.valueOf(settings.isStatisticsEnabled()));
+            // Statistics would otherwise log a metrics block at INFO for every session
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, "false");
+            hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, String.valueOf(settings.getSlowQueryThresholdMs()));
+        };
+    }
 }
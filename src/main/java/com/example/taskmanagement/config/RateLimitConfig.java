@@ -1,19 +1,33 @@
 package com.example.taskmanagement.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration for API rate limiting using Bucket4j.
  * Implements token bucket algorithm for request throttling.
  * 
+ * <p>Buckets are kept in a bounded Caffeine cache: a bucket idle for longer than
+ * the configured expiry is dropped, and the least valuable buckets are evicted once
+ * the maximum count is reached, so memory stays flat however many client keys appear.
+ * The store reports its size and evictions as {@code cache.*} metrics tagged
+ * {@code cache=rateLimitBuckets}.</p>
+ * 
  * @author Task Management Team
  * @version 1.0
  * @since 2.0
@@ -21,16 +35,34 @@ import java.util.concurrent.ConcurrentHashMap;
 @Configuration
 public class RateLimitConfig {
 
-    @Value("${app.ratelimit.capacity:100}")
-    private long capacity;
-
-    @Value("${app.ratelimit.refill-tokens:100}")
-    private long refillTokens;
-
-    @Value("${app.ratelimit.refill-duration-minutes:1}")
-    private long refillDuration;
-
-    private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
+    static final String BUCKET_CACHE_NAME = "rateLimitBuckets";
+
+    private final long capacity;
+    private final long refillTokens;
+    private final long refillDuration;
+    private final Set<String> trustedProxies;
+
+    private final Cache<String, Bucket> buckets;
+
+    @Autowired
+    public RateLimitConfig(@Value("${app.ratelimit.capacity:100}") long capacity,
+                           @Value("${app.ratelimit.refill-tokens:100}") long refillTokens,
+                           @Value("${app.ratelimit.refill-duration-minutes:1}") long refillDuration,
+                           @Value("${app.ratelimit.max-buckets:100000}") long maxBuckets,
+                           @Value("${app.ratelimit.bucket-idle-minutes:10}") long bucketIdleMinutes,
+                           @Value("${app.ratelimit.trusted-proxies:127.0.0.1,0:0:0:0:0:0:0:1}") List<String> trustedProxies,
+                           MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.refillTokens = refillTokens;
+        this.refillDuration = refillDuration;
+        this.trustedProxies = Collections.unmodifiableSet(new HashSet<>(trustedProxies));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxBuckets))
+                .expireAfterAccess(Math.max(1, bucketIdleMinutes), TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, BUCKET_CACHE_NAME);
+    }
 
     /**
      * Resolves or creates a bucket for a given key (e.g., IP address).
@@ -39,7 +71,28 @@ public class RateLimitConfig {
      * @return the bucket for rate limiting
      */
     public Bucket resolveBucket(String key) {
-        return cache.computeIfAbsent(key, k -> createNewBucket());
+        return buckets.get(key, k -> createNewBucket());
+    }
+
+    /**
+     * Checks whether requests from the given address may set the client address
+     * through the X-Forwarded-For header.
+     *
+     * @param address the remote address of the connection
+     * @return true if the address is a configured trusted proxy
+     */
+    public boolean isTrustedProxy(String address) {
+        return address != null && trustedProxies.contains(address);
+    }
+
+    /**
+     * Gets the number of buckets currently held, after pending evictions are applied.
+     *
+     * @return the bucket count
+     */
+    public long getBucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
     }
 
     /**
@@ -82,7 +135,3 @@ public class RateLimitConfig {
         return refillDuration;
     }
 }
-
-
-
-
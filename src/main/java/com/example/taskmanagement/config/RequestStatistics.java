@@ -0,0 +1,102 @@
+package com.example.taskmanagement.config;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Database work and heap allocation attributed to the request running on the
+ * current thread.
+ *
+ * <p>{@link RequestStatisticsFilter} opens a scope around each request. While a
+ * scope is open, connections handed out by {@link InstrumentedDataSource} count
+ * every statement execution (a JDBC batch counts once) and every row read from
+ * a result set. Allocation is read from the JVM's per-thread allocation counter
+ * and is reported as {@code -1} where the JVM does not provide one.</p>
+ */
+public final class RequestStatistics {
+
+    public static final String STATEMENTS_HEADER = "X-Query-Count";
+    public static final String ROWS_HEADER = "X-Query-Rows";
+    public static final String ALLOCATED_BYTES_HEADER = "X-Allocated-Bytes";
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+    private static final com.sun.management.ThreadMXBean ALLOCATION_COUNTER = allocationCounter();
+
+    private final long threadId;
+    private final long allocatedAtStart;
+    private long statements;
+    private long rows;
+
+    private RequestStatistics(boolean trackAllocation) {
+        this.threadId = Thread.currentThread().getId();
+        this.allocatedAtStart = trackAllocation && ALLOCATION_COUNTER != null
+            ? ALLOCATION_COUNTER.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    /**
+     * Opens a scope on the current thread. Callers must {@link #close()} it.
+     *
+     * @param trackAllocation whether to measure the bytes the thread allocates
+     * @return the new scope
+     */
+    public static RequestStatistics start(boolean trackAllocation) {
+        RequestStatistics statistics = new RequestStatistics(trackAllocation);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Returns the scope open on the current thread.
+     *
+     * @return the current scope, or null outside a request
+     */
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Closes the scope; later JDBC work on this thread is no longer counted.
+     */
+    public void close() {
+        CURRENT.remove();
+    }
+
+    void statementExecuted() {
+        statements++;
+    }
+
+    void rowRead() {
+        rows++;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the bytes allocated by the request thread since the scope opened.
+     *
+     * @return allocated bytes, or -1 when allocation is not tracked
+     */
+    public long getAllocatedBytes() {
+        if (allocatedAtStart < 0) {
+            return -1;
+        }
+        return ALLOCATION_COUNTER.getThreadAllocatedBytes(threadId) - allocatedAtStart;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+            if (counter.isThreadAllocatedMemorySupported() && counter.isThreadAllocatedMemoryEnabled()) {
+                return counter;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.taskmanagement.config;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.*;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * Filter that measures the database work and allocation of each request.
+ *
+ * <p>Opens a {@link RequestStatistics} scope around the rest of the chain and
+ * records the totals as distributions tagged with the method and matched URI
+ * pattern: {@code request.jdbc.statements}, {@code request.jdbc.rows} and
+ * {@code request.allocated}. {@link RequestStatisticsHeaderAdvice} copies the
+ * counts into response headers when {@code app.request-stats.response-headers}
+ * is set.</p>
+ *
+ * @author Task Management Team
+ * @version 1.0
+ * @since 2.0
+ */
+@Component
+@Order(2) // Inside CorrelationIdFilter, around everything else
+public class RequestStatisticsFilter implements Filter {
+
+    static final String STATEMENTS_METRIC = "request.jdbc.statements";
+    static final String ROWS_METRIC = "request.jdbc.rows";
+    static final String ALLOCATED_METRIC = "request.allocated";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean trackAllocation;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    public RequestStatisticsFilter(ApplicationConfig.ApplicationProperties applicationProperties,
+                                   MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = applicationProperties.getRequestStats().isEnabled();
+        this.trackAllocation = applicationProperties.getRequestStats().isTrackAllocation();
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RequestStatistics statistics = RequestStatistics.start(trackAllocation);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statistics.close();
+            record((HttpServletRequest) request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : UNKNOWN_URI);
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+            .description("SQL statements executed per request")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(statistics.getStatements());
+        DistributionSummary.builder(ROWS_METRIC)
+            .description("Result set rows read per request")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(statistics.getRows());
+
+        long allocatedBytes = statistics.getAllocatedBytes();
+        if (allocatedBytes >= 0) {
+            DistributionSummary.builder(ALLOCATED_METRIC)
+                .description("Heap allocated by the request thread")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(allocatedBytes);
+        }
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        // No initialization needed
+    }
+
+    @Override
+    public void destroy() {
+        // No cleanup needed
+    }
+}
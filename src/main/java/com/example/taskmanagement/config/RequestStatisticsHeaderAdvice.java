@@ -0,0 +1,52 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the request's statement count, row count and allocated bytes as response
+ * headers when {@code app.request-stats.response-headers} is set.
+ *
+ * <p>The headers are written just before the body is serialized, after the
+ * handler has finished, so they cover all of the handler's database work.
+ * Allocation during serialization itself is not included.</p>
+ */
+@ControllerAdvice
+public class RequestStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean responseHeaders;
+
+    @Autowired
+    public RequestStatisticsHeaderAdvice(ApplicationConfig.ApplicationProperties applicationProperties) {
+        this.responseHeaders = applicationProperties.getRequestStats().isResponseHeaders();
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return responseHeaders;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(RequestStatistics.STATEMENTS_HEADER, String.valueOf(statistics.getStatements()));
+            headers.set(RequestStatistics.ROWS_HEADER, String.valueOf(statistics.getRows()));
+            long allocatedBytes = statistics.getAllocatedBytes();
+            if (allocatedBytes >= 0) {
+                headers.set(RequestStatistics.ALLOCATED_BYTES_HEADER, String.valueOf(allocatedBytes));
+            }
+        }
+        return body;
+    }
+}
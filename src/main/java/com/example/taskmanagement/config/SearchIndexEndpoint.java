@@ -0,0 +1,56 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.service.TaskSearchIndex;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the full-text search index.
+ * {@code GET /actuator/searchindex} reports its state and
+ * {@code POST /actuator/searchindex} rebuilds it from the database.
+ *
+ * <p>A rebuild reads every task, and actuator requests are neither
+ * authenticated nor rate limited, so the endpoint is not exposed over HTTP
+ * by default. Expose it only on a management port operators control.</p>
+ */
+@Component
+@Endpoint(id = "searchindex")
+public class SearchIndexEndpoint {
+
+    private final TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    public SearchIndexEndpoint(TaskSearchIndex taskSearchIndex) {
+        this.taskSearchIndex = taskSearchIndex;
+    }
+
+    /**
+     * Reports whether the index is enabled, where it is kept and how many tasks it holds.
+     */
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", taskSearchIndex.isEnabled());
+        status.put("location", taskSearchIndex.location());
+        status.put("documents", taskSearchIndex.documentCount());
+        status.put("stale", taskSearchIndex.isStale());
+        return status;
+    }
+
+    /**
+     * Rebuilds the index and reports its new state.
+     */
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        taskSearchIndex.rebuild();
+        return status();
+    }
+}
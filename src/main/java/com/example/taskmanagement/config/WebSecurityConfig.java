@@ -35,9 +35,9 @@ public class WebSecurityConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOriginPatterns("http://localhost:*", "https://localhost:*")
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
-                .exposedHeaders("X-Rate-Limit-Remaining", "X-Rate-Limit-Retry-After-Seconds", "X-Correlation-ID")
+                .exposedHeaders("X-Rate-Limit-Remaining", "X-Rate-Limit-Retry-After-Seconds", "X-Correlation-ID", "ETag")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
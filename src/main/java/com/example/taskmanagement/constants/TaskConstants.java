@@ -18,6 +18,7 @@ public final class TaskConstants {
     public static final String CACHE_TASK_STATS = "taskStats";
     public static final String CACHE_TASK_ANALYTICS = "taskAnalytics";
     public static final String CACHE_SUGGESTIONS = "suggestions";
+    public static final String CACHE_TASK_SEARCH = "taskSearch";
     
     // Date Formats
     public static final String DATE_FORMAT = "yyyy-MM-dd";
@@ -29,6 +30,13 @@ public final class TaskConstants {
     public static final int MAX_DESCRIPTION_LENGTH = 2000;
     public static final int MAX_NOTES_LENGTH = 1000;
     
+    // Export Limits
+    public static final String EXPORT_FETCH_SIZE = "500";
+    public static final int EXPORT_CHUNK_SIZE = 500;
+    
+    // Persistence
+    public static final String ID_ALLOCATION_SIZE = "50";
+    
     // System Values
     public static final String SYSTEM_USER = "SYSTEM";
     public static final String AUDIT_ACTION_CREATED = "CREATED";
@@ -8,8 +8,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * Base controller providing common functionality for all REST controllers.
@@ -39,6 +44,38 @@ public abstract class BaseController {
         return ResponseEntity.ok(ApiResponse.success(data, message));
     }
     
+    /**
+     * Handles successful response that clients must revalidate before reusing
+     */
+    protected <T> ResponseEntity<ApiResponse<T>> handleRevalidatedSuccess(T data) {
+        if (data == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(ApiResponse.success(data));
+    }
+    
+    /**
+     * Checks a conditional GET against the current validators. Returns true when
+     * the client's copy is current: the response is then already a 304 and the
+     * handler returns null without building a body. Otherwise the ETag and
+     * Last-Modified headers are set for the response the handler goes on to build.
+     * If-None-Match takes precedence, so the second-granular Last-Modified only
+     * decides for clients that send no ETag.
+     */
+    protected boolean isNotModified(WebRequest request, String etag, LocalDateTime lastModified) {
+        long lastModifiedMillis = lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        return request.checkNotModified(etag, lastModifiedMillis);
+    }
+    
+    /**
+     * Checks a conditional GET against an ETag alone
+     */
+    protected boolean isNotModified(WebRequest request, String etag) {
+        return request.checkNotModified(etag);
+    }
+    
     /**
      * Handles successful response with created data wrapped in ApiResponse
      */
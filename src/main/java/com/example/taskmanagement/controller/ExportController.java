@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -39,52 +40,28 @@ public class ExportController extends BaseController {
 
     /**
      * Export tasks to CSV format.
+     * Rows are streamed to the response as they are read from the database.
      *
      * @param filters optional filters to apply
      * @return CSV file download
      */
     @GetMapping(value = "/tasks/csv", produces = "text/csv")
-    public ResponseEntity<byte[]> exportTasksToCsv(@RequestParam(required = false) String filters) {
-        try {
-            byte[] csvData = exportService.exportTasksToCsv(filters);
-            
-            String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
-            String filename = "tasks_export_" + timestamp + ".csv";
-            
-            return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                .header(HttpHeaders.CONTENT_TYPE, "text/csv; charset=utf-8")
-                .body(csvData);
-                    
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                .build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportTasksToCsv(@RequestParam(required = false) String filters) {
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
+        return csvDownload("tasks_export_" + timestamp + ".csv", filters);
     }
 
     /**
      * Export tasks to JSON format.
+     * Tasks are streamed to the response as they are read from the database.
      *
      * @param filters optional filters to apply
      * @return JSON file download
      */
     @GetMapping(value = "/tasks/json", produces = "application/json")
-    public ResponseEntity<byte[]> exportTasksToJson(@RequestParam(required = false) String filters) {
-        try {
-            byte[] jsonData = exportService.exportTasksToJson(filters);
-            
-            String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
-            String filename = "tasks_export_" + timestamp + ".json";
-            
-            return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                .header(HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8")
-                .body(jsonData);
-                    
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                .build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportTasksToJson(@RequestParam(required = false) String filters) {
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
+        return jsonDownload("tasks_export_" + timestamp + ".json", filters);
     }
 
     /**
@@ -132,32 +109,20 @@ public class ExportController extends BaseController {
      * @return file download
      */
     @GetMapping("/tasks")
-    public ResponseEntity<byte[]> exportTasks(@RequestParam(defaultValue = "json") String format) {
-        try {
-            String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
-            String filename = "tasks_export_" + timestamp;
-            
-            if ("csv".equalsIgnoreCase(format)) {
-                byte[] csvData = exportService.exportTasksToCsv(null);
-                return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + ".csv\"")
-                    .header(HttpHeaders.CONTENT_TYPE, "text/csv; charset=utf-8")
-                    .body(csvData);
-            } else if ("json".equalsIgnoreCase(format)) {
-                byte[] jsonData = exportService.exportTasksToJson(null);
-                return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + ".json\"")
-                    .header(HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8")
-                    .body(jsonData);
-            } else {
-                String errorMessage = "Unsupported format: " + format + ". Supported formats: csv, json";
-                return ResponseEntity.badRequest()
-                    .header(HttpHeaders.CONTENT_TYPE, "text/plain; charset=utf-8")
-                    .body(errorMessage.getBytes(StandardCharsets.UTF_8));
-            }
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                .build();
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "json") String format) {
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
+        String filename = "tasks_export_" + timestamp;
+        
+        if ("csv".equalsIgnoreCase(format)) {
+            return csvDownload(filename + ".csv", null);
+        } else if ("json".equalsIgnoreCase(format)) {
+            return jsonDownload(filename + ".json", null);
+        } else {
+            byte[] errorMessage = ("Unsupported format: " + format + ". Supported formats: csv, json")
+                .getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.badRequest()
+                .header(HttpHeaders.CONTENT_TYPE, "text/plain; charset=utf-8")
+                .body(outputStream -> outputStream.write(errorMessage));
         }
     }
 
@@ -184,4 +149,18 @@ public class ExportController extends BaseController {
                 .build();
         }
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<StreamingResponseBody> csvDownload(String filename, String filters) {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .header(HttpHeaders.CONTENT_TYPE, "text/csv; charset=utf-8")
+            .body(outputStream -> exportService.writeTasksAsCsv(filters, outputStream));
+    }
+
+    private ResponseEntity<StreamingResponseBody> jsonDownload(String filename, String filters) {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .header(HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8")
+            .body(outputStream -> exportService.writeTasksAsJson(filters, outputStream));
+    }
+}
@@ -1,10 +1,18 @@
 package com.example.taskmanagement.controller;
 
+import com.example.taskmanagement.constants.TaskConstants;
 import com.example.taskmanagement.dto.ApiResponse;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskPatchRequest;
 import com.example.taskmanagement.dto.TaskRequest;
 import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.dto.TaskSearchRequest;
+import com.example.taskmanagement.enums.TaskView;
 import com.example.taskmanagement.exception.TaskNotFoundException;
+import com.example.taskmanagement.exception.TaskVersionConflictException;
+import com.example.taskmanagement.exception.ValidationException;
+import com.example.taskmanagement.service.TaskChangeStream;
+import com.example.taskmanagement.service.TaskDataVersion;
 import com.example.taskmanagement.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,12 +25,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * REST Controller for task management operations.
@@ -49,10 +65,18 @@ import java.util.Objects;
 @CrossOrigin(origins = "*")
 public class TaskController extends BaseController {
 
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final String STREAM_RETRY_AFTER_SECONDS = "5";
+
     private final TaskService taskService;
+    private final TaskChangeStream taskChangeStream;
+    private final TaskDataVersion taskDataVersion;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskChangeStream taskChangeStream,
+                          TaskDataVersion taskDataVersion) {
         this.taskService = Objects.requireNonNull(taskService, "TaskService cannot be null");
+        this.taskChangeStream = Objects.requireNonNull(taskChangeStream, "TaskChangeStream cannot be null");
+        this.taskDataVersion = Objects.requireNonNull(taskDataVersion, "TaskDataVersion cannot be null");
     }
 
     /**
@@ -147,67 +171,139 @@ public class TaskController extends BaseController {
 
     /**
      * Retrieves a task by ID.
+     * The ETag and Last-Modified validators come from the task's last update, so a
+     * client revalidating an unchanged task gets a 304 without a body.
      *
      * @param id the task ID
-     * @return the task response if found wrapped in ApiResponse, 404 otherwise
+     * @param webRequest the request, checked for If-None-Match and If-Modified-Since
+     * @return the task response if found wrapped in ApiResponse, 304 if unchanged, 404 otherwise
      */
-    @Operation(summary = "Get task by ID", description = "Retrieves a specific task by its unique identifier.")
+    @Operation(summary = "Get task by ID", description = "Retrieves a specific task by its unique identifier. " +
+            "Send the returned ETag as If-None-Match to get 304 Not Modified while the task is unchanged.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Task found successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Task unchanged"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Task not found")
     })
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<TaskResponse>> getTaskById(
             @Parameter(description = "Task ID", required = true, example = "1") 
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
         logDebug("Retrieving task by ID: {}", id);
         
-        return taskService.getTaskById(id)
-                .map(this::handleSuccess)
+        TaskResponse task = taskService.getTaskById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+        if (isNotModified(webRequest, taskEtag(task), task.getUpdatedAt())) {
+            return null;
+        }
+        return handleRevalidatedSuccess(task);
     }
 
     /**
      * Retrieves all tasks with pagination and sorting.
      *
+     * @param fields the fields to return, or null for full responses
      * @param pageable pagination and sorting information
-     * @return a page of task responses wrapped in ApiResponse
+     * @return a page of task responses or summaries wrapped in ApiResponse
      */
     @Operation(summary = "Get all tasks", description = "Retrieves all tasks with pagination and sorting. Default sort is by creation date descending.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<TaskResponse>>> getAllTasks(
+    public ResponseEntity<ApiResponse<Page<?>>> getAllTasks(
+            @Parameter(description = "Set to 'summary' (or a subset of id,title,status,priority,dueDate) " +
+                    "for slim results without description and notes", example = "summary")
+            @RequestParam(required = false) String fields,
             @Parameter(description = "Pagination parameters (page, size, sort)")
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
         logDebug("Retrieving all tasks: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
         
-        Page<TaskResponse> tasks = taskService.getAllTasks(pageable.getPageNumber(), pageable.getPageSize());
-        return handleSuccess(tasks);
+        if (isNotModified(webRequest, listEtag())) {
+            return null;
+        }
+        
+        Page<?> tasks = TaskView.fromFields(fields) == TaskView.SUMMARY
+                ? taskService.getAllTaskSummaries(pageable.getPageNumber(), pageable.getPageSize())
+                : taskService.getAllTasks(pageable.getPageNumber(), pageable.getPageSize());
+        return handleRevalidatedSuccess(tasks);
     }
 
     /**
      * Updates an existing task.
+     * With If-Match, the update only applies while the task is still at the
+     * version the client read.
      *
      * @param id the task ID
+     * @param ifMatch the ETag of the version the update is based on, or null
      * @param taskRequest the task update request
      * @return the updated task response if found wrapped in ApiResponse, 404 otherwise
      */
-    @Operation(summary = "Update task", description = "Updates an existing task with new information.")
+    @Operation(summary = "Update task", description = "Updates an existing task with new information. " +
+            "Send the task's ETag as If-Match to reject the update if the task changed since it was read.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Task updated successfully"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Task not found"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Task changed concurrently"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "Task no longer matches If-Match")
     })
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTask(
             @Parameter(description = "Task ID", required = true, example = "1") @PathVariable Long id, 
+            @Parameter(description = "ETag of the task version being replaced, or *")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskRequest taskRequest) {
         logDebug("Updating task: ID={}", id);
         
-        return taskService.updateTask(id, taskRequest)
-                .map(this::handleSuccess)
+        Optional<TaskResponse> updated = ifMatch == null
+                ? taskService.updateTask(id, taskRequest)
+                : taskService.updateTask(id, taskRequest, parseIfMatch(id, ifMatch));
+        return updated
+                .map(this::handleVersionedSuccess)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+    }
+
+    /**
+     * Partially updates a task, changing only the fields present in the request.
+     * An explicit null clears an optional field; title, priority and status cannot be cleared.
+     * With If-Match, the update only applies while the task is still at the
+     * version the client read, and is then usually written without reading the task first.
+     *
+     * @param id the task ID
+     * @param ifMatch the ETag of the version the patch is based on, or null
+     * @param patchRequest the fields to change
+     * @return the updated task response if found wrapped in ApiResponse, 404 otherwise
+     */
+    @Operation(summary = "Patch task", description = "Changes only the fields present in the request; " +
+            "null clears the description, due date or notes. " +
+            "Send the task's ETag as If-Match to reject the patch if the task changed since it was read.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Task updated successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Task not found"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input or no fields to change"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Task changed concurrently"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "Task no longer matches If-Match")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<ApiResponse<TaskResponse>> patchTask(
+            @Parameter(description = "Task ID", required = true, example = "1") @PathVariable Long id,
+            @Parameter(description = "ETag of the task version being patched, or *")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TaskPatchRequest patchRequest) {
+        logDebug("Patching task: ID={}, patch={}", id, patchRequest);
+
+        if (patchRequest.clearsRequiredField()) {
+            throw new ValidationException("Title, priority and status cannot be cleared");
+        }
+        if (!patchRequest.hasChanges()) {
+            throw new ValidationException("Patch must set at least one field");
+        }
+        Long expectedVersion = ifMatch == null ? null : parseIfMatch(id, ifMatch);
+        return taskService.patchTask(id, patchRequest, expectedVersion)
+                .map(this::handleVersionedSuccess)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
     }
 
@@ -259,6 +355,7 @@ public class TaskController extends BaseController {
      * Searches for tasks based on various criteria.
      *
      * @param searchRequest the search criteria
+     * @param fields the fields to return, or null for full responses
      * @return a page of task responses matching the criteria wrapped in ApiResponse
      */
     @Operation(summary = "Search tasks", description = "Search tasks using multiple criteria including keyword, status, priority, and date ranges.")
@@ -266,12 +363,15 @@ public class TaskController extends BaseController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search completed successfully")
     })
     @PostMapping("/search")
-    public ResponseEntity<ApiResponse<Page<TaskResponse>>> searchTasks(
+    public ResponseEntity<ApiResponse<Page<?>>> searchTasks(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Search criteria") 
-            @Valid @RequestBody TaskSearchRequest searchRequest) {
+            @Valid @RequestBody TaskSearchRequest searchRequest,
+            @Parameter(description = "Set to 'summary' (or a subset of id,title,status,priority,dueDate) " +
+                    "for slim results without description and notes", example = "summary")
+            @RequestParam(required = false) String fields) {
         logDebug("Searching tasks with criteria: {}", searchRequest);
         
-        Page<TaskResponse> tasks = taskService.searchTasks(searchRequest);
+        Page<?> tasks = search(searchRequest, fields);
         return handleSuccess(tasks);
     }
 
@@ -279,6 +379,7 @@ public class TaskController extends BaseController {
      * Quick search by title or description.
      *
      * @param q the search query
+     * @param fields the fields to return, or null for full responses
      * @param pageable pagination information
      * @return a page of task responses matching the query wrapped in ApiResponse
      */
@@ -287,21 +388,30 @@ public class TaskController extends BaseController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search completed successfully")
     })
     @GetMapping("/search/quick")
-    public ResponseEntity<ApiResponse<Page<TaskResponse>>> quickSearch(
+    public ResponseEntity<ApiResponse<Page<?>>> quickSearch(
             @Parameter(description = "Search keyword", required = true, example = "documentation") @RequestParam String q,
+            @Parameter(description = "Set to 'summary' (or a subset of id,title,status,priority,dueDate) " +
+                    "for slim results without description and notes", example = "summary")
+            @RequestParam(required = false) String fields,
             @Parameter(description = "Pagination parameters") 
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
         logDebug("Quick search for: {}", q);
         
+        if (isNotModified(webRequest, listEtag())) {
+            return null;
+        }
+        
         TaskSearchRequest searchRequest = buildSearchRequest(q, pageable);
-        Page<TaskResponse> tasks = taskService.searchTasks(searchRequest);
-        return handleSuccess(tasks);
+        Page<?> tasks = search(searchRequest, fields);
+        return handleRevalidatedSuccess(tasks);
     }
 
     /**
      * Gets tasks by status.
      *
      * @param status the task status
+     * @param fields the fields to return, or null for full responses
      * @param pageable pagination information
      * @return a page of task responses with the specified status wrapped in ApiResponse
      */
@@ -310,22 +420,31 @@ public class TaskController extends BaseController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
     })
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse<Page<TaskResponse>>> getTasksByStatus(
+    public ResponseEntity<ApiResponse<Page<?>>> getTasksByStatus(
             @Parameter(description = "Task status", required = true, example = "TODO") @PathVariable String status,
+            @Parameter(description = "Set to 'summary' (or a subset of id,title,status,priority,dueDate) " +
+                    "for slim results without description and notes", example = "summary")
+            @RequestParam(required = false) String fields,
             @Parameter(description = "Pagination parameters") 
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
         logDebug("Getting tasks by status: {}", status);
         
+        if (isNotModified(webRequest, listEtag())) {
+            return null;
+        }
+        
         TaskSearchRequest searchRequest = buildSearchRequest(null, pageable);
         searchRequest.setStatus(com.example.taskmanagement.enums.Status.valueOf(status.toUpperCase(Locale.ENGLISH)));
         
-        Page<TaskResponse> tasks = taskService.searchTasks(searchRequest);
-        return handleSuccess(tasks);
+        Page<?> tasks = search(searchRequest, fields);
+        return handleRevalidatedSuccess(tasks);
     }
 
     /**
      * Gets overdue tasks.
      *
+     * @param fields the fields to return, or null for full responses
      * @param pageable pagination information
      * @return a page of overdue task responses wrapped in ApiResponse
      */
@@ -334,16 +453,262 @@ public class TaskController extends BaseController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Overdue tasks retrieved successfully")
     })
     @GetMapping("/overdue")
-    public ResponseEntity<ApiResponse<Page<TaskResponse>>> getOverdueTasks(
+    public ResponseEntity<ApiResponse<Page<?>>> getOverdueTasks(
+            @Parameter(description = "Set to 'summary' (or a subset of id,title,status,priority,dueDate) " +
+                    "for slim results without description and notes", example = "summary")
+            @RequestParam(required = false) String fields,
             @Parameter(description = "Pagination parameters") 
-            @PageableDefault(size = 10, sort = "dueDate", direction = Sort.Direction.ASC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "dueDate", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest webRequest) {
         logDebug("Getting overdue tasks");
         
+        if (isNotModified(webRequest, listEtag())) {
+            return null;
+        }
+        
         // For simplicity, we'll use search with a specific criteria for overdue tasks
         // In a real implementation, you might want a dedicated service method
         TaskSearchRequest searchRequest = buildSearchRequest(null, pageable);
         
-        Page<TaskResponse> tasks = taskService.searchTasks(searchRequest);
-        return handleSuccess(tasks);
+        Page<?> tasks = search(searchRequest, fields);
+        return handleRevalidatedSuccess(tasks);
+    }
+
+    /**
+     * Scrolls through all tasks, newest first, using an opaque cursor instead of page numbers.
+     *
+     * @param cursor the cursor from the previous slice, omitted for the first slice
+     * @param size the slice size
+     * @return a slice of task responses with the next cursor wrapped in ApiResponse
+     */
+    @Operation(summary = "Scroll all tasks",
+            description = "Retrieves tasks newest first using keyset pagination. Pass the returned nextCursor " +
+                    "to fetch the following slice. No total count is computed, so every slice costs the same.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> scrollTasks(
+            @Parameter(description = "Cursor from the previous slice") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size", example = "10")
+            @RequestParam(defaultValue = "" + TaskConstants.DEFAULT_PAGE_SIZE) int size) {
+        logDebug("Scrolling all tasks: size={}", size);
+
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setSize(size);
+        return handleSuccess(taskService.scrollTasks(searchRequest, cursor));
+    }
+
+    /**
+     * Scrolls through tasks matching the search criteria, newest first.
+     *
+     * @param searchRequest the search criteria; page and sort settings are ignored
+     * @param cursor the cursor from the previous slice, omitted for the first slice
+     * @return a slice of task responses with the next cursor wrapped in ApiResponse
+     */
+    @Operation(summary = "Scroll search results",
+            description = "Searches tasks like POST /search but returns keyset-paginated slices, newest first.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search completed successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @PostMapping("/search/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> scrollSearchTasks(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Search criteria")
+            @Valid @RequestBody TaskSearchRequest searchRequest,
+            @Parameter(description = "Cursor from the previous slice") @RequestParam(required = false) String cursor) {
+        logDebug("Scrolling search results with criteria: {}", searchRequest);
+
+        return handleSuccess(taskService.scrollTasks(searchRequest, cursor));
+    }
+
+    /**
+     * Scrolls through quick search results, newest first.
+     *
+     * @param q the search query
+     * @param cursor the cursor from the previous slice, omitted for the first slice
+     * @param size the slice size
+     * @return a slice of task responses with the next cursor wrapped in ApiResponse
+     */
+    @Operation(summary = "Scroll quick search results",
+            description = "Quick keyword search returning keyset-paginated slices, newest first.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search completed successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/search/quick/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> scrollQuickSearch(
+            @Parameter(description = "Search keyword", required = true, example = "documentation") @RequestParam String q,
+            @Parameter(description = "Cursor from the previous slice") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size", example = "10")
+            @RequestParam(defaultValue = "" + TaskConstants.DEFAULT_PAGE_SIZE) int size) {
+        logDebug("Scrolling quick search for: {}", q);
+
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setSearchTerm(q);
+        searchRequest.setSize(size);
+        return handleSuccess(taskService.scrollTasks(searchRequest, cursor));
+    }
+
+    /**
+     * Scrolls through tasks with the given status, newest first.
+     *
+     * @param status the task status
+     * @param cursor the cursor from the previous slice, omitted for the first slice
+     * @param size the slice size
+     * @return a slice of task responses with the next cursor wrapped in ApiResponse
+     */
+    @Operation(summary = "Scroll tasks by status",
+            description = "Retrieves tasks with a specific status using keyset pagination, newest first.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/status/{status}/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> scrollTasksByStatus(
+            @Parameter(description = "Task status", required = true, example = "TODO") @PathVariable String status,
+            @Parameter(description = "Cursor from the previous slice") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size", example = "10")
+            @RequestParam(defaultValue = "" + TaskConstants.DEFAULT_PAGE_SIZE) int size) {
+        logDebug("Scrolling tasks by status: {}", status);
+
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setStatus(com.example.taskmanagement.enums.Status.valueOf(status.toUpperCase(Locale.ENGLISH)));
+        searchRequest.setSize(size);
+        return handleSuccess(taskService.scrollTasks(searchRequest, cursor));
+    }
+
+    /**
+     * Scrolls through overdue tasks, earliest due date first.
+     *
+     * @param cursor the cursor from the previous slice, omitted for the first slice
+     * @param size the slice size
+     * @return a slice of overdue task responses with the next cursor wrapped in ApiResponse
+     */
+    @Operation(summary = "Scroll overdue tasks",
+            description = "Retrieves open tasks past their due date using keyset pagination, earliest due date first.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Overdue tasks retrieved successfully"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/overdue/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> scrollOverdueTasks(
+            @Parameter(description = "Cursor from the previous slice") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size", example = "10")
+            @RequestParam(defaultValue = "" + TaskConstants.DEFAULT_PAGE_SIZE) int size) {
+        logDebug("Scrolling overdue tasks: size={}", size);
+
+        return handleSuccess(taskService.scrollOverdueTasks(cursor, size));
+    }
+
+    /**
+     * Streams task change notifications as server-sent events.
+     * A reconnecting client sends the last event ID it received and is first
+     * sent the changes it missed.
+     *
+     * @param lastEventIdHeader the {@code Last-Event-ID} header sent by reconnecting clients
+     * @param lastEventId the same position as a query parameter, for clients that cannot set headers
+     * @return the event stream, or 503 when the stream is at its client limit
+     */
+    @Operation(summary = "Stream task changes",
+            description = "Pushes a task-change event (task id, action, status and feed position) after each committed task change, " +
+                    "so clients can stop polling. The event ID is the change's feed position; reconnect with Last-Event-ID " +
+                    "to resume. A resync event means the client fell behind and should reload its tasks.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Too many stream clients")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTaskChanges(
+            @Parameter(hidden = true) @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventIdHeader,
+            @Parameter(description = "Position to resume after, if the Last-Event-ID header cannot be sent")
+            @RequestParam(required = false) String lastEventId) {
+        Long resumeAfter = parsePosition(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+        logDebug("Opening task change stream: lastEventId={}", resumeAfter);
+
+        return taskChangeStream.subscribe(resumeAfter)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, STREAM_RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    /**
+     * Builds the strong ETag of a single task from its ID and version,
+     * falling back to its last update for tasks without one.
+     */
+    private static String taskEtag(TaskResponse task) {
+        if (task.getVersion() != null) {
+            return "\"task-" + task.getId() + "-v" + task.getVersion() + "\"";
+        }
+        if (task.getUpdatedAt() == null) {
+            return "\"task-" + task.getId() + "\"";
+        }
+        Instant updatedAt = task.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        return "\"task-" + task.getId() + "-" + Long.toHexString(updatedAt.getEpochSecond())
+                + "." + Integer.toHexString(updatedAt.getNano()) + "\"";
+    }
+
+    /**
+     * Returns the updated task with its new ETag, so the client can chain
+     * further conditional updates without reading it again.
+     */
+    private ResponseEntity<ApiResponse<TaskResponse>> handleVersionedSuccess(TaskResponse task) {
+        return ResponseEntity.ok().eTag(taskEtag(task)).body(ApiResponse.success(task));
+    }
+
+    /**
+     * Reads the version an If-Match header names: null for {@code *}, otherwise
+     * the version in a strong task ETag for this task. Any other tag, including
+     * weak ones, can never match and fails the precondition.
+     */
+    private static Long parseIfMatch(Long id, String ifMatch) {
+        String tag = ifMatch.trim();
+        if ("*".equals(tag)) {
+            return null;
+        }
+        String prefix = "\"task-" + id + "-v";
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            try {
+                return Long.valueOf(tag.substring(prefix.length(), tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Falls through to the conflict below
+            }
+        }
+        throw new TaskVersionConflictException("If-Match " + tag + " does not match task " + id);
+    }
+
+    /**
+     * Builds the strong ETag of list results from the task data version, which
+     * every committed task change advances. The version is captured before the
+     * query, so results are never tagged newer than they are.
+     */
+    private String listEtag() {
+        return "\"tasks-" + taskDataVersion.tag() + "\"";
+    }
+
+    /**
+     * Parses a stream position, treating a missing or malformed one as a fresh start.
+     */
+    private static Long parsePosition(String position) {
+        if (position == null || position.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(position.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Runs the search, reading summaries through the projection when the
+     * requested fields allow it.
+     */
+    private Page<?> search(TaskSearchRequest searchRequest, String fields) {
+        return TaskView.fromFields(fields) == TaskView.SUMMARY
+                ? taskService.searchTaskSummaries(searchRequest)
+                : taskService.searchTasks(searchRequest);
     }
 }
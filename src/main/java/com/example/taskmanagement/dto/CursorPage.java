@@ -0,0 +1,63 @@
+package com.example.taskmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated result.
+ * Carries an opaque cursor for the next slice instead of page numbers and totals,
+ * so fetching it never requires a count query.
+ */
+@Schema(description = "Cursor-paginated slice of results")
+public final class CursorPage<T> {
+
+    @Schema(description = "Items in this slice")
+    private final List<T> content;
+
+    @Schema(description = "Cursor to pass back for the next slice, null on the last slice",
+            example = "Y3wyMDI1LTEwLTE5VDIwOjMwOjAwfDQy")
+    private final String nextCursor;
+
+    @Schema(description = "Requested slice size", example = "10")
+    private final int size;
+
+    @JsonCreator
+    public CursorPage(@JsonProperty("content") List<T> content,
+                      @JsonProperty("nextCursor") String nextCursor,
+                      @JsonProperty("size") int size) {
+        this.content = Collections.unmodifiableList(new ArrayList<>(content));
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Schema(description = "Whether another slice follows this one", example = "true")
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPage{" +
+                "items=" + content.size() +
+                ", size=" + size +
+                ", hasNext=" + isHasNext() +
+                '}';
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.entity.TaskOutboxEntry;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.enums.TaskChangeAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable entry of the task change feed, as delivered to subscribers.
+ * The position orders entries and lets a subscriber resume after the last
+ * one it has seen. The version is the task's version after the change, or
+ * null for entries recorded before versions were kept.
+ */
+public final class TaskChange {
+
+    private final long position;
+    private final Long taskId;
+    private final TaskChangeAction action;
+    private final Status status;
+    private final Long version;
+    private final LocalDateTime occurredAt;
+
+    public TaskChange(long position, Long taskId, TaskChangeAction action, Status status, Long version,
+                      LocalDateTime occurredAt) {
+        this.position = position;
+        this.taskId = taskId;
+        this.action = action;
+        this.status = status;
+        this.version = version;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * Copies an outbox entry.
+     *
+     * @param entry the outbox entry
+     * @return the change it records
+     */
+    public static TaskChange of(TaskOutboxEntry entry) {
+        return new TaskChange(entry.getId(), entry.getTaskId(), entry.getAction(), entry.getStatus(),
+            entry.getVersion(), entry.getOccurredAt());
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public TaskChangeAction getAction() {
+        return action;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskChange{position=" + position + ", taskId=" + taskId + ", action=" + action
+            + ", status=" + status + ", version=" + version + ", occurredAt=" + occurredAt + "}";
+    }
+}
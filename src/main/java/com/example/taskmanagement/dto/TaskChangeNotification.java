@@ -0,0 +1,59 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.enums.TaskChangeAction;
+
+/**
+ * Compact change notification pushed to change stream clients.
+ * Carries only what a client needs to decide whether to refetch the task.
+ * The position is the change's place in the outbox feed, also sent as the
+ * event ID. The version is the task's version after the change, so a client
+ * holding that version or a later one can skip the refetch.
+ */
+public final class TaskChangeNotification {
+
+    private final Long id;
+    private final TaskChangeAction action;
+    private final Status status;
+    private final Long version;
+    private final long position;
+
+    public TaskChangeNotification(Long id, TaskChangeAction action, Status status, Long version, long position) {
+        this.id = id;
+        this.action = action;
+        this.status = status;
+        this.version = version;
+        this.position = position;
+    }
+
+    /**
+     * Creates the notification for a feed entry.
+     *
+     * @param change the feed entry
+     * @return its notification
+     */
+    public static TaskChangeNotification of(TaskChange change) {
+        return new TaskChangeNotification(change.getTaskId(), change.getAction(), change.getStatus(),
+            change.getVersion(), change.getPosition());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public TaskChangeAction getAction() {
+        return action;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable point-in-time copy of the aggregate task counters.
+ * Holds counts per status and priority plus the number of overdue tasks.
+ */
+public final class TaskCounters {
+
+    private final long[][] counts;
+    private final long overdueTasks;
+
+    /**
+     * Creates a counters copy.
+     *
+     * @param counts counts indexed by [status ordinal][priority ordinal]; copied defensively
+     * @param overdueTasks number of overdue tasks
+     */
+    public TaskCounters(long[][] counts, long overdueTasks) {
+        this.counts = new long[counts.length][];
+        for (int i = 0; i < counts.length; i++) {
+            this.counts[i] = counts[i].clone();
+        }
+        this.overdueTasks = overdueTasks;
+    }
+
+    /**
+     * Returns the number of tasks with the given status and priority.
+     */
+    public long getCount(Status status, Priority priority) {
+        return counts[status.ordinal()][priority.ordinal()];
+    }
+
+    /**
+     * Returns the number of tasks with the given status.
+     */
+    public long getStatusCount(Status status) {
+        long total = 0;
+        for (long count : counts[status.ordinal()]) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of tasks with the given priority.
+     */
+    public long getPriorityCount(Priority priority) {
+        long total = 0;
+        for (long[] row : counts) {
+            total += row[priority.ordinal()];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total number of tasks.
+     */
+    public long getTotalTasks() {
+        long total = 0;
+        for (long[] row : counts) {
+            for (long count : row) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    public long getCompletedTasks() {
+        return getStatusCount(Status.COMPLETED);
+    }
+
+    public long getOverdueTasks() {
+        return overdueTasks;
+    }
+
+    /**
+     * Returns counts for every status that has at least one task.
+     */
+    public Map<Status, Long> getStatusCounts() {
+        Map<Status, Long> statusCounts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            long count = getStatusCount(status);
+            if (count > 0) {
+                statusCounts.put(status, count);
+            }
+        }
+        return statusCounts;
+    }
+
+    /**
+     * Returns counts for every priority that has at least one task.
+     */
+    public Map<Priority, Long> getPriorityCounts() {
+        Map<Priority, Long> priorityCounts = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            long count = getPriorityCount(priority);
+            if (count > 0) {
+                priorityCounts.put(priority, count);
+            }
+        }
+        return priorityCounts;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskCounters{" +
+                "totalTasks=" + getTotalTasks() +
+                ", completedTasks=" + getCompletedTasks() +
+                ", overdueTasks=" + overdueTasks +
+                '}';
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last task returned by a keyset-paginated query.
+ * Holds the sort key and task ID of that row; clients only ever see it
+ * as an opaque URL-safe token.
+ */
+public final class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Sort orders a cursor can belong to. The order is encoded into the token
+     * so a cursor from one listing cannot be replayed against another.
+     */
+    public enum SortKey {
+        /** Newest first: createdAt DESC, id DESC. */
+        CREATED_AT("c"),
+        /** Earliest due first: dueDate ASC, id ASC. */
+        DUE_DATE("d");
+
+        private final String tag;
+
+        SortKey(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final SortKey sortKey;
+    private final LocalDateTime createdAt;
+    private final LocalDate dueDate;
+    private final Long id;
+
+    private TaskCursor(SortKey sortKey, LocalDateTime createdAt, LocalDate dueDate, Long id) {
+        this.sortKey = sortKey;
+        this.createdAt = createdAt;
+        this.dueDate = dueDate;
+        this.id = id;
+    }
+
+    /**
+     * Creates the cursor positioned on the given task.
+     *
+     * @param sortKey the sort order being paginated
+     * @param task the last task of the current slice
+     * @return the cursor for the next slice
+     */
+    public static TaskCursor after(SortKey sortKey, Task task) {
+        if (sortKey == SortKey.CREATED_AT) {
+            return new TaskCursor(sortKey, task.getCreatedAt(), null, task.getId());
+        }
+        return new TaskCursor(sortKey, null, task.getDueDate(), task.getId());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the token sent by the client
+     * @param expected the sort order of the endpoint receiving the token
+     * @return the decoded cursor
+     * @throws ValidationException if the token is malformed or belongs to another sort order
+     */
+    public static TaskCursor decode(String token, SortKey expected) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3 || !expected.tag.equals(parts[0])) {
+                throw new ValidationException("Invalid cursor");
+            }
+            Long id = Long.valueOf(parts[2]);
+            if (expected == SortKey.CREATED_AT) {
+                return new TaskCursor(expected, LocalDateTime.parse(parts[1]), null, id);
+            }
+            return new TaskCursor(expected, null, LocalDate.parse(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque URL-safe token.
+     */
+    public String encode() {
+        Object value = sortKey == SortKey.CREATED_AT ? createdAt : dueDate;
+        String raw = sortKey.tag + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public SortKey getSortKey() {
+        return sortKey;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+}
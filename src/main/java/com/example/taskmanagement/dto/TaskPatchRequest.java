@@ -0,0 +1,165 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.validation.NoSqlInjection;
+import com.example.taskmanagement.validation.NoXss;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import java.time.LocalDate;
+
+/**
+ * DTO for partial task updates, following JSON merge patch.
+ * Only the fields present in the request are changed; omitted fields keep
+ * their current values. An explicit null clears the description, due date or
+ * notes; title, priority and status cannot be cleared.
+ */
+@Schema(description = "Request object for partially updating a task; omitted fields are left unchanged "
+        + "and null clears the description, due date or notes")
+public class TaskPatchRequest {
+
+    @Schema(description = "Task title", example = "Complete project documentation", maxLength = 255)
+    @Size(max = 255, message = "Title must not exceed 255 characters")
+    @Pattern(regexp = "(?s).*\\S.*", message = "Title must not be blank")
+    @NoXss(message = "Title contains potentially malicious content")
+    @NoSqlInjection(message = "Title contains potentially malicious SQL patterns")
+    private String title;
+
+    @Schema(description = "Detailed description of the task", example = "Write comprehensive API documentation with examples", maxLength = 2000)
+    @Size(max = 2000, message = "Description must not exceed 2000 characters")
+    @NoXss(message = "Description contains potentially malicious content")
+    @NoSqlInjection(message = "Description contains potentially malicious SQL patterns")
+    private String description;
+
+    @Schema(description = "Task priority level", example = "HIGH", allowableValues = {"HIGH", "MEDIUM", "LOW"})
+    private Priority priority;
+
+    @Schema(description = "Current task status", example = "IN_PROGRESS", allowableValues = {"TODO", "IN_PROGRESS", "COMPLETED", "CANCELLED"})
+    private Status status;
+
+    @Schema(description = "Task due date", example = "2025-10-31", type = "string", format = "date")
+    private LocalDate dueDate;
+
+    @Schema(description = "Additional notes or comments", example = "Remember to include screenshots", maxLength = 1000)
+    @Size(max = 1000, message = "Notes must not exceed 1000 characters")
+    @NoXss(message = "Notes contain potentially malicious content")
+    @NoSqlInjection(message = "Notes contain potentially malicious SQL patterns")
+    private String notes;
+
+    // Jackson calls a setter only for fields present in the request
+    private boolean descriptionSet;
+    private boolean dueDateSet;
+    private boolean notesSet;
+    private boolean requiredFieldCleared;
+
+    // Constructors
+    /**
+     * Default constructor for TaskPatchRequest.
+     */
+    @SuppressWarnings("PMD.UncommentedEmptyConstructor")
+    public TaskPatchRequest() {
+    }
+
+    /**
+     * Returns true when the request sets at least one field.
+     */
+    public boolean hasChanges() {
+        return title != null || descriptionSet || priority != null || status != null
+                || dueDateSet || notesSet;
+    }
+
+    /**
+     * Returns true when the request sets the description, possibly to null.
+     */
+    public boolean hasDescription() {
+        return descriptionSet;
+    }
+
+    /**
+     * Returns true when the request sets the due date, possibly to null.
+     */
+    public boolean hasDueDate() {
+        return dueDateSet;
+    }
+
+    /**
+     * Returns true when the request sets the notes, possibly to null.
+     */
+    public boolean hasNotes() {
+        return notesSet;
+    }
+
+    /**
+     * Returns true when the request sets the title, priority or status to null.
+     */
+    public boolean clearsRequiredField() {
+        return requiredFieldCleared;
+    }
+
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+        this.requiredFieldCleared |= title == null;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionSet = true;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+        this.requiredFieldCleared |= priority == null;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+        this.requiredFieldCleared |= status == null;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+        this.dueDateSet = true;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+        this.notesSet = true;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskPatchRequest{" +
+                "title='" + title + '\'' +
+                ", priority=" + priority +
+                ", status=" + status +
+                ", dueDate=" + dueDate +
+                '}';
+    }
+}
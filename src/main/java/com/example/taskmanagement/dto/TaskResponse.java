@@ -44,6 +44,9 @@ public class TaskResponse {
     @Schema(description = "Last update timestamp", example = "2025-10-20T15:45:00")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "Optimistic lock version; send it back as If-Match to update this exact version", example = "3")
+    private Long version;
+
     @Schema(description = "Indicates if task is past due date", example = "false")
     private boolean overdue;
 
@@ -152,6 +155,14 @@ public class TaskResponse {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public boolean isOverdue() {
         return overdue;
     }
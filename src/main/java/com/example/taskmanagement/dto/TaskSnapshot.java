@@ -0,0 +1,84 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable copy of the task fields listeners need about a change.
+ * Captured before a change so listeners can act on the previous state
+ * without re-reading the task from the database.
+ */
+public final class TaskSnapshot {
+
+    private final Long id;
+    private final Status status;
+    private final Priority priority;
+    private final LocalDate dueDate;
+    private final Long version;
+
+    public TaskSnapshot(Long id, Status status, Priority priority, LocalDate dueDate, Long version) {
+        this.id = id;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.version = version;
+    }
+
+    /**
+     * Captures the current state of the given task.
+     *
+     * @param task the task to copy
+     * @return a snapshot of the task, or null if the task is null
+     */
+    public static TaskSnapshot of(Task task) {
+        if (task == null) {
+            return null;
+        }
+        return new TaskSnapshot(task.getId(), task.getStatus(), task.getPriority(), task.getDueDate(),
+            task.getVersion());
+    }
+
+    /**
+     * Returns a copy of this snapshot with a different status.
+     *
+     * @param newStatus the status to apply
+     * @return the updated snapshot
+     */
+    public TaskSnapshot withStatus(Status newStatus) {
+        return new TaskSnapshot(id, newStatus, priority, dueDate, version);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskSnapshot{" +
+                "id=" + id +
+                ", status=" + status +
+                ", priority=" + priority +
+                ", dueDate=" + dueDate +
+                ", version=" + version +
+                '}';
+    }
+}
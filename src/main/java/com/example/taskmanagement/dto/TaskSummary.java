@@ -0,0 +1,77 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+/**
+ * Slim, read-only view of a task for list responses.
+ * Filled straight from a constructor projection, so the large text columns
+ * are never read and no managed entity is created.
+ */
+@Schema(description = "Summary of a task, returned by list endpoints when fields=summary")
+public final class TaskSummary {
+
+    @Schema(description = "Unique task identifier", example = "1")
+    private final Long id;
+
+    @Schema(description = "Task title", example = "Complete project documentation")
+    private final String title;
+
+    @Schema(description = "Current task status", example = "TODO")
+    private final Status status;
+
+    @Schema(description = "Task priority level", example = "HIGH")
+    private final Priority priority;
+
+    @Schema(description = "Task due date", example = "2025-10-31")
+    private final LocalDate dueDate;
+
+    @JsonCreator
+    public TaskSummary(@JsonProperty("id") Long id,
+                       @JsonProperty("title") String title,
+                       @JsonProperty("status") Status status,
+                       @JsonProperty("priority") Priority priority,
+                       @JsonProperty("dueDate") LocalDate dueDate) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskSummary{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", status=" + status +
+                ", priority=" + priority +
+                ", dueDate=" + dueDate +
+                '}';
+    }
+}
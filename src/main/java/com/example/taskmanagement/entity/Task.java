@@ -1,8 +1,14 @@
 package com.example.taskmanagement.entity;
 
+import com.example.taskmanagement.constants.TaskConstants;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
 
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -12,6 +18,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Index;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
@@ -25,11 +32,16 @@ import java.time.LocalDateTime;
  * description, priority, status, due date, and audit information. It extends
  * BaseAuditEntity to inherit automatic timestamp management.</p>
  * 
+ * <p>The version column guards against lost updates: a write based on a stale
+ * copy fails instead of overwriting a concurrent change. Updates write only
+ * the columns that changed.</p>
+ * 
  * @author Task Management Team
  * @version 1.0.0
  * @since 2024-01-01
  */
 @Entity
+@DynamicUpdate
 @Table(name = "tasks", indexes = {
     @Index(name = "idx_task_title", columnList = "title"),
     @Index(name = "idx_task_status", columnList = "status"),
@@ -41,9 +53,15 @@ public class Task extends BaseAuditEntity {
 
     /**
      * Unique identifier for the task.
+     * Drawn from a pooled sequence so inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @GenericGenerator(name = "task_seq", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "task_seq"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = TaskConstants.ID_ALLOCATION_SIZE),
+        @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+    })
     @Column(name = "id")
     private Long id;
 
@@ -97,6 +115,13 @@ public class Task extends BaseAuditEntity {
     @Column(name = "notes", length = 1000)
     private String notes;
 
+    /**
+     * Optimistic lock version, incremented by every update.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * Default constructor.
      */
@@ -261,6 +286,24 @@ public class Task extends BaseAuditEntity {
         this.notes = notes;
     }
 
+    /**
+     * Returns the optimistic lock version.
+     * 
+     * @return the version, or null before the task is first saved
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the optimistic lock version.
+     * 
+     * @param version the version
+     */
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
 
     /**
      * Marks the task as completed and sets the completion timestamp.
@@ -1,5 +1,10 @@
 package com.example.taskmanagement.entity;
 
+import com.example.taskmanagement.constants.TaskConstants;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
 import javax.persistence.*;
 import java.time.LocalDateTime;
 
@@ -12,8 +17,13 @@ import java.time.LocalDateTime;
 public class TaskAudit {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_audit_seq")
+    @GenericGenerator(name = "task_audit_seq", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "task_audit_seq"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = TaskConstants.ID_ALLOCATION_SIZE),
+        @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+    })
+    private Long id; // Pooled sequence so the audit writer's saveAll is sent as JDBC batches
 
     @Column(name = "task_id", nullable = false)
     private Long taskId;
@@ -0,0 +1,123 @@
+package com.example.taskmanagement.entity;
+
+import com.example.taskmanagement.constants.TaskConstants;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.enums.TaskChangeAction;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing one task change in the transactional outbox.
+ * Written in the same transaction as the change itself, so the change feed
+ * holds exactly the changes that committed. The ID is the entry's position
+ * in the feed.
+ */
+@Entity
+@Table(name = "task_outbox", indexes = {
+    @Index(name = "idx_outbox_processed_at", columnList = "processed_at")
+})
+public class TaskOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_outbox_seq")
+    @GenericGenerator(name = "task_outbox_seq", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "task_outbox_seq"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = TaskConstants.ID_ALLOCATION_SIZE),
+        @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+    })
+    private Long id; // Pooled sequence so bulk changes are written as JDBC batches
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false, length = 20)
+    private TaskChangeAction action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private Status status; // Status after the change; null for deletions
+
+    @Column(name = "version")
+    private Long version; // Task version after the change; the last version for deletions
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt; // Set once the relay has delivered the entry
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected TaskOutboxEntry() {
+    }
+
+    /**
+     * Constructor with required fields.
+     *
+     * @param taskId the ID of the changed task
+     * @param action the kind of change
+     * @param status the task's status after the change, or null if it was deleted
+     * @param version the task's version after the change, or its last version if it was deleted
+     * @param occurredAt when the change was made
+     */
+    public TaskOutboxEntry(Long taskId, TaskChangeAction action, Status status, Long version,
+                           LocalDateTime occurredAt) {
+        this.taskId = taskId;
+        this.action = action;
+        this.status = status;
+        this.version = version;
+        this.occurredAt = occurredAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public TaskChangeAction getAction() {
+        return action;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskOutboxEntry{" +
+                "id=" + id +
+                ", taskId=" + taskId +
+                ", action=" + action +
+                ", status=" + status +
+                ", version=" + version +
+                ", occurredAt=" + occurredAt +
+                ", processedAt=" + processedAt +
+                '}';
+    }
+}
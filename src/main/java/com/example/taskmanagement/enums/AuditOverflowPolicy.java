@@ -0,0 +1,27 @@
+package com.example.taskmanagement.enums;
+
+/**
+ * Enumeration of the strategies applied when the audit queue is full.
+ * 
+ * <p>The audit writer buffers records in a bounded queue and persists them
+ * from a background thread. When producers outpace the writer, this policy
+ * decides what happens to the record that does not fit.</p>
+ */
+public enum AuditOverflowPolicy {
+    
+    /**
+     * Wait for space in the queue, up to the configured timeout, then
+     * write the record synchronously so it is never lost.
+     */
+    BLOCK,
+    
+    /**
+     * Discard the oldest queued record to make room for the new one.
+     */
+    DROP_OLDEST,
+    
+    /**
+     * Write the record synchronously on the calling thread.
+     */
+    SYNC
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanagement.enums;
+
+/**
+ * Enumeration of the strategies applied when the event executor is saturated.
+ * 
+ * <p>Asynchronous event listeners run on a bounded pool with a bounded queue.
+ * When both are full, this policy decides what happens to the listener call
+ * that does not fit.</p>
+ */
+public enum EventRejectionPolicy {
+    
+    /**
+     * Run the listener on the publishing thread, after its transaction has
+     * committed, so no event is lost and publishers slow down under load.
+     */
+    CALLER_RUNS,
+    
+    /**
+     * Drop the listener call and count it as rejected.
+     */
+    DISCARD
+}
@@ -0,0 +1,27 @@
+package com.example.taskmanagement.enums;
+
+/**
+ * Enumeration of the changes recorded in the task change feed.
+ */
+public enum TaskChangeAction {
+    
+    /**
+     * The task was created, including by bulk create or duplication.
+     */
+    CREATED,
+    
+    /**
+     * The task's fields or status changed.
+     */
+    UPDATED,
+    
+    /**
+     * The task was marked as completed.
+     */
+    COMPLETED,
+    
+    /**
+     * The task was deleted.
+     */
+    DELETED
+}
@@ -0,0 +1,54 @@
+package com.example.taskmanagement.enums;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Enumeration of the shapes a task list can be returned in.
+ * 
+ * <p>Chosen per request from the optional {@code fields} parameter of the
+ * list endpoints. The summary view is read through a projection and skips
+ * the description and notes columns entirely.</p>
+ */
+public enum TaskView {
+    
+    /**
+     * Every task field, as returned by the single-task endpoints.
+     */
+    FULL,
+    
+    /**
+     * Only id, title, status, priority and due date.
+     */
+    SUMMARY;
+
+    private static final Set<String> SUMMARY_FIELDS = Collections.unmodifiableSet(
+        new HashSet<>(Arrays.asList("id", "title", "status", "priority", "duedate")));
+
+    /**
+     * Resolves the view for a {@code fields} parameter. Accepts the view name
+     * itself ("summary" or "full") or a comma-separated list of field names;
+     * a list that only names summary fields is served from the summary view.
+     *
+     * @param fields the requested fields, may be null
+     * @return the narrowest view that covers the requested fields
+     */
+    public static TaskView fromFields(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return FULL;
+        }
+        String normalized = fields.trim().toLowerCase(Locale.ROOT);
+        if ("summary".equals(normalized)) {
+            return SUMMARY;
+        }
+        for (String field : normalized.split(",")) {
+            if (!SUMMARY_FIELDS.contains(field.trim())) {
+                return FULL;
+            }
+        }
+        return SUMMARY;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.taskmanagement.event;
+
+import com.example.taskmanagement.dto.TaskSnapshot;
+import com.example.taskmanagement.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Event published once when a set-based update completes several tasks at once.
+ * Listeners of {@link TaskBulkStatusChangedEvent} receive it as well.
+ */
+public class TaskBulkCompletedEvent extends TaskBulkStatusChangedEvent {
+
+    private final LocalDateTime completedAt;
+
+    public TaskBulkCompletedEvent(List<TaskSnapshot> previousStates, LocalDateTime completedAt) {
+        super(previousStates, Status.COMPLETED);
+        this.completedAt = completedAt;
+    }
+
+    /**
+     * Returns the IDs of the completed tasks.
+     *
+     * @return the task IDs, in the order they were completed
+     */
+    public List<Long> getTaskIds() {
+        return getPreviousStates().stream()
+                .map(TaskSnapshot::getId)
+                .collect(Collectors.toList());
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskBulkCompletedEvent{" +
+                "taskCount=" + getPreviousStates().size() +
+                ", completedAt=" + completedAt +
+                ", timestamp=" + getTimestamp() +
+                '}';
+    }
+}
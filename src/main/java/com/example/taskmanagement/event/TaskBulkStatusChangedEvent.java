@@ -0,0 +1,47 @@
+package com.example.taskmanagement.event;
+
+import com.example.taskmanagement.dto.TaskSnapshot;
+import com.example.taskmanagement.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Event published when a set-based update changes the status of several tasks at once.
+ * Carries the state of each task before the update, since no entities are loaded.
+ */
+public class TaskBulkStatusChangedEvent {
+
+    private final List<TaskSnapshot> previousStates;
+    private final Status newStatus;
+    private final LocalDateTime timestamp;
+
+    public TaskBulkStatusChangedEvent(List<TaskSnapshot> previousStates, Status newStatus) {
+        this.previousStates = Collections.unmodifiableList(new ArrayList<>(previousStates));
+        this.newStatus = newStatus;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public List<TaskSnapshot> getPreviousStates() {
+        return previousStates;
+    }
+
+    public Status getNewStatus() {
+        return newStatus;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskBulkStatusChangedEvent{" +
+                "taskCount=" + previousStates.size() +
+                ", newStatus=" + newStatus +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.taskmanagement.event;
 
+import com.example.taskmanagement.dto.TaskSnapshot;
 import com.example.taskmanagement.entity.Task;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -12,11 +13,23 @@ import java.time.LocalDateTime;
 public class TaskCompletedEvent {
 
     private final Task task;
+    private final TaskSnapshot previousState;
     private final LocalDateTime timestamp;
 
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
     public TaskCompletedEvent(Task task) {
+        this(task, null);
+    }
+
+    /**
+     * Creates the event with the state the task had before it was completed.
+     *
+     * @param task the completed task
+     * @param previousState the task state before the change, or null if unknown
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public TaskCompletedEvent(Task task, TaskSnapshot previousState) {
         this.task = task;
+        this.previousState = previousState;
         this.timestamp = LocalDateTime.now();
     }
 
@@ -25,6 +38,10 @@ public class TaskCompletedEvent {
         return task;
     }
 
+    public TaskSnapshot getPreviousState() {
+        return previousState;
+    }
+
     public LocalDateTime getTimestamp() {
         return timestamp;
     }
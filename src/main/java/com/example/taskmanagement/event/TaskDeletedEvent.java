@@ -0,0 +1,40 @@
+package com.example.taskmanagement.event;
+
+import com.example.taskmanagement.dto.TaskSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Event published when one or more tasks are deleted.
+ * Carries the last known state of each deleted task so derived
+ * counters can be adjusted without reloading anything.
+ */
+public class TaskDeletedEvent {
+
+    private final List<TaskSnapshot> deletedTasks;
+    private final LocalDateTime timestamp;
+
+    public TaskDeletedEvent(List<TaskSnapshot> deletedTasks) {
+        this.deletedTasks = Collections.unmodifiableList(new ArrayList<>(deletedTasks));
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public List<TaskSnapshot> getDeletedTasks() {
+        return deletedTasks;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskDeletedEvent{" +
+                "deletedCount=" + deletedTasks.size() +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -7,6 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -155,6 +156,60 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handles If-Match preconditions that name a stale task version.
+     *
+     * @param ex the version conflict exception
+     * @param request the web request
+     * @return a 412 response with error details
+     */
+    @ExceptionHandler(TaskVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleTaskVersionConflict(
+            TaskVersionConflictException ex, WebRequest request) {
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "VERSION_CONFLICT",
+            ex.getMessage(),
+            null,
+            LocalDateTime.now(),
+            HttpStatus.PRECONDITION_FAILED.value(),
+            CorrelationIdFilter.getCurrentCorrelationId()
+        );
+
+        if (logger.isWarnEnabled()) {
+            logger.warn("Task version conflict: {}", ex.getMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    /**
+     * Handles writes that lost a race with a concurrent update of the same task.
+     *
+     * @param ex the optimistic locking exception
+     * @param request the web request
+     * @return a 409 response with error details
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException ex, WebRequest request) {
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "CONCURRENT_MODIFICATION",
+            "The task was modified concurrently. Reload it and retry.",
+            null,
+            LocalDateTime.now(),
+            HttpStatus.CONFLICT.value(),
+            CorrelationIdFilter.getCurrentCorrelationId()
+        );
+
+        if (logger.isWarnEnabled()) {
+            logger.warn("Concurrent task modification: {}", ex.getMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handles validation exceptions.
      *
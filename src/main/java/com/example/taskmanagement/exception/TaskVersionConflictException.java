@@ -0,0 +1,16 @@
+package com.example.taskmanagement.exception;
+
+/**
+ * Exception thrown when a conditional update names a task version that is
+ * no longer current.
+ */
+public class TaskVersionConflictException extends RuntimeException {
+
+    public TaskVersionConflictException(String message) {
+        super(message);
+    }
+
+    public TaskVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
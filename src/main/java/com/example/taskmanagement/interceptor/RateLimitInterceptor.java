@@ -26,6 +26,8 @@ import javax.servlet.http.HttpServletResponse;
 public class RateLimitInterceptor implements HandlerInterceptor {
 
     private static final Logger logger = LoggerFactory.getLogger(RateLimitInterceptor.class);
+    private static final int MAX_FORWARDED_HOPS = 10;
+    private static final int MAX_ADDRESS_LENGTH = 45;
 
     @Autowired
     private RateLimitConfig rateLimitConfig;
@@ -58,19 +60,49 @@ public class RateLimitInterceptor implements HandlerInterceptor {
 
     /**
      * Gets a unique identifier for the client (IP address).
+     * X-Forwarded-For is only honoured when the connection comes from a trusted proxy.
+     * The header is then read from the right, skipping further trusted proxies, so a
+     * client cannot choose its own key by prepending addresses.
      *
      * @param request the HTTP request
      * @return the client identifier
      */
     private String getClientIdentifier(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
         String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0];
+        if (xForwardedFor == null || xForwardedFor.isEmpty() || !rateLimitConfig.isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
         }
-        return request.getRemoteAddr();
-    }
-}
-
-
 
+        String[] hops = xForwardedFor.split(",");
+        int lastHop = Math.max(0, hops.length - MAX_FORWARDED_HOPS);
+        for (int i = hops.length - 1; i >= lastHop; i--) {
+            String hop = hops[i].trim();
+            if (!isIpAddressLiteral(hop)) {
+                break;
+            }
+            if (!rateLimitConfig.isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
 
+    /**
+     * Checks that a forwarded address is shaped like an IPv4 or IPv6 literal,
+     * so arbitrary header text never becomes a bucket key.
+     */
+    private static boolean isIpAddressLiteral(String value) {
+        if (value.isEmpty() || value.length() > MAX_ADDRESS_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean hex = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (!hex && c != '.' && c != ':') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
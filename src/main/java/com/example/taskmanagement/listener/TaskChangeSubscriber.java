@@ -0,0 +1,23 @@
+package com.example.taskmanagement.listener;
+
+import com.example.taskmanagement.dto.TaskChange;
+
+import java.util.List;
+
+/**
+ * Receives committed task changes from the outbox relay.
+ *
+ * <p>Beans implementing this interface are called with each relayed batch in
+ * feed order, on the relay thread. Delivery is at least once: if any subscriber
+ * throws, the whole batch is delivered again on the next poll, so subscribers
+ * must tolerate seeing a change twice.</p>
+ */
+public interface TaskChangeSubscriber {
+
+    /**
+     * Handles a batch of committed changes.
+     *
+     * @param changes the changes, ordered by feed position
+     */
+    void onChanges(List<TaskChange> changes);
+}
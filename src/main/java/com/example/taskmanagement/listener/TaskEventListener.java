@@ -1,21 +1,32 @@
 package com.example.taskmanagement.listener;
 
+import com.example.taskmanagement.config.AsyncEventConfig;
+import com.example.taskmanagement.event.TaskBulkCompletedEvent;
 import com.example.taskmanagement.event.TaskCompletedEvent;
 import com.example.taskmanagement.event.TaskCreatedEvent;
 import com.example.taskmanagement.event.TaskUpdatedEvent;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Event listener for task-related events.
  * Handles audit trail and notifications.
+ *
+ * <p>Handlers run on the event executor after the publishing transaction
+ * commits (see {@link AsyncEventConfig}), so they never delay the request or
+ * observe a change that was rolled back. Each handler is timed as
+ * {@code task.events.listener}.</p>
  */
 @Component
 public class TaskEventListener {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskEventListener.class);
+    private static final String LISTENER_TIMER = "task.events.listener";
 
     /**
      * Handles task creation events.
@@ -23,7 +34,9 @@ public class TaskEventListener {
      *
      * @param event the task created event
      */
-    @EventListener
+    @Async(AsyncEventConfig.EVENT_EXECUTOR)
+    @Timed(value = LISTENER_TIMER, description = "Time spent in asynchronous task event listeners")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleTaskCreated(TaskCreatedEvent event) {
         if (logger.isInfoEnabled()) {
             logger.info("Task created: ID={}, Title='{}', Priority={}, Status={}", 
@@ -40,7 +53,9 @@ public class TaskEventListener {
      *
      * @param event the task updated event
      */
-    @EventListener
+    @Async(AsyncEventConfig.EVENT_EXECUTOR)
+    @Timed(value = LISTENER_TIMER, description = "Time spent in asynchronous task event listeners")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleTaskUpdated(TaskUpdatedEvent event) {
         if (logger.isInfoEnabled()) {
             logger.info("Task updated: ID={}, Title='{}', Priority={}, Status={}", 
@@ -57,7 +72,9 @@ public class TaskEventListener {
      *
      * @param event the task completed event
      */
-    @EventListener
+    @Async(AsyncEventConfig.EVENT_EXECUTOR)
+    @Timed(value = LISTENER_TIMER, description = "Time spent in asynchronous task event listeners")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleTaskCompleted(TaskCompletedEvent event) {
         if (logger.isInfoEnabled()) {
             logger.info("Task completed: ID={}, Title='{}', CompletedAt={}", 
@@ -66,4 +83,21 @@ public class TaskEventListener {
                     event.getTask().getCompletedAt());
         }
     }
+
+    /**
+     * Handles bulk task completion events.
+     * Logs the event for audit trail purposes.
+     *
+     * @param event the bulk completed event
+     */
+    @Async(AsyncEventConfig.EVENT_EXECUTOR)
+    @Timed(value = LISTENER_TIMER, description = "Time spent in asynchronous task event listeners")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTasksBulkCompleted(TaskBulkCompletedEvent event) {
+        if (logger.isInfoEnabled()) {
+            logger.info("Tasks completed in bulk: IDs={}, CompletedAt={}", 
+                    event.getTaskIds(),
+                    event.getCompletedAt());
+        }
+    }
 }
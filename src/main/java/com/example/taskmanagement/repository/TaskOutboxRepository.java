@@ -0,0 +1,91 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.entity.TaskOutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for the task outbox.
+ * Provides the reads and updates used by the outbox relay and by subscribers
+ * catching up from a feed position.
+ */
+@Repository
+public interface TaskOutboxRepository extends JpaRepository<TaskOutboxEntry, Long> {
+
+    /**
+     * Find the oldest entries not yet delivered by the relay.
+     *
+     * @param pageable the batch size
+     * @return undelivered entries in feed order
+     */
+    List<TaskOutboxEntry> findByProcessedAtIsNullOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Find entries after a feed position, delivered or not.
+     *
+     * @param position the last position the caller has seen
+     * @param pageable the batch size
+     * @return the following entries in feed order
+     */
+    List<TaskOutboxEntry> findByIdGreaterThanOrderByIdAsc(Long position, Pageable pageable);
+
+    /**
+     * Find entries the relay delivered after a given entry, in delivery order.
+     * Entries delivered in the same batch share a delivery time and follow one
+     * another in ID order.
+     *
+     * @param deliveredAt when the given entry was delivered
+     * @param afterId the ID of the given entry
+     * @param pageable the batch size
+     * @return the entries delivered later
+     */
+    @Query("SELECT e FROM TaskOutboxEntry e WHERE e.processedAt > :deliveredAt "
+        + "OR (e.processedAt = :deliveredAt AND e.id > :afterId) ORDER BY e.processedAt, e.id")
+    List<TaskOutboxEntry> findDeliveredAfter(@Param("deliveredAt") LocalDateTime deliveredAt,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    /**
+     * Find undelivered entries after a feed position.
+     *
+     * @param position the last position the caller has seen
+     * @param pageable the batch size
+     * @return the following undelivered entries in feed order
+     */
+    List<TaskOutboxEntry> findByProcessedAtIsNullAndIdGreaterThanOrderByIdAsc(Long position, Pageable pageable);
+
+    /**
+     * Count entries not yet delivered by the relay.
+     *
+     * @return the number of pending entries
+     */
+    long countByProcessedAtIsNull();
+
+    /**
+     * Mark entries as delivered in a single statement.
+     *
+     * @param ids the IDs of the delivered entries
+     * @param processedAt the delivery timestamp
+     * @return number of updated entries
+     */
+    @Modifying
+    @Query("UPDATE TaskOutboxEntry e SET e.processedAt = :processedAt WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") List<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * Delete delivered entries older than the retention cutoff.
+     *
+     * @param cutoff entries delivered before this time are removed
+     * @return number of deleted entries
+     */
+    @Modifying
+    @Query("DELETE FROM TaskOutboxEntry e WHERE e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
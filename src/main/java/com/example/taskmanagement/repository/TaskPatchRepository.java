@@ -0,0 +1,24 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.TaskPatchRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository fragment for partial task updates that skip loading the task.
+ */
+public interface TaskPatchRepository {
+
+    /**
+     * Updates only the fields set in the patch, provided the task is still at
+     * the expected version, and advances the version. Issues a single UPDATE
+     * and no SELECT.
+     *
+     * @param id the task ID
+     * @param expectedVersion the version the patch was based on
+     * @param patch the fields to change
+     * @param updatedAt timestamp of the update
+     * @return 1 if the task was updated, 0 if it is missing or at another version
+     */
+    int patchIfVersion(Long id, long expectedVersion, TaskPatchRequest patch, LocalDateTime updatedAt);
+}
@@ -0,0 +1,55 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.TaskPatchRequest;
+import com.example.taskmanagement.entity.Task;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+
+/**
+ * Criteria-based implementation of {@link TaskPatchRepository}.
+ * The SET clause lists only the patched columns, so the statement touches
+ * nothing the client did not change.
+ */
+public class TaskPatchRepositoryImpl implements TaskPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patchIfVersion(Long id, long expectedVersion, TaskPatchRequest patch, LocalDateTime updatedAt) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        if (patch.getTitle() != null) {
+            update.set(task.get("title"), patch.getTitle());
+        }
+        if (patch.hasDescription()) {
+            update.set(task.get("description"), patch.getDescription());
+        }
+        if (patch.getPriority() != null) {
+            update.set(task.get("priority"), patch.getPriority());
+        }
+        if (patch.getStatus() != null) {
+            update.set(task.get("status"), patch.getStatus());
+        }
+        if (patch.hasDueDate()) {
+            update.set(task.get("dueDate"), patch.getDueDate());
+        }
+        if (patch.hasNotes()) {
+            update.set(task.get("notes"), patch.getNotes());
+        }
+        update.set(task.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.set(task.<Long>get("version"), builder.sum(task.<Long>get("version"), 1L));
+        update.where(
+            builder.equal(task.get("id"), id),
+            builder.equal(task.get("version"), expectedVersion));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
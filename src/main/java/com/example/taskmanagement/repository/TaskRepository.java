@@ -1,5 +1,8 @@
 package com.example.taskmanagement.repository;
 
+import com.example.taskmanagement.constants.TaskConstants;
+import com.example.taskmanagement.dto.TaskSnapshot;
+import com.example.taskmanagement.dto.TaskSummary;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
@@ -8,12 +11,19 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 /**
  * Repository interface for Task entity operations.
@@ -27,7 +37,21 @@ import java.util.List;
  * @since 2024-01-01
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskPatchRepository {
+
+    /**
+     * Optional filters shared by the keyset (cursor) queries.
+     * The search term matches any substring of the title or description. The
+     * full-text index matches whole words or word prefixes instead, so these
+     * queries only see a search term while the index is unavailable.
+     */
+    String KEYSET_FILTER =
+        "(:searchTerm IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+        "LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
+        "(:status IS NULL OR t.status = :status) AND " +
+        "(:priority IS NULL OR t.priority = :priority) AND " +
+        "(:dueDateFrom IS NULL OR t.dueDate >= :dueDateFrom) AND " +
+        "(:dueDateTo IS NULL OR t.dueDate <= :dueDateTo)";
 
     /**
      * Finds tasks by status with pagination.
@@ -209,7 +233,8 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return number of updated tasks
      */
     @Modifying
-    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt WHERE t.id IN :taskIds")
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+           "WHERE t.id IN :taskIds")
     int bulkUpdateTaskStatus(
         @Param("taskIds") List<Long> taskIds,
         @Param("status") Status status,
@@ -226,13 +251,31 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return number of updated tasks
      */
     @Modifying
-    @Query("UPDATE Task t SET t.priority = :priority, t.updatedAt = :updatedAt WHERE t.id IN :taskIds")
+    @Query("UPDATE Task t SET t.priority = :priority, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+           "WHERE t.id IN :taskIds")
     int bulkUpdateTaskPriority(
         @Param("taskIds") List<Long> taskIds,
         @Param("priority") Priority priority,
         @Param("updatedAt") LocalDateTime updatedAt
     );
 
+    /**
+     * Bulk complete tasks in a single statement.
+     * Clears the persistence context afterwards, so previously loaded tasks are
+     * detached and not written back by dirty checking.
+     * 
+     * @param taskIds list of task IDs to complete
+     * @param completedAt completion timestamp, also used as the update timestamp
+     * @return number of completed tasks
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = com.example.taskmanagement.enums.Status.COMPLETED, t.completedAt = :completedAt, " +
+           "t.updatedAt = :completedAt, t.version = t.version + 1 WHERE t.id IN :taskIds")
+    int bulkCompleteTasks(
+        @Param("taskIds") List<Long> taskIds,
+        @Param("completedAt") LocalDateTime completedAt
+    );
+
     /**
      * Bulk delete tasks by IDs.
      * More efficient than individual deletes.
@@ -362,4 +405,213 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t.status, t.priority, COUNT(t) FROM Task t " +
            "GROUP BY t.status, t.priority ORDER BY t.status, t.priority")
     List<Object[]> getTaskDistributionByStatusAndPriority();
+
+    /**
+     * Gets the snapshot state of the given tasks without loading entities.
+     * Used to describe set-based changes to listeners before the change is applied.
+     * 
+     * @param taskIds list of task IDs
+     * @return snapshots of the tasks that exist
+     */
+    @Query("SELECT new com.example.taskmanagement.dto.TaskSnapshot(t.id, t.status, t.priority, t.dueDate, t.version) " +
+           "FROM Task t WHERE t.id IN :taskIds")
+    List<TaskSnapshot> findSnapshotsByIdIn(@Param("taskIds") List<Long> taskIds);
+
+    /**
+     * Counts open tasks (not completed or cancelled) per due date.
+     * Single aggregate query used to rebuild overdue counters.
+     * 
+     * @return list of [dueDate, count] arrays
+     */
+    @Query("SELECT t.dueDate, COUNT(t) FROM Task t WHERE t.dueDate IS NOT NULL " +
+           "AND t.status NOT IN ('COMPLETED', 'CANCELLED') GROUP BY t.dueDate")
+    List<Object[]> countOpenTasksByDueDate();
+
+    /**
+     * Gets the ID and title of every task without loading entities.
+     * Used to rebuild the in-memory title index.
+     * 
+     * @return list of [id, title] arrays
+     */
+    @Query("SELECT t.id, t.title FROM Task t")
+    List<Object[]> findAllIdAndTitle();
+
+    /**
+     * Gets the next batch of tasks after the given ID, in ID order.
+     * Used to rebuild the full-text search index without offset scans.
+     * 
+     * @param afterId only tasks with a greater ID are returned
+     * @param pageable the batch size; its sort is ignored
+     * @return the next batch of tasks
+     */
+    @Query("SELECT t FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<Task> findIndexBatchAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Finds the most recent update time of any task.
+     *
+     * @return the latest updatedAt, or null when there are no tasks
+     */
+    @Query("SELECT MAX(t.updatedAt) FROM Task t")
+    LocalDateTime findMaxUpdatedAt();
+
+    /**
+     * Gets summaries of the given tasks without loading entities.
+     * Used to materialize full-text search hits in the summary view.
+     * 
+     * @param taskIds list of task IDs
+     * @return summaries of the tasks that exist, in no particular order
+     */
+    @Query("SELECT new com.example.taskmanagement.dto.TaskSummary(t.id, t.title, t.status, t.priority, t.dueDate) " +
+           "FROM Task t WHERE t.id IN :taskIds")
+    List<TaskSummary> findSummariesByIdIn(@Param("taskIds") List<Long> taskIds);
+
+    /**
+     * Streams all tasks in ID order using a database cursor with a fixed fetch size.
+     * Must be consumed inside a transaction and closed afterwards; rows are loaded
+     * read-only so callers can clear the persistence context as they go.
+     * 
+     * @return stream of all tasks ordered by ID
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = TaskConstants.EXPORT_FETCH_SIZE),
+        @QueryHint(name = HINT_CACHEABLE, value = "false"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAllForExport();
+
+    /**
+     * Gets a page of task summaries matching the filters.
+     * A constructor projection: description and notes are never read and
+     * no entities enter the persistence context.
+     * 
+     * @param searchTerm search term for title/description, or null
+     * @param status status to filter by, or null
+     * @param priority priority to filter by, or null
+     * @param dueDateFrom start date for due date range, or null
+     * @param dueDateTo end date for due date range, or null
+     * @param pageable pagination and sorting information
+     * @return page of task summaries
+     */
+    @Query(value = "SELECT new com.example.taskmanagement.dto.TaskSummary(t.id, t.title, t.status, t.priority, t.dueDate) " +
+                   "FROM Task t WHERE " + KEYSET_FILTER,
+           countQuery = "SELECT COUNT(t) FROM Task t WHERE " + KEYSET_FILTER)
+    Page<TaskSummary> findSummaries(
+        @Param("searchTerm") String searchTerm,
+        @Param("status") Status status,
+        @Param("priority") Priority priority,
+        @Param("dueDateFrom") LocalDate dueDateFrom,
+        @Param("dueDateTo") LocalDate dueDateTo,
+        Pageable pageable
+    );
+
+    /**
+     * Gets a page of tasks matching the filters.
+     * Applies exactly the filters of {@link #findSummaries}, so the full and
+     * summary search views return the same tasks.
+     * 
+     * @param searchTerm search term for title/description, or null
+     * @param status status to filter by, or null
+     * @param priority priority to filter by, or null
+     * @param dueDateFrom start date for due date range, or null
+     * @param dueDateTo end date for due date range, or null
+     * @param pageable pagination and sorting information
+     * @return page of tasks
+     */
+    @Query(value = "SELECT t FROM Task t WHERE " + KEYSET_FILTER,
+           countQuery = "SELECT COUNT(t) FROM Task t WHERE " + KEYSET_FILTER)
+    Page<Task> findFiltered(
+        @Param("searchTerm") String searchTerm,
+        @Param("status") Status status,
+        @Param("priority") Priority priority,
+        @Param("dueDateFrom") LocalDate dueDateFrom,
+        @Param("dueDateTo") LocalDate dueDateTo,
+        Pageable pageable
+    );
+
+    /**
+     * Gets the first slice of tasks matching the filters, newest first.
+     * Walks idx_task_created_at in order and never issues a count query.
+     * 
+     * @param searchTerm search term for title/description, or null
+     * @param status status to filter by, or null
+     * @param priority priority to filter by, or null
+     * @param dueDateFrom start date for due date range, or null
+     * @param dueDateTo end date for due date range, or null
+     * @param pageable limit only; the page number must be 0
+     * @return tasks ordered by creation time and ID, descending
+     */
+    @Query("SELECT t FROM Task t WHERE " + KEYSET_FILTER + " ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findFirstSliceByCreatedAt(
+        @Param("searchTerm") String searchTerm,
+        @Param("status") Status status,
+        @Param("priority") Priority priority,
+        @Param("dueDateFrom") LocalDate dueDateFrom,
+        @Param("dueDateTo") LocalDate dueDateTo,
+        Pageable pageable
+    );
+
+    /**
+     * Gets the slice of tasks matching the filters that follows the given position, newest first.
+     * The plain upper bound on createdAt lets the index range scan start at the
+     * position, so every slice costs the same as the first.
+     * 
+     * @param searchTerm search term for title/description, or null
+     * @param status status to filter by, or null
+     * @param priority priority to filter by, or null
+     * @param dueDateFrom start date for due date range, or null
+     * @param dueDateTo end date for due date range, or null
+     * @param createdAt creation time of the last task already returned
+     * @param id ID of the last task already returned
+     * @param pageable limit only; the page number must be 0
+     * @return tasks ordered by creation time and ID, descending
+     */
+    @Query("SELECT t FROM Task t WHERE " + KEYSET_FILTER + " AND " +
+           "t.createdAt <= :createdAt AND (t.createdAt < :createdAt OR t.id < :id) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findSliceByCreatedAtAfter(
+        @Param("searchTerm") String searchTerm,
+        @Param("status") Status status,
+        @Param("priority") Priority priority,
+        @Param("dueDateFrom") LocalDate dueDateFrom,
+        @Param("dueDateTo") LocalDate dueDateTo,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * Gets the first slice of overdue tasks, earliest due first.
+     * Walks idx_task_due_date in order and never issues a count query.
+     * 
+     * @param currentDate the current date
+     * @param pageable limit only; the page number must be 0
+     * @return overdue tasks ordered by due date and ID, ascending
+     */
+    @Query("SELECT t FROM Task t WHERE t.dueDate < :currentDate " +
+           "AND t.status NOT IN ('COMPLETED', 'CANCELLED') " +
+           "ORDER BY t.dueDate ASC, t.id ASC")
+    List<Task> findFirstOverdueSlice(@Param("currentDate") LocalDate currentDate, Pageable pageable);
+
+    /**
+     * Gets the slice of overdue tasks that follows the given position, earliest due first.
+     * The plain lower bound on dueDate lets the index range scan start at the position.
+     * 
+     * @param currentDate the current date
+     * @param dueDate due date of the last task already returned
+     * @param id ID of the last task already returned
+     * @param pageable limit only; the page number must be 0
+     * @return overdue tasks ordered by due date and ID, ascending
+     */
+    @Query("SELECT t FROM Task t WHERE t.dueDate < :currentDate " +
+           "AND t.status NOT IN ('COMPLETED', 'CANCELLED') " +
+           "AND t.dueDate >= :dueDate AND (t.dueDate > :dueDate OR t.id > :id) " +
+           "ORDER BY t.dueDate ASC, t.id ASC")
+    List<Task> findOverdueSliceAfter(
+        @Param("currentDate") LocalDate currentDate,
+        @Param("dueDate") LocalDate dueDate,
+        @Param("id") Long id,
+        Pageable pageable
+    );
 }
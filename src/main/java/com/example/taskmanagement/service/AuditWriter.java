@@ -0,0 +1,323 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.entity.TaskAudit;
+import com.example.taskmanagement.enums.AuditOverflowPolicy;
+import com.example.taskmanagement.repository.TaskAuditRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Buffers audit records and persists them in batches from a background thread.
+ *
+ * <p>Callers only enqueue into a bounded lock-free queue, so auditing adds no
+ * database round-trip to the request. The writer flushes whenever a full batch
+ * is queued or the flush interval elapses. Payload serialization also happens
+ * on the writer thread. When the queue is full the configured
+ * {@link AuditOverflowPolicy} decides what happens to the new record.</p>
+ *
+ * <p>A record submitted inside a transaction is only queued once that
+ * transaction commits, so a change that rolls back or fails to commit leaves
+ * no audit behind. Records are always written in a transaction of their own.</p>
+ */
+@Service
+public class AuditWriter extends BaseService implements SmartLifecycle {
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final TaskAuditRepository taskAuditRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long blockTimeoutNanos;
+    private final AuditOverflowPolicy overflowPolicy;
+
+    private final Queue<PendingAudit> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final Object flushLock = new Object();
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter syncCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    public AuditWriter(TaskAuditRepository taskAuditRepository,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       ApplicationConfig.ApplicationProperties applicationProperties,
+                       MeterRegistry meterRegistry) {
+        this.taskAuditRepository = taskAuditRepository;
+        this.objectMapper = objectMapper;
+        // Synchronous writes may run from afterCommit, where joining the caller's transaction would never commit
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        ApplicationConfig.ApplicationProperties.AuditSettings settings = applicationProperties.getAudit();
+        this.queueCapacity = Math.max(1, settings.getQueueCapacity());
+        this.batchSize = Math.max(1, settings.getBatchSize());
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, settings.getFlushIntervalMs()));
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, settings.getBlockTimeoutMs()));
+        this.overflowPolicy = settings.getOverflowPolicy();
+
+        Gauge.builder("audit.queue.depth", queueSize, AtomicInteger::get)
+            .description("Audit records waiting to be written")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush.latency")
+            .description("Time taken to persist one batch of audit records")
+            .register(meterRegistry);
+        this.writtenCounter = meterRegistry.counter("audit.records.written");
+        this.droppedCounter = meterRegistry.counter("audit.records.dropped");
+        this.syncCounter = meterRegistry.counter("audit.records.sync");
+        this.failedCounter = meterRegistry.counter("audit.records.failed");
+    }
+
+    /**
+     * Queues an audit record for writing once the current transaction commits,
+     * or immediately when no transaction is active.
+     *
+     * @param audit the audit record to persist
+     * @param newState the state to serialize into the record's new values, or null
+     */
+    public void submit(TaskAudit audit, Object newState) {
+        PendingAudit pending = new PendingAudit(audit, newState);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(pending);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(pending);
+            }
+        });
+    }
+
+    private void enqueue(PendingAudit pending) {
+        if (!running) {
+            // Writer not running (startup, shutdown or unit tests): write straight through
+            writeSynchronously(pending);
+            return;
+        }
+        if (tryEnqueue(pending)) {
+            wakeWriterIfBatchReady();
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                enqueueDroppingOldest(pending);
+                break;
+            case SYNC:
+                writeSynchronously(pending);
+                break;
+            case BLOCK:
+            default:
+                enqueueBlocking(pending);
+                break;
+        }
+    }
+
+    /**
+     * Writes every queued record on the calling thread.
+     * Waits for a batch the background writer is already persisting.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<PendingAudit> batch = pollBatch();
+            while (!batch.isEmpty()) {
+                persist(batch);
+                batch = pollBatch();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of records waiting to be written.
+     */
+    public int getQueueDepth() {
+        return queueSize.get();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runWriter, "audit-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+        logInfo("Audit writer started: capacity={}, batchSize={}, policy={}", queueCapacity, batchSize, overflowPolicy);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(SHUTDOWN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Anything queued after the writer exited is written here
+        flush();
+        writerThread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runWriter() {
+        while (running) {
+            if (queueSize.get() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            flush();
+        }
+        flush();
+    }
+
+    private boolean tryEnqueue(PendingAudit pending) {
+        int current;
+        do {
+            current = queueSize.get();
+            if (current >= queueCapacity) {
+                return false;
+            }
+        } while (!queueSize.compareAndSet(current, current + 1));
+        queue.offer(pending);
+        return true;
+    }
+
+    private void enqueueDroppingOldest(PendingAudit pending) {
+        while (!tryEnqueue(pending)) {
+            if (poll() != null) {
+                droppedCounter.increment();
+            }
+        }
+        wakeWriterIfBatchReady();
+    }
+
+    private void enqueueBlocking(PendingAudit pending) {
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        while (!tryEnqueue(pending)) {
+            if (!running || System.nanoTime() - deadline >= 0) {
+                writeSynchronously(pending);
+                return;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+        }
+        wakeWriterIfBatchReady();
+    }
+
+    private void wakeWriterIfBatchReady() {
+        Thread thread = writerThread;
+        if (thread != null && queueSize.get() >= batchSize) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void writeSynchronously(PendingAudit pending) {
+        syncCounter.increment();
+        persist(Collections.singletonList(pending));
+    }
+
+    private PendingAudit poll() {
+        PendingAudit pending = queue.poll();
+        if (pending != null) {
+            queueSize.decrementAndGet();
+        }
+        return pending;
+    }
+
+    private List<PendingAudit> pollBatch() {
+        List<PendingAudit> batch = new ArrayList<>(Math.min(batchSize, Math.max(1, queueSize.get())));
+        PendingAudit pending;
+        while (batch.size() < batchSize && (pending = poll()) != null) {
+            batch.add(pending);
+        }
+        return batch;
+    }
+
+    private void persist(List<PendingAudit> batch) {
+        List<TaskAudit> audits = new ArrayList<>(batch.size());
+        for (PendingAudit pending : batch) {
+            audits.add(pending.toAudit(objectMapper));
+        }
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> taskAuditRepository.saveAll(audits));
+            writtenCounter.increment(audits.size());
+        } catch (Exception e) {
+            failedCounter.increment(audits.size());
+            logError("Failed to write " + audits.size() + " audit records", e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * An audit record together with the state still to be serialized into it.
+     */
+    private static final class PendingAudit {
+        private final TaskAudit audit;
+        private final Object newState;
+
+        PendingAudit(TaskAudit audit, Object newState) {
+            this.audit = audit;
+            this.newState = newState;
+        }
+
+        TaskAudit toAudit(ObjectMapper objectMapper) {
+            if (newState != null) {
+                try {
+                    audit.setNewValues(objectMapper.writeValueAsString(newState));
+                } catch (Exception e) {
+                    logger.warn("Failed to serialize audit state for task ID: {}", audit.getTaskId(), e);
+                }
+            }
+            return audit;
+        }
+    }
+}
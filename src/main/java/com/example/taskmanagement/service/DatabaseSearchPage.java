@@ -0,0 +1,26 @@
+package com.example.taskmanagement.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * A page of search results for a search term that the database answered
+ * because the full-text index could not.
+ *
+ * <p>The database matches the term as a substring of the title or
+ * description, while the index matches whole words or word prefixes in the
+ * title, description or notes. Such a page is therefore never cached, so the
+ * index answers the same search again once it is available.</p>
+ */
+final class DatabaseSearchPage<T> extends PageImpl<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Cache condition that skips pages of this type. */
+    static final String UNLESS_ANSWERED_BY_DATABASE =
+        "#result instanceof T(com.example.taskmanagement.service.DatabaseSearchPage)";
+
+    DatabaseSearchPage(Page<T> page) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+    }
+}
@@ -1,25 +1,38 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.constants.TaskConstants;
 import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.repository.TaskRepository;
 import com.example.taskmanagement.util.DateUtil;
 import com.example.taskmanagement.util.TaskConverter;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedWriter;
+import java.io.Flushable;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 /**
  * Service for exporting task data in various formats.
- * Supports CSV and JSON export formats.
+ * Supports CSV and JSON export formats. Task exports are streamed to the
+ * caller's output stream rather than buffered in memory.
  */
 @Service
 public class ExportService extends BaseService {
@@ -36,86 +49,84 @@ public class ExportService extends BaseService {
     @Autowired
     private DateUtil dateUtil;
 
-    /**
-     * Export tasks to CSV format.
-     *
-     * @return CSV data as byte array
-     */
-    public byte[] exportTasksToCsv() {
-        return exportTasksToCsv(null);
-    }
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final String CSV_HEADER =
+        "ID,Title,Description,Status,Priority,Due Date,Created At,Updated At,Notes";
+    private static final String LINE_SEPARATOR = System.lineSeparator();
 
     /**
-     * Export tasks to CSV format with filters.
+     * Export tasks to CSV format, writing rows straight to the given stream.
+     * Tasks are read through a database cursor so memory use stays flat
+     * regardless of the number of rows exported.
      *
      * @param filters optional filters to apply
-     * @return CSV data as byte array
+     * @param outputStream the stream to write CSV data to; left open
      */
-    public byte[] exportTasksToCsv(String filters) {
+    @Transactional(readOnly = true)
+    public void writeTasksAsCsv(String filters, OutputStream outputStream) {
         try {
             logDebug("Exporting tasks to CSV with filters: {}", filters);
 
-            List<Task> tasks = getAllTasksForExport(filters);
-            
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
-            
-            // Write CSV header
-            writer.write(String.format("ID,Title,Description,Status,Priority,Due Date,Created At,Updated At,Notes%n"));
-            
-            // Write task data
-            for (Task task : tasks) {
-                writer.write(String.format("%d,\"%s\",\"%s\",%s,%s,%s,%s,%s,\"%s\"%n",
-                    task.getId(),
-                    escapeCsvValue(task.getTitle()),
-                    escapeCsvValue(task.getDescription()),
-                    task.getStatus() != null ? task.getStatus().getDisplayName() : "",
-                    task.getPriority() != null ? task.getPriority().getDisplayName() : "",
-                    dateUtil.formatDate(task.getDueDate()),
-                    dateUtil.formatDateTime(task.getCreatedAt()),
-                    dateUtil.formatDateTime(task.getUpdatedAt()),
-                    escapeCsvValue(task.getNotes())
-                ));
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write(LINE_SEPARATOR);
+
+            int rows = 0;
+            try (Stream<Task> tasks = streamTasksForExport(filters)) {
+                Iterator<Task> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    writeCsvRow(writer, iterator.next());
+                    if (++rows % TaskConstants.EXPORT_CHUNK_SIZE == 0) {
+                        endChunk(writer);
+                    }
+                }
             }
-            
             writer.flush();
-            writer.close();
-            
-            return outputStream.toByteArray();
-            
+            logDebug("Exported {} tasks to CSV", rows);
+
         } catch (IOException e) {
             logError("Failed to export tasks to CSV", e);
-            throw new RuntimeException("Failed to export tasks to CSV", e);
+            throw new UncheckedIOException("Failed to export tasks to CSV", e);
         }
     }
 
     /**
-     * Export tasks to JSON format.
-     *
-     * @return JSON data as byte array
-     */
-    public byte[] exportTasksToJson() {
-        return exportTasksToJson(null);
-    }
-
-    /**
-     * Export tasks to JSON format with filters.
+     * Export tasks to JSON format, writing a JSON array straight to the given stream.
+     * Each task is converted and serialized individually while the cursor advances.
      *
      * @param filters optional filters to apply
-     * @return JSON data as byte array
+     * @param outputStream the stream to write JSON data to; left open
      */
-    public byte[] exportTasksToJson(String filters) {
+    @Transactional(readOnly = true)
+    public void writeTasksAsJson(String filters, OutputStream outputStream) {
         try {
             logDebug("Exporting tasks to JSON with filters: {}", filters);
 
-            List<Task> tasks = getAllTasksForExport(filters);
-            List<TaskResponse> taskResponses = taskConverter.convertToResponseList(tasks);
-            
-            return objectMapper.writeValueAsBytes(taskResponses);
-            
-        } catch (Exception e) {
+            ObjectWriter taskWriter = objectMapper.writerFor(TaskResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+
+            int rows = 0;
+            try (Stream<Task> tasks = streamTasksForExport(filters)) {
+                Iterator<Task> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    taskWriter.writeValue(generator, taskConverter.convertToResponse(iterator.next()));
+                    if (++rows % TaskConstants.EXPORT_CHUNK_SIZE == 0) {
+                        endChunk(generator);
+                    }
+                }
+            }
+            generator.writeEndArray();
+            generator.close();
+            logDebug("Exported {} tasks to JSON", rows);
+
+        } catch (IOException e) {
             logError("Failed to export tasks to JSON", e);
-            throw new RuntimeException("Failed to export tasks to JSON", e);
+            throw new UncheckedIOException("Failed to export tasks to JSON", e);
         }
     }
 
@@ -152,36 +163,76 @@ public class ExportService extends BaseService {
     }
 
     /**
-     * Get all tasks for export, applying any filters.
+     * Stream tasks for export, applying any filters.
      *
      * @param filters optional filters to apply
-     * @return list of tasks
+     * @return stream of tasks; must be closed by the caller
      */
-    private List<Task> getAllTasksForExport(@SuppressWarnings("unused") String filters) {
-        // For now, return all tasks. In a real implementation, 
+    private Stream<Task> streamTasksForExport(@SuppressWarnings("unused") String filters) {
+        // For now, stream all tasks. In a real implementation, 
         // you would parse the filters and apply them to the query
-        return taskRepository.findAll();
+        return taskRepository.streamAllForExport();
     }
 
+    /**
+     * Push the rows written so far to the client and detach the loaded
+     * entities, so neither the buffer nor the persistence context grows.
+     *
+     * @param output the writer or generator to flush
+     */
+    private void endChunk(Flushable output) throws IOException {
+        output.flush();
+        entityManager.clear();
+    }
 
     /**
-     * Escape CSV values to handle commas, quotes, and newlines.
+     * Write a single task as one CSV row.
      *
-     * @param value the value to escape
-     * @return escaped value
+     * @param writer the target writer
+     * @param task the task to write
      */
-    private String escapeCsvValue(String value) {
-        if (value == null) {
-            return "";
-        }
-        
-        // Replace quotes with double quotes and wrap in quotes if contains comma, quote, or newline
-        String escaped = value.replace("\"", "\"\"");
-        if (escaped.contains(",") || escaped.contains("\"") || escaped.contains("\n") || escaped.contains("\r")) {
-            return "\"" + escaped + "\"";
+    private void writeCsvRow(Writer writer, Task task) throws IOException {
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writeQuotedCsvValue(writer, task.getTitle());
+        writer.write(',');
+        writeQuotedCsvValue(writer, task.getDescription());
+        writer.write(',');
+        writer.write(task.getStatus() != null ? task.getStatus().getDisplayName() : "");
+        writer.write(',');
+        writer.write(task.getPriority() != null ? task.getPriority().getDisplayName() : "");
+        writer.write(',');
+        writer.write(dateUtil.formatDate(task.getDueDate()));
+        writer.write(',');
+        writer.write(dateUtil.formatDateTime(task.getCreatedAt()));
+        writer.write(',');
+        writer.write(dateUtil.formatDateTime(task.getUpdatedAt()));
+        writer.write(',');
+        writeQuotedCsvValue(writer, task.getNotes());
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Write a value wrapped in quotes, doubling any embedded quotes.
+     * Commas and newlines are safe inside a quoted field.
+     *
+     * @param writer the target writer
+     * @param value the value to write; null is written as an empty field
+     */
+    private void writeQuotedCsvValue(Writer writer, String value) throws IOException {
+        writer.write('"');
+        if (value != null) {
+            int start = 0;
+            int quote = value.indexOf('"');
+            while (quote >= 0) {
+                writer.write(value, start, quote + 1 - start);
+                writer.write('"');
+                start = quote + 1;
+                quote = value.indexOf('"', start);
+            }
+            writer.write(value, start, value.length() - start);
         }
-        
-        return escaped;
+        writer.write('"');
     }
 
     /**
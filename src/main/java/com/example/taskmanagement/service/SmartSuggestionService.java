@@ -11,21 +11,28 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.*;
-import java.util.Locale;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service for providing smart suggestions based on existing task patterns.
  * Uses machine learning-like algorithms to suggest task properties.
+ * Similar tasks are found through {@link TaskTitleIndex}, so lookups scale
+ * with the number of candidate tasks rather than the size of the table.
  */
 @Service
 public class SmartSuggestionService extends BaseService {
 
+    private static final int MAX_SIMILAR_TASKS = 5;
+    private static final double MIN_SIMILARITY = 0.3;
+
     private final TaskRepository taskRepository;
+    private final TaskTitleIndex titleIndex;
 
     @Autowired
-    public SmartSuggestionService(TaskRepository taskRepository) {
+    public SmartSuggestionService(TaskRepository taskRepository, TaskTitleIndex titleIndex) {
         this.taskRepository = taskRepository;
+        this.titleIndex = titleIndex;
     }
 
     /**
@@ -47,9 +54,11 @@ public class SmartSuggestionService extends BaseService {
             List<TaskSuggestion> suggestions = new ArrayList<>();
             
             // Find similar tasks
-            List<Task> similarTasks = findSimilarTasks(title);
+            List<TaskTitleIndex.TitleMatch> matches = titleIndex.findSimilar(title, MIN_SIMILARITY, MAX_SIMILAR_TASKS);
+            List<Task> similarTasks = findSimilarTasks(matches);
             
             if (!similarTasks.isEmpty()) {
+                double confidence = calculateConfidence(matches);
                 for (Task task : similarTasks) {
                     try {
                         TaskSuggestion suggestion = new TaskSuggestion();
@@ -58,7 +67,7 @@ public class SmartSuggestionService extends BaseService {
                         suggestion.setSuggestedPriority(task.getPriority());
                         suggestion.setSuggestedStatus(task.getStatus());
                         suggestion.setSuggestedDueDate(task.getDueDate());
-                        suggestion.setConfidenceScore(calculateConfidence(similarTasks, title));
+                        suggestion.setConfidenceScore(confidence);
                         suggestions.add(suggestion);
                     } catch (Exception e) {
                         logError("Error processing similar task: " + e.getMessage(), e);
@@ -82,70 +91,30 @@ public class SmartSuggestionService extends BaseService {
     }
 
     /**
-     * Find tasks similar to the given title using optimized repository method.
+     * Load the tasks behind the given title matches, preserving match order.
+     * Only the matched tasks are read from the database.
      *
-     * @param title the title to find similar tasks for
+     * @param matches title matches ordered by descending similarity
      * @return list of similar tasks
      */
-    private List<Task> findSimilarTasks(String title) {
-        // Handle null or empty title
-        if (title == null || title.trim().isEmpty()) {
+    private List<Task> findSimilarTasks(List<TaskTitleIndex.TitleMatch> matches) {
+        if (matches.isEmpty()) {
             return Collections.emptyList();
         }
         
-        // Use optimized database-level search first
-        List<Task> dbSimilarTasks = taskRepository.findSimilarTasksByTitle(title);
-        
-        if (dbSimilarTasks.size() >= 5) {
-            return dbSimilarTasks.stream().limit(5).collect(Collectors.toList());
-        }
-        
-        // Fallback to in-memory similarity calculation for better results
-        String[] titleWords = title.toLowerCase(Locale.ENGLISH).split("\\s+");
-        
-        return taskRepository.findAll().stream()
-            .filter(task -> task != null && task.getTitle() != null && !task.getTitle().trim().isEmpty())
-            .filter(task -> calculateSimilarity(titleWords, task.getTitle().toLowerCase(Locale.ENGLISH).split("\\s+")) > 0.3)
-            .sorted((t1, t2) -> {
-                // Safe null checks in comparator
-                if (t1 == null || t1.getTitle() == null) {
-                    return 1;
-                }
-                if (t2 == null || t2.getTitle() == null) {
-                    return -1;
-                }
-                return Double.compare(
-                    calculateSimilarity(titleWords, t2.getTitle().toLowerCase(Locale.ENGLISH).split("\\s+")),
-                    calculateSimilarity(titleWords, t1.getTitle().toLowerCase(Locale.ENGLISH).split("\\s+"))
-                );
-            })
-            .limit(5)
+        List<Long> taskIds = matches.stream()
+            .map(TaskTitleIndex.TitleMatch::getTaskId)
             .collect(Collectors.toList());
-    }
-
-    /**
-     * Calculate similarity between two arrays of words.
-     *
-     * @param words1 first array of words
-     * @param words2 second array of words
-     * @return similarity score between 0 and 1
-     */
-    private double calculateSimilarity(String[] words1, String[] words2) {
-        Set<String> set1 = new HashSet<>(Arrays.asList(words1));
-        Set<String> set2 = new HashSet<>(Arrays.asList(words2));
-        
-        Set<String> intersection = new HashSet<>(set1);
-        intersection.retainAll(set2);
+        Map<Long, Task> tasksById = taskRepository.findAllById(taskIds).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
         
-        Set<String> union = new HashSet<>(set1);
-        union.addAll(set2);
-        
-        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+        // Tasks deleted since they were indexed are skipped
+        return taskIds.stream()
+            .map(tasksById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
     }
 
-
-
-
     /**
      * Inner class representing a task suggestion.
      */
@@ -210,26 +179,22 @@ public class SmartSuggestionService extends BaseService {
     /**
      * Calculate confidence score for suggestions.
      *
-     * @param similarTasks list of similar tasks
-     * @param title the task title
+     * @param matches title matches with precomputed similarity scores
      * @return confidence score between 0 and 1
      */
-    private double calculateConfidence(List<Task> similarTasks, String title) {
-        if (similarTasks.isEmpty()) {
+    private double calculateConfidence(List<TaskTitleIndex.TitleMatch> matches) {
+        if (matches.isEmpty()) {
             return 0.0;
         }
         
         // Calculate average similarity
-        double averageSimilarity = similarTasks.stream()
-            .mapToDouble(task -> calculateSimilarity(
-                title.toLowerCase(Locale.ENGLISH).split("\\s+"),
-                task.getTitle().toLowerCase(Locale.ENGLISH).split("\\s+")
-            ))
+        double averageSimilarity = matches.stream()
+            .mapToDouble(TaskTitleIndex.TitleMatch::getScore)
             .average()
             .orElse(0.0);
         
         // Adjust confidence based on number of similar tasks
-        double countFactor = Math.min(similarTasks.size() / 5.0, 1.0);
+        double countFactor = Math.min(matches.size() / (double) MAX_SIMILAR_TASKS, 1.0);
         
         return averageSimilarity * countFactor;
     }
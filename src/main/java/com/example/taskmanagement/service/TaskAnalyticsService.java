@@ -1,6 +1,7 @@
 package com.example.taskmanagement.service;
 
 import com.example.taskmanagement.constants.TaskConstants;
+import com.example.taskmanagement.dto.TaskCounters;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
@@ -27,25 +28,27 @@ public class TaskAnalyticsService extends BaseService {
 
     private final TaskRepository taskRepository;
     private final TaskStatisticsCalculator statisticsCalculator;
+    private final TaskStatisticsStore statisticsStore;
 
     @Autowired
-    public TaskAnalyticsService(TaskRepository taskRepository, TaskStatisticsCalculator statisticsCalculator) {
+    public TaskAnalyticsService(TaskRepository taskRepository, TaskStatisticsCalculator statisticsCalculator,
+                                TaskStatisticsStore statisticsStore) {
         this.taskRepository = taskRepository;
         this.statisticsCalculator = statisticsCalculator;
+        this.statisticsStore = statisticsStore;
     }
 
     /**
-     * Gets comprehensive task statistics using optimized repository methods.
+     * Gets comprehensive task statistics from the aggregate counters, which are
+     * only reloaded after task data has changed.
      *
      * @return a map containing various task statistics
      */
-    @Cacheable(value = TaskConstants.CACHE_TASK_ANALYTICS, key = "'all'")
     public Map<String, Object> getTaskStatistics() {
         logDebug("Generating task statistics");
 
-        // Get all tasks and calculate statistics
-        List<Task> allTasks = taskRepository.findAll();
-        Map<String, Object> stats = statisticsCalculator.calculateComprehensiveStats(allTasks);
+        TaskCounters counters = statisticsStore.getCounters();
+        Map<String, Object> stats = statisticsCalculator.calculateComprehensiveStats(counters);
         
             // Convert enum-based maps to enum name maps for API responses
             // Initialize all statuses with 0 count
@@ -91,7 +94,7 @@ public class TaskAnalyticsService extends BaseService {
      * @param endDate the end date
      * @return a map containing task statistics for the date range
      */
-    @Cacheable(value = "taskStats", key = "#startDate + '-' + #endDate")
+    @Cacheable(value = TaskConstants.CACHE_TASK_STATS, key = "#startDate + '-' + #endDate")
     public Map<String, Object> getTaskStatisticsForDateRange(LocalDate startDate, LocalDate endDate) {
         logDebug("Generating task statistics for date range: {} to {}", startDate, endDate);
 
@@ -131,19 +134,15 @@ public class TaskAnalyticsService extends BaseService {
      *
      * @return a map containing productivity metrics
      */
-    @Cacheable(value = "productivityMetrics", key = "'current'")
     public Map<String, Object> getProductivityMetrics() {
         logDebug("Generating productivity metrics");
 
-        // Get all tasks for comprehensive metrics
-        List<Task> allTasks = taskRepository.findAll();
-        
         // Use the statistics calculator for consistent calculations
-        Map<String, Object> metrics = statisticsCalculator.calculateComprehensiveStats(allTasks);
+        TaskCounters counters = statisticsStore.getCounters();
+        Map<String, Object> metrics = statisticsCalculator.calculateComprehensiveStats(counters);
 
         // Add additional metrics
-        long inProgressTasks = taskRepository.countByStatus(Status.IN_PROGRESS);
-        metrics.put("inProgressTasks", inProgressTasks);
+        metrics.put("inProgressTasks", counters.getStatusCount(Status.IN_PROGRESS));
 
         logInfo("Productivity metrics generated: Completion Rate={}%, Overdue Rate={}%", 
                 metrics.get("completionRate"), metrics.get("overdueRate"));
@@ -0,0 +1,313 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.dto.TaskChange;
+import com.example.taskmanagement.dto.TaskChangeNotification;
+import com.example.taskmanagement.listener.TaskChangeSubscriber;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed task changes to server-sent event clients.
+ *
+ * <p>The stream subscribes to the outbox relay, so clients see exactly the
+ * changes that committed, each as a {@code task-change} event whose ID is its
+ * feed position. Every client has a bounded buffer drained by a small shared
+ * sender pool: a slow client never holds up the relay or the other clients.
+ * When a client's buffer fills, its backlog is dropped and it is sent a
+ * {@code resync} event telling it to reload the tasks it shows. A client that
+ * reconnects with {@code Last-Event-ID} is first sent the retained changes
+ * delivered after that event, including any that committed behind it. Idle
+ * connections get a heartbeat comment so proxies keep them open.</p>
+ */
+@Service
+public class TaskChangeStream extends BaseService implements TaskChangeSubscriber, SmartLifecycle {
+
+    public static final String CHANGE_EVENT = "task-change";
+    public static final String RESYNC_EVENT = "resync";
+
+    private static final long RECONNECT_DELAY_MS = 3000;
+
+    private final TaskOutboxRelay taskOutboxRelay;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolTaskScheduler sender;
+
+    private final int maxClients;
+    private final int clientBufferSize;
+    private final long heartbeatIntervalMs;
+    private final long timeoutMs;
+
+    private final Counter overrunCounter;
+
+    private volatile boolean running;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    public TaskChangeStream(TaskOutboxRelay taskOutboxRelay,
+                            ApplicationConfig.ApplicationProperties applicationProperties,
+                            MeterRegistry meterRegistry) {
+        this.taskOutboxRelay = taskOutboxRelay;
+
+        ApplicationConfig.ApplicationProperties.StreamSettings settings = applicationProperties.getStream();
+        this.maxClients = Math.max(0, settings.getMaxClients());
+        this.clientBufferSize = Math.max(1, settings.getClientBufferSize());
+        this.heartbeatIntervalMs = settings.getHeartbeatIntervalMs();
+        this.timeoutMs = settings.getTimeoutMs();
+
+        this.sender = new ThreadPoolTaskScheduler();
+        sender.setPoolSize(Math.max(1, settings.getSenderThreads()));
+        sender.setThreadNamePrefix("task-stream-");
+        sender.setDaemon(true);
+
+        Gauge.builder("task.stream.clients", clients, Set::size)
+            .description("Connected change stream clients")
+            .register(meterRegistry);
+        this.overrunCounter = Counter.builder("task.stream.overruns")
+            .description("Times a change stream client fell a full buffer behind and was told to resync")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens a change stream.
+     *
+     * @param lastEventId the ID of the last event the client received, or {@code null} for a new stream
+     * @return the stream, or empty if the maximum number of clients is connected
+     */
+    public Optional<SseEmitter> subscribe(Long lastEventId) {
+        if (!running || clients.size() >= maxClients) {
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Client client = new Client(emitter, lastEventId != null);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> clients.remove(client));
+        clients.add(client);
+
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(RECONNECT_DELAY_MS).comment("connected"));
+            if (lastEventId != null) {
+                client.catchUp(lastEventId);
+            }
+        } catch (IOException | RuntimeException e) {
+            clients.remove(client);
+            emitter.completeWithError(e);
+            throw e instanceof RuntimeException ? (RuntimeException) e : new IllegalStateException(e);
+        }
+        logDebug("Change stream opened: lastEventId={}, clients={}", lastEventId, clients.size());
+        return Optional.of(emitter);
+    }
+
+    /**
+     * Returns the number of connected clients.
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Queues relayed changes for every connected client. Never blocks on a client.
+     */
+    @Override
+    public void onChanges(List<TaskChange> changes) {
+        for (Client client : clients) {
+            client.offer(changes);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        sender.initialize();
+        if (heartbeatIntervalMs > 0) {
+            sender.scheduleAtFixedRate(this::heartbeat, Duration.ofMillis(heartbeatIntervalMs));
+        }
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Client client : clients) {
+            client.emitter.complete();
+        }
+        clients.clear();
+        sender.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void heartbeat() {
+        for (Client client : clients) {
+            client.heartbeatDue = true;
+            client.scheduleDrain();
+        }
+    }
+
+    /**
+     * One connected client: its emitter, its bounded buffer and the state of its drain.
+     */
+    private final class Client {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<TaskChange> buffer = new ArrayBlockingQueue<>(clientBufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        // Live changes that arrive while a reconnecting client is still catching up
+        private List<TaskChange> held;
+
+        private volatile boolean resyncDue;
+        private volatile boolean heartbeatDue;
+
+        Client(SseEmitter emitter, boolean catchingUp) {
+            this.emitter = emitter;
+            this.held = catchingUp ? new ArrayList<>() : null;
+        }
+
+        void offer(List<TaskChange> changes) {
+            synchronized (this) {
+                if (held != null) {
+                    held.addAll(changes);
+                    if (held.size() > clientBufferSize) {
+                        held.clear();
+                        overrun();
+                    }
+                    return;
+                }
+                for (TaskChange change : changes) {
+                    enqueue(change);
+                }
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Queues the retained changes delivered after the one at a position,
+         * then the live changes held back meanwhile, skipping any the replay
+         * already covered.
+         */
+        void catchUp(long lastPosition) {
+            Set<Long> replayed = new HashSet<>();
+            try {
+                taskOutboxRelay.replayDeliveredAfter(lastPosition, changes -> {
+                    for (TaskChange change : changes) {
+                        if (!buffer.offer(change)) {
+                            throw new ReplayOverrunException();
+                        }
+                        replayed.add(change.getPosition());
+                    }
+                });
+            } catch (ReplayOverrunException e) {
+                overrun();
+            }
+            synchronized (this) {
+                for (TaskChange change : held) {
+                    if (!replayed.contains(change.getPosition())) {
+                        enqueue(change);
+                    }
+                }
+                held = null;
+            }
+            scheduleDrain();
+        }
+
+        private void enqueue(TaskChange change) {
+            if (!buffer.offer(change)) {
+                overrun();
+                buffer.offer(change);
+            }
+        }
+
+        private void overrun() {
+            buffer.clear();
+            resyncDue = true;
+            overrunCounter.increment();
+        }
+
+        void scheduleDrain() {
+            if (running && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    sendPending();
+                    draining.set(false);
+                } while ((resyncDue || !buffer.isEmpty()) && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // The client has gone; the container completes the emitter
+                clients.remove(this);
+                logDebug("Change stream closed: {}", e.getMessage());
+            }
+        }
+
+        private void sendPending() throws IOException {
+            boolean sent = false;
+            TaskChange change;
+            do {
+                if (resyncDue) {
+                    resyncDue = false;
+                    emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(RESYNC_EVENT));
+                    sent = true;
+                }
+                change = buffer.poll();
+                if (change != null) {
+                    emitter.send(SseEmitter.event()
+                        .id(Long.toString(change.getPosition()))
+                        .name(CHANGE_EVENT)
+                        .data(TaskChangeNotification.of(change), MediaType.APPLICATION_JSON));
+                    sent = true;
+                }
+            } while (change != null);
+
+            if (heartbeatDue) {
+                heartbeatDue = false;
+                if (!sent) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops a replay once the client's buffer is full.
+     */
+    private static final class ReplayOverrunException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ReplayOverrunException() {
+            super(null, null, false, false);
+        }
+    }
+}
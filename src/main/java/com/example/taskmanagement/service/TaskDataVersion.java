@@ -0,0 +1,79 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.event.TaskBulkStatusChangedEvent;
+import com.example.taskmanagement.event.TaskCompletedEvent;
+import com.example.taskmanagement.event.TaskCreatedEvent;
+import com.example.taskmanagement.event.TaskDeletedEvent;
+import com.example.taskmanagement.event.TaskUpdatedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing version of the task data as a whole.
+ *
+ * <p>Every committed task change advances the version. Caches that embed the
+ * version in their keys are invalidated by the bump alone: entries written
+ * under an older version are simply never read again and age out.</p>
+ *
+ * <p>The version advances after commit, so a reader that captures it before
+ * querying can never file pre-commit results under the post-commit version.</p>
+ *
+ * <p>The version restarts with the process, so {@link #tag()} qualifies it
+ * with the start time for validators that outlive a restart, such as ETags.</p>
+ */
+@Service
+public class TaskDataVersion {
+
+    private final AtomicLong version = new AtomicLong();
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+
+    /**
+     * Returns the current version.
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Returns the current version qualified with the process start, so tags
+     * taken before a restart never match the data after it.
+     */
+    public String tag() {
+        return epoch + "-" + Long.toHexString(current());
+    }
+
+    /**
+     * Advances the version, so entries cached under the previous one are no
+     * longer read.
+     */
+    void advance() {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTaskCreated(TaskCreatedEvent event) {
+        advance();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTaskUpdated(TaskUpdatedEvent event) {
+        advance();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTaskCompleted(TaskCompletedEvent event) {
+        advance();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTaskDeleted(TaskDeletedEvent event) {
+        advance();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBulkStatusChanged(TaskBulkStatusChangedEvent event) {
+        advance();
+    }
+}
@@ -0,0 +1,355 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.dto.TaskChange;
+import com.example.taskmanagement.entity.TaskOutboxEntry;
+import com.example.taskmanagement.event.TaskBulkStatusChangedEvent;
+import com.example.taskmanagement.event.TaskCompletedEvent;
+import com.example.taskmanagement.event.TaskCreatedEvent;
+import com.example.taskmanagement.event.TaskDeletedEvent;
+import com.example.taskmanagement.event.TaskUpdatedEvent;
+import com.example.taskmanagement.listener.TaskChangeSubscriber;
+import com.example.taskmanagement.repository.TaskOutboxRepository;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers committed outbox entries to every {@link TaskChangeSubscriber}.
+ *
+ * <p>A background thread polls for undelivered entries, hands each batch to
+ * the subscribers in feed order and marks the batch delivered in the same
+ * transaction. A failing subscriber rolls the batch back, so it is delivered
+ * again on the next poll. The thread is woken as soon as a task change commits;
+ * the poll interval only bounds the delay for changes it misses. Delivered
+ * entries are kept for the retention period so a read model can catch up with
+ * {@link #replay(long, TaskChangeSubscriber)} instead of scanning every task.</p>
+ */
+@Service
+public class TaskOutboxRelay extends BaseService implements SmartLifecycle {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final TaskOutboxRepository taskOutboxRepository;
+    private final ObjectProvider<TaskChangeSubscriber> subscribers;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final int retentionHours;
+
+    private final Object relayLock = new Object();
+    private final AtomicLong lastPosition = new AtomicLong();
+    private LocalDateTime lastDeliveredAt = LocalDateTime.MIN; // Guarded by relayLock
+
+    private final Timer batchTimer;
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private volatile Thread relayThread;
+    private long lastPurgeNanos = System.nanoTime();
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    public TaskOutboxRelay(TaskOutboxRepository taskOutboxRepository,
+                           ObjectProvider<TaskChangeSubscriber> subscribers,
+                           PlatformTransactionManager transactionManager,
+                           ApplicationConfig.ApplicationProperties applicationProperties,
+                           MeterRegistry meterRegistry) {
+        this.taskOutboxRepository = taskOutboxRepository;
+        this.subscribers = subscribers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        ApplicationConfig.ApplicationProperties.OutboxSettings settings = applicationProperties.getOutbox();
+        this.enabled = settings.isEnabled();
+        this.batchSize = Math.max(1, settings.getBatchSize());
+        this.pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, settings.getPollIntervalMs()));
+        this.retentionHours = Math.max(0, settings.getRetentionHours());
+
+        Gauge.builder("task.outbox.position", lastPosition, AtomicLong::get)
+            .description("Feed position of the last delivered outbox entry")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("task.outbox.relay.latency")
+            .description("Time taken to deliver one batch of outbox entries")
+            .register(meterRegistry);
+        this.relayedCounter = meterRegistry.counter("task.outbox.relayed");
+        this.failedCounter = meterRegistry.counter("task.outbox.relay.failures");
+    }
+
+    /**
+     * Wakes the relay once a task change has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true, classes = {
+        TaskCreatedEvent.class, TaskUpdatedEvent.class, TaskCompletedEvent.class,
+        TaskDeletedEvent.class, TaskBulkStatusChangedEvent.class
+    })
+    public void wakeAfterCommit() {
+        Thread thread = relayThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Delivers every undelivered entry on the calling thread.
+     *
+     * @return the number of entries delivered
+     */
+    public int relayPending() {
+        synchronized (relayLock) {
+            int total = 0;
+            int relayed;
+            do {
+                relayed = relayBatch();
+                total += relayed;
+            } while (relayed == batchSize);
+            return total;
+        }
+    }
+
+    /**
+     * Hands every retained entry after a feed position to one subscriber,
+     * whether or not the relay has delivered it yet.
+     *
+     * <p>Positions are allocated when a change is written, not when it commits,
+     * so an entry from a slower transaction can commit behind a later position.
+     * Read models that must not miss such entries should replay from a position
+     * a little before their last one and ignore duplicates, or resume from the
+     * last entry they were delivered with {@link #replayDeliveredAfter}.</p>
+     *
+     * @param afterPosition the last position the subscriber has seen
+     * @param subscriber the subscriber to catch up
+     * @return the position of the last entry delivered, or {@code afterPosition} if there were none
+     */
+    public long replay(long afterPosition, TaskChangeSubscriber subscriber) {
+        long position = afterPosition;
+        List<TaskOutboxEntry> entries;
+        do {
+            entries = taskOutboxRepository.findByIdGreaterThanOrderByIdAsc(position, PageRequest.of(0, batchSize));
+            if (!entries.isEmpty()) {
+                List<TaskChange> changes = toChanges(entries);
+                subscriber.onChanges(changes);
+                position = changes.get(changes.size() - 1).getPosition();
+            }
+        } while (entries.size() == batchSize);
+        return position;
+    }
+
+    /**
+     * Hands a subscriber that was last delivered the entry at a position every
+     * retained entry delivered after it, in delivery order, followed by the
+     * entries not delivered yet.
+     *
+     * <p>Unlike {@link #replay}, this does not miss an entry that committed
+     * behind the given position after the subscriber saw it: the relay
+     * delivers that entry later, so it follows in delivery order. An
+     * undelivered entry may also reach the subscriber through the relay.
+     * If the entry at the position is no longer retained or was never
+     * delivered, this falls back to {@link #replay}.</p>
+     *
+     * @param position the position of the last entry the subscriber was delivered
+     * @param subscriber the subscriber to catch up
+     */
+    public void replayDeliveredAfter(long position, TaskChangeSubscriber subscriber) {
+        LocalDateTime deliveredAt = taskOutboxRepository.findById(position)
+            .map(TaskOutboxEntry::getProcessedAt)
+            .orElse(null);
+        if (deliveredAt == null) {
+            replay(position, subscriber);
+            return;
+        }
+
+        long afterId = position;
+        List<TaskOutboxEntry> entries;
+        do {
+            entries = taskOutboxRepository.findDeliveredAfter(deliveredAt, afterId, PageRequest.of(0, batchSize));
+            if (!entries.isEmpty()) {
+                subscriber.onChanges(toChanges(entries));
+                TaskOutboxEntry last = entries.get(entries.size() - 1);
+                deliveredAt = last.getProcessedAt();
+                afterId = last.getId();
+            }
+        } while (entries.size() == batchSize);
+
+        // Entries being delivered right now are not marked yet
+        long afterPosition = 0;
+        do {
+            entries = taskOutboxRepository.findByProcessedAtIsNullAndIdGreaterThanOrderByIdAsc(afterPosition,
+                PageRequest.of(0, batchSize));
+            if (!entries.isEmpty()) {
+                subscriber.onChanges(toChanges(entries));
+                afterPosition = entries.get(entries.size() - 1).getId();
+            }
+        } while (entries.size() == batchSize);
+    }
+
+    /**
+     * Returns whether the entry at a feed position is still retained and has
+     * been delivered, so {@link #replayDeliveredAfter} can resume from it
+     * without falling back to {@link #replay}.
+     *
+     * @param position the feed position
+     * @return whether a subscriber can resume from the position
+     */
+    public boolean isDelivered(long position) {
+        return taskOutboxRepository.findById(position)
+            .map(entry -> entry.getProcessedAt() != null)
+            .orElse(false);
+    }
+
+    /**
+     * Returns the highest feed position delivered since the relay started,
+     * or 0 if nothing has been delivered yet.
+     */
+    public long getLastDeliveredPosition() {
+        return lastPosition.get();
+    }
+
+    /**
+     * Returns the number of entries waiting to be delivered.
+     */
+    public long getPendingCount() {
+        return taskOutboxRepository.countByProcessedAtIsNull();
+    }
+
+    /**
+     * Deletes delivered entries older than the retention period.
+     *
+     * @return the number of entries deleted
+     */
+    public int purgeDelivered() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(status -> taskOutboxRepository.deleteProcessedBefore(cutoff));
+        return deleted != null ? deleted : 0;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !enabled) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runRelay, "outbox-relay");
+        thread.setDaemon(true);
+        relayThread = thread;
+        thread.start();
+        logInfo("Outbox relay started: batchSize={}, pollIntervalMs={}", batchSize,
+            TimeUnit.NANOSECONDS.toMillis(pollIntervalNanos));
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = relayThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(SHUTDOWN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        relayThread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runRelay() {
+        while (running) {
+            LockSupport.parkNanos(this, pollIntervalNanos);
+            if (!running) {
+                break;
+            }
+            try {
+                relayPending();
+                purgeIfDue();
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                logError("Outbox relay failed; retrying on the next poll", e);
+            }
+        }
+    }
+
+    private int relayBatch() {
+        long start = System.nanoTime();
+        List<TaskChange> relayed = transactionTemplate.execute(status -> {
+            List<TaskOutboxEntry> entries =
+                taskOutboxRepository.findByProcessedAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+            List<TaskChange> changes = toChanges(entries);
+            if (changes.isEmpty()) {
+                return changes;
+            }
+            subscribers.orderedStream().forEach(subscriber -> subscriber.onChanges(changes));
+
+            List<Long> ids = new ArrayList<>(changes.size());
+            for (TaskChange change : changes) {
+                ids.add(change.getPosition());
+            }
+            taskOutboxRepository.markProcessed(ids, nextDeliveryTime());
+            return changes;
+        });
+        if (relayed == null || relayed.isEmpty()) {
+            return 0;
+        }
+        lastPosition.accumulateAndGet(relayed.get(relayed.size() - 1).getPosition(), Math::max);
+        relayedCounter.increment(relayed.size());
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return relayed.size();
+    }
+
+    /**
+     * Returns a delivery time later than every earlier batch's, so batches
+     * never share one even when the clock has not moved on.
+     */
+    private LocalDateTime nextDeliveryTime() {
+        LocalDateTime now = LocalDateTime.now();
+        lastDeliveredAt = now.isAfter(lastDeliveredAt) ? now : lastDeliveredAt.plus(1, ChronoUnit.MICROS);
+        return lastDeliveredAt;
+    }
+
+    private void purgeIfDue() {
+        long now = System.nanoTime();
+        if (now - lastPurgeNanos >= PURGE_INTERVAL_NANOS) {
+            lastPurgeNanos = now;
+            int deleted = purgeDelivered();
+            if (deleted > 0) {
+                logDebug("Purged {} delivered outbox entries", deleted);
+            }
+        }
+    }
+
+    private static List<TaskChange> toChanges(List<TaskOutboxEntry> entries) {
+        List<TaskChange> changes = new ArrayList<>(entries.size());
+        for (TaskOutboxEntry entry : entries) {
+            changes.add(TaskChange.of(entry));
+        }
+        return changes;
+    }
+}
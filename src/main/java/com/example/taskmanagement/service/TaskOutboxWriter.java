@@ -0,0 +1,105 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.dto.TaskSnapshot;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.entity.TaskOutboxEntry;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.enums.TaskChangeAction;
+import com.example.taskmanagement.event.TaskBulkStatusChangedEvent;
+import com.example.taskmanagement.event.TaskCompletedEvent;
+import com.example.taskmanagement.event.TaskCreatedEvent;
+import com.example.taskmanagement.event.TaskDeletedEvent;
+import com.example.taskmanagement.event.TaskUpdatedEvent;
+import com.example.taskmanagement.repository.TaskOutboxRepository;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records task changes in the outbox inside the transaction that makes them.
+ *
+ * <p>Handlers run just before the publishing transaction commits, so an entry
+ * is committed exactly when its change is, and a rolled-back change leaves no
+ * entry behind. {@link TaskOutboxRelay} delivers the entries afterwards.</p>
+ */
+@Service
+public class TaskOutboxWriter extends BaseService {
+
+    private final TaskOutboxRepository taskOutboxRepository;
+    private final boolean enabled;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    public TaskOutboxWriter(TaskOutboxRepository taskOutboxRepository,
+                            ApplicationConfig.ApplicationProperties applicationProperties) {
+        this.taskOutboxRepository = taskOutboxRepository;
+        this.enabled = applicationProperties.getOutbox().isEnabled();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleTaskCreated(TaskCreatedEvent event) {
+        record(event.getTask(), TaskChangeAction.CREATED, event.getTimestamp());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleTaskUpdated(TaskUpdatedEvent event) {
+        record(event.getTask(), TaskChangeAction.UPDATED, event.getTimestamp());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleTaskCompleted(TaskCompletedEvent event) {
+        record(event.getTask(), TaskChangeAction.COMPLETED, event.getTimestamp());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleTaskDeleted(TaskDeletedEvent event) {
+        List<TaskOutboxEntry> entries = new ArrayList<>(event.getDeletedTasks().size());
+        for (TaskSnapshot deleted : event.getDeletedTasks()) {
+            entries.add(new TaskOutboxEntry(deleted.getId(), TaskChangeAction.DELETED, null, deleted.getVersion(),
+                event.getTimestamp()));
+        }
+        save(entries);
+    }
+
+    /**
+     * Handles bulk status changes, including bulk completion.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleBulkStatusChanged(TaskBulkStatusChangedEvent event) {
+        Status newStatus = event.getNewStatus();
+        TaskChangeAction action = newStatus == Status.COMPLETED ? TaskChangeAction.COMPLETED : TaskChangeAction.UPDATED;
+        List<TaskOutboxEntry> entries = new ArrayList<>(event.getPreviousStates().size());
+        for (TaskSnapshot previous : event.getPreviousStates()) {
+            // The set-based update bumped each version by one after the snapshot was taken
+            Long version = previous.getVersion() != null ? previous.getVersion() + 1 : null;
+            entries.add(new TaskOutboxEntry(previous.getId(), action, newStatus, version, event.getTimestamp()));
+        }
+        save(entries);
+    }
+
+    private void record(Task task, TaskChangeAction action, LocalDateTime occurredAt) {
+        if (!enabled) {
+            return;
+        }
+        // A pending update only increments the task's version once it is flushed
+        taskOutboxRepository.flush();
+        save(Collections.singletonList(
+            new TaskOutboxEntry(task.getId(), action, task.getStatus(), task.getVersion(), occurredAt)));
+    }
+
+    private void save(List<TaskOutboxEntry> entries) {
+        if (!enabled || entries.isEmpty()) {
+            return;
+        }
+        taskOutboxRepository.saveAll(entries);
+        logDebug("Recorded {} task changes in the outbox", entries.size());
+    }
+}
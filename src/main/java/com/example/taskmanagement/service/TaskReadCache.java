@@ -0,0 +1,209 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.config.CaffeineCacheFactory;
+import com.example.taskmanagement.constants.TaskConstants;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.util.TaskConverter;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-through cache for single task lookups.
+ *
+ * <p>Concurrent misses for the same ID share one in-flight database load
+ * instead of each querying the database. Entries older than the refresh
+ * interval are reloaded in the background on their next read, so hot tasks
+ * are served from memory while the refresh runs and never expire under load.
+ * Missing tasks are not cached.</p>
+ *
+ * <p>Writes go through to the cache once their transaction commits: single
+ * task writes replace the entry with the fresh response and bulk writes
+ * touch only the affected IDs, so hot entries survive write-heavy load and
+ * a rolled-back write never reaches the cache.</p>
+ *
+ * <p>The cache is sized from the {@code tasks} cache spec and registered with
+ * the application cache manager, so it is monitored and cleared like any
+ * other cache.</p>
+ */
+@Component
+public class TaskReadCache extends BaseService implements DisposableBean {
+
+    private final TaskRepository taskRepository;
+    private final TaskConverter taskConverter;
+    private final ExecutorService loaderExecutor;
+    private final AsyncLoadingCache<Long, TaskResponse> cache;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    @SuppressWarnings("unchecked")
+    public TaskReadCache(TaskRepository taskRepository,
+                         TaskConverter taskConverter,
+                         ApplicationConfig.ApplicationProperties applicationProperties,
+                         CaffeineCacheFactory cacheFactory,
+                         CaffeineCacheManager cacheManager) {
+        this.taskRepository = taskRepository;
+        this.taskConverter = taskConverter;
+
+        ApplicationConfig.ApplicationProperties.CacheSettings settings = applicationProperties.getCache();
+        this.loaderExecutor = Executors.newFixedThreadPool(
+            Math.max(1, settings.getLoaderThreads()), new LoaderThreadFactory());
+
+        this.cache = cacheFactory.newBuilder(TaskConstants.CACHE_TASKS)
+            .executor(loaderExecutor)
+            .refreshAfterWrite(settings.getRefreshAfterWriteSeconds(), TimeUnit.SECONDS)
+            .buildAsync(this::load);
+
+        Cache<Long, TaskResponse> view = cache.synchronous();
+        cacheFactory.monitor(TaskConstants.CACHE_TASKS, view);
+        cacheManager.registerCustomCache(TaskConstants.CACHE_TASKS, (Cache<Object, Object>) (Cache<?, ?>) view);
+    }
+
+    /**
+     * Returns the task with the given ID, loading it at most once however
+     * many callers miss on it at the same time.
+     *
+     * @param id the task ID
+     * @return the task response if the task exists
+     */
+    public Optional<TaskResponse> get(Long id) {
+        try {
+            return Optional.ofNullable(cache.get(id).join());
+        } catch (CompletionException e) {
+            // Rethrow the loader's own exception rather than the wrapper
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the cached response without loading or waiting for a load.
+     *
+     * @param id the task ID
+     * @return the cached task response, if one is present and loaded
+     */
+    public Optional<TaskResponse> getIfPresent(Long id) {
+        return Optional.ofNullable(cache.synchronous().getIfPresent(id));
+    }
+
+    /**
+     * Stores the given response once the current transaction commits,
+     * or immediately when no transaction is active.
+     * Replaces any in-flight load or refresh for the same task.
+     *
+     * @param response the fresh task response
+     */
+    public void putAfterCommit(TaskResponse response) {
+        putAllAfterCommit(Collections.singletonList(response));
+    }
+
+    /**
+     * Stores the given responses once the current transaction commits,
+     * or immediately when no transaction is active.
+     *
+     * @param responses the fresh task responses
+     */
+    public void putAllAfterCommit(List<TaskResponse> responses) {
+        afterCommit(() -> responses.forEach(this::put));
+    }
+
+    /**
+     * Discards the cached entries for the given tasks once the current
+     * transaction commits, or immediately when no transaction is active.
+     *
+     * @param ids the task IDs
+     */
+    public void evictAfterCommit(Collection<Long> ids) {
+        afterCommit(() -> cache.synchronous().invalidateAll(ids));
+    }
+
+    /**
+     * Discards the cached entry for a task immediately.
+     * Used when the entry is known to be stale, even if the current transaction rolls back.
+     *
+     * @param id the task ID
+     */
+    public void evict(Long id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    /**
+     * Discards every cached response. The service only ever evicts the tasks
+     * it changed; emptying the whole cache is for tests that reset the table.
+     */
+    void clear() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private void put(TaskResponse response) {
+        if (response != null && response.getId() != null) {
+            cache.put(response.getId(), CompletableFuture.completedFuture(response));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        loaderExecutor.shutdownNow();
+    }
+
+    /**
+     * Loads and converts one task; runs on the loader pool, never on the caller.
+     * Returning null leaves nothing in the cache.
+     */
+    private TaskResponse load(Long id) {
+        logDebug("Loading task into read cache: ID={}", id);
+        return taskRepository.findById(id)
+            .map(taskConverter::convertToResponse)
+            .orElse(null);
+    }
+
+    /**
+     * Names the loader threads and keeps them from blocking shutdown.
+     */
+    private static final class LoaderThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "task-cache-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,836 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.dto.TaskChange;
+import com.example.taskmanagement.dto.TaskSearchRequest;
+import com.example.taskmanagement.dto.TaskSnapshot;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.event.TaskBulkStatusChangedEvent;
+import com.example.taskmanagement.event.TaskCompletedEvent;
+import com.example.taskmanagement.event.TaskCreatedEvent;
+import com.example.taskmanagement.event.TaskDeletedEvent;
+import com.example.taskmanagement.event.TaskUpdatedEvent;
+import com.example.taskmanagement.listener.TaskChangeSubscriber;
+import com.example.taskmanagement.repository.TaskRepository;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Embedded Lucene full-text index over task titles, descriptions and notes.
+ *
+ * <p>Replaces {@code LIKE '%term%'} scans for searches with a search term.
+ * Every query word matches whole words or word prefixes in any of the three
+ * fields; title matches weigh most and exact words outrank prefixes. Status,
+ * priority and due date filters are applied inside the index, so a search
+ * never touches rows it does not return. Scrolled listings with a search term
+ * page through the same matches by creation time and ID.</p>
+ *
+ * <p>The index lives on disk under {@code app.search.index-path}, or in memory
+ * when the path is empty. It is kept in step with task events after commit,
+ * before the search cache moves to the new {@link TaskDataVersion}, so a
+ * search sees a change as soon as it has committed. It also subscribes to the
+ * task change feed and reindexes each relayed task from its committed row,
+ * tracking the feed position of the last batch it was delivered.</p>
+ *
+ * <p>Changes to an on-disk index are committed every
+ * {@code app.search.commit-interval-ms}, each commit recording that feed
+ * position and the latest task update it holds. On startup an index whose
+ * position is still retained in the outbox catches up with
+ * {@link TaskOutboxRelay#replayDeliveredAfter} instead of scanning every task.
+ * Otherwise it is reused only if its watermark and document count both match
+ * the database, and rebuilt if not. It is also rebuilt whenever it has been
+ * marked stale, or on demand.</p>
+ */
+@Service
+public class TaskSearchIndex extends BaseService implements TaskChangeSubscriber, DisposableBean {
+
+    /** Sort name that orders search results by relevance. */
+    public static final String SORT_RELEVANCE = "relevance";
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_DESCRIPTION = "description";
+    static final String FIELD_NOTES = "notes";
+    static final String FIELD_STATUS = "status";
+    static final String FIELD_PRIORITY = "priority";
+    static final String FIELD_DUE_DATE = "dueDate";
+    static final String FIELD_CREATED_AT = "createdAt";
+    static final String FIELD_UPDATED_AT = "updatedAt";
+    static final String FIELD_TITLE_SORT = "titleSort";
+    static final String FIELD_ID_SORT = "idSort";
+
+    private static final float TITLE_BOOST = 3.0f;
+    private static final float DESCRIPTION_BOOST = 1.0f;
+    private static final float NOTES_BOOST = 0.5f;
+    /** Prefix matches score a constant fraction of the field boost, below any exact match. */
+    private static final float PREFIX_FACTOR = 0.5f;
+
+    /** Keyset order of scrolled slices, matching the database's ORDER BY createdAt DESC, id DESC. */
+    private static final Sort SCROLL_SORT = new Sort(
+        longSortField(FIELD_CREATED_AT, true), longSortField(FIELD_ID_SORT, true));
+
+    /** Commit user data key holding the latest task update the commit includes, in epoch millis. */
+    static final String COMMIT_UPDATED_AT = "updatedAt";
+    /** Commit user data key holding the feed position of the last change batch the commit includes. */
+    static final String COMMIT_POSITION = "position";
+    private static final long NO_UPDATES = Long.MIN_VALUE;
+    private static final long NO_POSITION = 0;
+    private static final long COMMIT_SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final TaskRepository taskRepository;
+    private final TaskOutboxRelay outboxRelay;
+    private final boolean enabled;
+    private final String indexPath;
+    private final int rebuildBatchSize;
+
+    private final Analyzer analyzer;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ScheduledExecutorService committer;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    /** Odd while a rebuild runs; a search spanning any change saw a partial index. */
+    private final AtomicLong rebuildGeneration = new AtomicLong();
+    private final Object commitLock = new Object();
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private final AtomicBoolean uncommitted = new AtomicBoolean();
+    private final AtomicLong indexedUpdatedAt = new AtomicLong(NO_UPDATES);
+    private final AtomicLong indexedPosition = new AtomicLong(NO_POSITION);
+    /** False until startup has settled where the index stands in the feed. */
+    private volatile boolean trackingPosition;
+    private volatile boolean stale = true;
+
+    @Autowired
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring DI pattern - framework manages object lifecycle")
+    public TaskSearchIndex(TaskRepository taskRepository, TaskOutboxRelay outboxRelay,
+                           ApplicationConfig.ApplicationProperties applicationProperties) throws IOException {
+        this.taskRepository = taskRepository;
+        this.outboxRelay = outboxRelay;
+
+        ApplicationConfig.ApplicationProperties.SearchSettings settings = applicationProperties.getSearch();
+        this.enabled = settings.isEnabled();
+        this.indexPath = settings.getIndexPath() != null ? settings.getIndexPath().trim() : "";
+        this.rebuildBatchSize = Math.max(1, settings.getRebuildBatchSize());
+
+        if (!enabled) {
+            this.analyzer = null;
+            this.directory = null;
+            this.writer = null;
+            this.searcherManager = null;
+            this.committer = null;
+            return;
+        }
+
+        this.analyzer = new StandardAnalyzer();
+        this.directory = indexPath.isEmpty() ? new ByteBuffersDirectory() : FSDirectory.open(Paths.get(indexPath));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+            .setRAMBufferSizeMB(settings.getRamBufferMb());
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+
+        if (indexPath.isEmpty() || settings.getCommitIntervalMs() <= 0) {
+            this.committer = null;
+        } else {
+            this.committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "task-search-commit");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = settings.getCommitIntervalMs();
+            committer.scheduleWithFixedDelay(this::commitQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Catches the index left by the previous run up from the change feed when
+     * the feed still holds its last position. Otherwise reuses it when its
+     * last commit holds one document per task and includes the latest task
+     * update, and rebuilds it if not.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Map<String, Long> committed = committedData();
+        Long committedUpdate = committed.get(COMMIT_UPDATED_AT);
+        Long committedPosition = committed.get(COMMIT_POSITION);
+        if (committedPosition != null && outboxRelay.isDelivered(committedPosition)) {
+            indexedUpdatedAt.set(committedUpdate != null ? committedUpdate : NO_UPDATES);
+            indexedPosition.set(committedPosition);
+            stale = false;
+            // Batches the relay hands over meanwhile are applied but must not move the position past this replay
+            outboxRelay.replayDeliveredAfter(committedPosition, changes -> apply(changes, true));
+            trackingPosition = true;
+            logInfo("Search index at {} caught up from feed position {}: {} documents",
+                location(), committedPosition, documentCount());
+            return;
+        }
+
+        long tasks = taskRepository.count();
+        long documents = documentCount();
+        long latestUpdate = toMillis(taskRepository.findMaxUpdatedAt());
+        if (tasks == documents && committedUpdate != null && committedUpdate == latestUpdate) {
+            indexedUpdatedAt.set(committedUpdate);
+            stale = false;
+            trackingPosition = true;
+            logInfo("Search index at {} is current: {} documents", location(), documents);
+        } else {
+            logInfo("Search index holds {} documents up to {} for {} tasks up to {}, rebuilding",
+                documents, committedUpdate, tasks, latestUpdate);
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns whether the index is in use.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns whether the index will be rebuilt before the next search.
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * Returns where the index is kept.
+     */
+    public String location() {
+        return indexPath.isEmpty() ? "memory" : indexPath;
+    }
+
+    /**
+     * Returns the number of indexed tasks.
+     */
+    public long documentCount() {
+        if (!enabled) {
+            return 0;
+        }
+        try {
+            IndexSearcher searcher = acquireSearcher();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read search index", e);
+        }
+    }
+
+    /**
+     * Marks the index as out of date, so searches fall back to the database
+     * until the next search has rebuilt it. Production changes reach the index
+     * through the change feed; this is for tests that delete rows directly.
+     */
+    void markStale() {
+        stale = true;
+    }
+
+    /**
+     * Rebuilds the index from the database in ID-ordered batches.
+     * Each batch is read and indexed under the index lock, so a change
+     * committed while the rebuild runs is never overwritten by older data.
+     * The index counts as stale until the rebuild commits, so searches in the
+     * meantime are answered from the database instead of a partial index.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            logInfo("Rebuilding search index at {}", location());
+            long started = System.nanoTime();
+            stale = true;
+            rebuildGeneration.incrementAndGet();
+            try {
+                synchronized (this) {
+                    writer.deleteAll();
+                    indexedUpdatedAt.set(NO_UPDATES);
+                    // Everything delivered so far has committed, so the batches below include it
+                    indexedPosition.set(outboxRelay.getLastDeliveredPosition());
+                    trackingPosition = true;
+                }
+                long indexed = 0;
+                Long afterId = 0L;
+                while (afterId != null) {
+                    synchronized (this) {
+                        List<Task> batch = taskRepository.findIndexBatchAfter(afterId,
+                            PageRequest.of(0, rebuildBatchSize));
+                        for (Task task : batch) {
+                            index(task);
+                        }
+                        indexed += batch.size();
+                        afterId = batch.size() < rebuildBatchSize ? null : batch.get(batch.size() - 1).getId();
+                    }
+                }
+                commit();
+                searcherManager.maybeRefreshBlocking();
+                stale = false;
+                logInfo("Search index rebuilt: {} tasks in {} ms", indexed,
+                    (System.nanoTime() - started) / 1_000_000);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to rebuild search index", e);
+            } finally {
+                rebuildGeneration.incrementAndGet();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Searches the index for tasks matching the request's search term and filters.
+     *
+     * @param searchRequest the search criteria
+     * @return the IDs of the requested page of matches, in result order; empty
+     *         if the index is disabled, the request has no indexable search term,
+     *         or another caller is rebuilding the index
+     */
+    public Optional<Page<Long>> search(TaskSearchRequest searchRequest) {
+        return whenCurrent(searchRequest, query -> searchIndex(query, searchRequest));
+    }
+
+    /**
+     * Finds the slice of tasks matching the request's search term and filters
+     * that follows the given position, newest first. Seeks past the position
+     * with {@code searchAfter}, so every slice costs the same as the first.
+     * Page number and sort settings in the request are ignored.
+     *
+     * @param searchRequest the search criteria
+     * @param createdAt creation time of the last task already returned, or null for the first slice
+     * @param id ID of the last task already returned, or null for the first slice
+     * @param limit the maximum number of IDs to return
+     * @return the IDs of the slice ordered by creation time and ID, descending;
+     *         empty under the same conditions as {@link #search}
+     */
+    public Optional<List<Long>> scroll(TaskSearchRequest searchRequest, LocalDateTime createdAt, Long id, int limit) {
+        return whenCurrent(searchRequest, query -> scrollIndex(query, createdAt, id, limit));
+    }
+
+    /**
+     * Runs a query built from the request against a current index, or returns
+     * empty when the index cannot answer it.
+     */
+    private <T> Optional<T> whenCurrent(TaskSearchRequest searchRequest, IndexQuery<T> indexQuery) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        List<String> terms = analyze(searchRequest.getSearchTerm());
+        if (terms.isEmpty()) {
+            return Optional.empty();
+        }
+        if (stale && !rebuildIfStale()) {
+            return Optional.empty();
+        }
+
+        long generation = rebuildGeneration.get();
+        if (isRebuilding(generation)) {
+            return Optional.empty();
+        }
+        T hits;
+        try {
+            hits = indexQuery.run(buildQuery(terms, searchRequest));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to search task index", e);
+        }
+        // A rebuild that started meanwhile may have shown this search a partial index
+        return rebuildGeneration.get() == generation ? Optional.of(hits) : Optional.empty();
+    }
+
+    /**
+     * Rebuilds a stale index on the calling thread, unless another caller is
+     * already rebuilding it.
+     *
+     * @return whether the index is current
+     */
+    private boolean rebuildIfStale() {
+        if (!rebuildLock.tryLock()) {
+            return false;
+        }
+        try {
+            if (stale) {
+                rebuild();
+            }
+            return true;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static boolean isRebuilding(long generation) {
+        return (generation & 1) != 0;
+    }
+
+    private Page<Long> searchIndex(Query query, TaskSearchRequest searchRequest) throws IOException {
+        PageRequest pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize());
+        IndexSearcher searcher = acquireSearcher();
+        try {
+            int total = searcher.count(query);
+            long offset = pageable.getOffset();
+            if (offset >= total) {
+                return new PageImpl<>(Collections.emptyList(), pageable, total);
+            }
+
+            int wanted = (int) Math.min(total, offset + pageable.getPageSize());
+            TopDocs topDocs = searcher.search(query, wanted, sortFor(searchRequest));
+            List<Long> ids = new ArrayList<>(wanted - (int) offset);
+            for (int i = (int) offset; i < topDocs.scoreDocs.length; i++) {
+                ids.add(idOf(searcher, topDocs.scoreDocs[i]));
+            }
+            return new PageImpl<>(ids, pageable, total);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private List<Long> scrollIndex(Query query, LocalDateTime createdAt, Long id, int limit) throws IOException {
+        IndexSearcher searcher = acquireSearcher();
+        try {
+            TopDocs topDocs;
+            if (createdAt == null || id == null) {
+                topDocs = searcher.search(query, limit, SCROLL_SORT);
+            } else {
+                // Sort values are unique per task, so the document number never breaks a tie
+                FieldDoc after = new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[]{toMillis(createdAt), id});
+                topDocs = searcher.searchAfter(after, query, limit, SCROLL_SORT);
+            }
+            List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc hit : topDocs.scoreDocs) {
+                ids.add(idOf(searcher, hit));
+            }
+            return ids;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private static Long idOf(IndexSearcher searcher, ScoreDoc hit) throws IOException {
+        return Long.valueOf(searcher.doc(hit.doc).get(FIELD_ID));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTaskCreated(TaskCreatedEvent event) {
+        upsert(Collections.singletonList(event.getTask()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTaskUpdated(TaskUpdatedEvent event) {
+        upsert(Collections.singletonList(event.getTask()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTaskCompleted(TaskCompletedEvent event) {
+        upsert(Collections.singletonList(event.getTask()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBulkStatusChanged(TaskBulkStatusChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        // Set-based updates carry no entities, so reindex the committed rows
+        List<Long> taskIds = event.getPreviousStates().stream()
+            .map(TaskSnapshot::getId)
+            .collect(Collectors.toList());
+        upsert(taskRepository.findAllById(taskIds));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void handleTaskDeleted(TaskDeletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (TaskSnapshot deleted : event.getDeletedTasks()) {
+                writer.deleteDocuments(new Term(FIELD_ID, String.valueOf(deleted.getId())));
+            }
+            changed.set(true);
+            uncommitted.set(true);
+        } catch (IOException e) {
+            logError("Failed to remove deleted tasks from search index", e);
+            stale = true;
+        }
+    }
+
+    /**
+     * Reindexes the tasks in a batch from the change feed and records the
+     * batch's position.
+     */
+    @Override
+    public void onChanges(List<TaskChange> changes) {
+        apply(changes, trackingPosition);
+    }
+
+    /**
+     * Indexes each changed task as its row now stands, or removes it if the
+     * row is gone. The rows are read under the index lock, so a change whose
+     * commit listener runs meanwhile is never overwritten by older data.
+     */
+    private synchronized void apply(List<TaskChange> changes, boolean recordPosition) {
+        if (!enabled || changes.isEmpty()) {
+            return;
+        }
+        Set<Long> taskIds = new LinkedHashSet<>();
+        for (TaskChange change : changes) {
+            if (change.getTaskId() != null) {
+                taskIds.add(change.getTaskId());
+            }
+        }
+        try {
+            for (Task task : taskRepository.findAllById(taskIds)) {
+                index(task);
+                taskIds.remove(task.getId());
+            }
+            for (Long deletedId : taskIds) {
+                writer.deleteDocuments(new Term(FIELD_ID, String.valueOf(deletedId)));
+            }
+            if (recordPosition) {
+                indexedPosition.set(changes.get(changes.size() - 1).getPosition());
+            }
+            changed.set(true);
+            uncommitted.set(true);
+        } catch (IOException e) {
+            logError("Failed to apply task changes to search index", e);
+            stale = true;
+        }
+    }
+
+    /**
+     * Commits pending changes and closes the index.
+     */
+    @Override
+    public void destroy() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (committer != null) {
+            // Let a running commit finish; interrupting it would close the index files
+            committer.shutdown();
+            try {
+                committer.awaitTermination(COMMIT_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Applies changes even while the index is stale, so a rebuild that is
+     * already past a task does not lose the change.
+     */
+    private synchronized void upsert(List<Task> tasks) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (Task task : tasks) {
+                if (task != null && task.getId() != null) {
+                    index(task);
+                }
+            }
+            changed.set(true);
+            uncommitted.set(true);
+        } catch (IOException e) {
+            logError("Failed to update search index", e);
+            stale = true;
+        }
+    }
+
+    /**
+     * Makes the changes applied so far durable, recording the latest task
+     * update and feed position among them. Both are read before the commit
+     * starts and only ever cover documents already added, so a commit never
+     * claims a change it does not hold.
+     */
+    void commit() throws IOException {
+        synchronized (commitLock) {
+            uncommitted.set(false);
+            Map<String, String> commitData = new HashMap<>();
+            commitData.put(COMMIT_UPDATED_AT, Long.toString(indexedUpdatedAt.get()));
+            commitData.put(COMMIT_POSITION, Long.toString(indexedPosition.get()));
+            writer.setLiveCommitData(commitData.entrySet());
+            writer.commit();
+        }
+    }
+
+    private void commitQuietly() {
+        // A running rebuild commits once it is complete
+        if (!uncommitted.get() || isRebuilding(rebuildGeneration.get())) {
+            return;
+        }
+        try {
+            commit();
+        } catch (IOException | RuntimeException e) {
+            uncommitted.set(true);
+            logError("Failed to commit search index changes", e);
+        }
+    }
+
+    /**
+     * Reads the numeric user data of the last commit, leaving out missing
+     * and unreadable values and a position that was never set.
+     */
+    private Map<String, Long> committedData() {
+        Map<String, Long> values = new HashMap<>();
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return values;
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            try {
+                values.put(entry.getKey(), Long.valueOf(entry.getValue()));
+            } catch (NumberFormatException e) {
+                // Treated as missing
+            }
+        }
+        if (Long.valueOf(NO_POSITION).equals(values.get(COMMIT_POSITION))) {
+            values.remove(COMMIT_POSITION);
+        }
+        return values;
+    }
+
+    /**
+     * Acquires a searcher that sees every change applied so far.
+     * Must be released through the searcher manager.
+     */
+    private IndexSearcher acquireSearcher() throws IOException {
+        if (changed.getAndSet(false)) {
+            searcherManager.maybeRefreshBlocking();
+        }
+        return searcherManager.acquire();
+    }
+
+    private void index(Task task) throws IOException {
+        String id = String.valueOf(task.getId());
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, id, Field.Store.YES));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, task.getId()));
+
+        addText(document, FIELD_TITLE, task.getTitle());
+        addText(document, FIELD_DESCRIPTION, task.getDescription());
+        addText(document, FIELD_NOTES, task.getNotes());
+        if (task.getTitle() != null) {
+            document.add(new SortedDocValuesField(FIELD_TITLE_SORT, new BytesRef(task.getTitle())));
+        }
+
+        if (task.getStatus() != null) {
+            document.add(new StringField(FIELD_STATUS, task.getStatus().name(), Field.Store.NO));
+            document.add(new SortedDocValuesField(FIELD_STATUS, new BytesRef(task.getStatus().name())));
+        }
+        if (task.getPriority() != null) {
+            document.add(new StringField(FIELD_PRIORITY, task.getPriority().name(), Field.Store.NO));
+            document.add(new SortedDocValuesField(FIELD_PRIORITY, new BytesRef(task.getPriority().name())));
+        }
+        if (task.getDueDate() != null) {
+            long epochDay = task.getDueDate().toEpochDay();
+            document.add(new LongPoint(FIELD_DUE_DATE, epochDay));
+            document.add(new NumericDocValuesField(FIELD_DUE_DATE, epochDay));
+        }
+        addTimestamp(document, FIELD_CREATED_AT, task.getCreatedAt());
+        addTimestamp(document, FIELD_UPDATED_AT, task.getUpdatedAt());
+
+        writer.updateDocument(new Term(FIELD_ID, id), document);
+        if (task.getUpdatedAt() != null) {
+            indexedUpdatedAt.accumulateAndGet(toMillis(task.getUpdatedAt()), Math::max);
+        }
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isEmpty()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private static void addTimestamp(Document document, String field, LocalDateTime value) {
+        if (value != null) {
+            document.add(new NumericDocValuesField(field, toMillis(value)));
+        }
+    }
+
+    private static long toMillis(LocalDateTime value) {
+        return value != null ? value.toInstant(ZoneOffset.UTC).toEpochMilli() : NO_UPDATES;
+    }
+
+    /**
+     * Splits text into the lower-case words the index holds.
+     */
+    List<String> analyze(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream(FIELD_TITLE, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to analyze search term", e);
+        }
+        return terms;
+    }
+
+    private static Query buildQuery(List<String> terms, TaskSearchRequest searchRequest) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            addFieldMatch(anyField, FIELD_TITLE, term, TITLE_BOOST);
+            addFieldMatch(anyField, FIELD_DESCRIPTION, term, DESCRIPTION_BOOST);
+            addFieldMatch(anyField, FIELD_NOTES, term, NOTES_BOOST);
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+
+        if (searchRequest.getStatus() != null) {
+            query.add(new TermQuery(new Term(FIELD_STATUS, searchRequest.getStatus().name())),
+                BooleanClause.Occur.FILTER);
+        }
+        if (searchRequest.getPriority() != null) {
+            query.add(new TermQuery(new Term(FIELD_PRIORITY, searchRequest.getPriority().name())),
+                BooleanClause.Occur.FILTER);
+        }
+        if (searchRequest.getDueDateFrom() != null || searchRequest.getDueDateTo() != null) {
+            long from = searchRequest.getDueDateFrom() != null
+                ? searchRequest.getDueDateFrom().toEpochDay() : Long.MIN_VALUE;
+            long to = searchRequest.getDueDateTo() != null
+                ? searchRequest.getDueDateTo().toEpochDay() : Long.MAX_VALUE;
+            query.add(LongPoint.newRangeQuery(FIELD_DUE_DATE, from, to), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private static void addFieldMatch(BooleanQuery.Builder builder, String field, String term, float boost) {
+        Term fieldTerm = new Term(field, term);
+        builder.add(new BoostQuery(new TermQuery(fieldTerm), boost), BooleanClause.Occur.SHOULD);
+        builder.add(new BoostQuery(new PrefixQuery(fieldTerm), boost * PREFIX_FACTOR), BooleanClause.Occur.SHOULD);
+    }
+
+    /**
+     * Maps the request's sort onto index fields. Unknown fields and
+     * {@value #SORT_RELEVANCE} order by score; ties always fall back to score.
+     */
+    static Sort sortFor(TaskSearchRequest searchRequest) {
+        String sortBy = searchRequest.getSortBy();
+        boolean descending = "desc".equalsIgnoreCase(searchRequest.getSortDirection());
+        if (sortBy == null) {
+            return Sort.RELEVANCE;
+        }
+
+        SortField field;
+        switch (sortBy) {
+            case FIELD_ID:
+                field = longSortField(FIELD_ID_SORT, descending);
+                break;
+            case FIELD_CREATED_AT:
+            case FIELD_UPDATED_AT:
+            case FIELD_DUE_DATE:
+                field = longSortField(sortBy, descending);
+                break;
+            case FIELD_TITLE:
+                field = new SortField(FIELD_TITLE_SORT, SortField.Type.STRING, descending);
+                break;
+            case FIELD_STATUS:
+            case FIELD_PRIORITY:
+                field = new SortField(sortBy, SortField.Type.STRING, descending);
+                break;
+            default:
+                return Sort.RELEVANCE;
+        }
+        return new Sort(field, SortField.FIELD_SCORE);
+    }
+
+    /**
+     * A query against the current index.
+     */
+    @FunctionalInterface
+    private interface IndexQuery<T> {
+        T run(Query query) throws IOException;
+    }
+
+    private static SortField longSortField(String name, boolean descending) {
+        SortField field = new SortField(name, SortField.Type.LONG, descending);
+        // Missing values sort like SQL NULLs in H2: before every value
+        field.setMissingValue(Long.MIN_VALUE);
+        return field;
+    }
+}
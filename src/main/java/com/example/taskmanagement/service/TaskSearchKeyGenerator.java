@@ -0,0 +1,128 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskSearchRequest;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Builds search result cache keys from the criteria a search actually uses
+ * plus the current {@link TaskDataVersion}.
+ *
+ * <p>Requests that differ only in ways the query ignores share a key: the
+ * search term is trimmed and compared case-insensitively, and a blank term
+ * counts as none; the sort direction is reduced to ascending or descending
+ * and dropped for relevance order; and request fields the search never reads,
+ * such as the creation date range, are left out. Any committed write moves
+ * every later lookup to a new key.</p>
+ */
+@Component(TaskSearchKeyGenerator.BEAN_NAME)
+public class TaskSearchKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "taskSearchKeyGenerator";
+
+    private final TaskDataVersion dataVersion;
+
+    @Autowired
+    public TaskSearchKeyGenerator(TaskDataVersion dataVersion) {
+        this.dataVersion = dataVersion;
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return keyFor(method.getName(), (TaskSearchRequest) params[0]);
+    }
+
+    /**
+     * Returns the cache key for a search at the current data version.
+     *
+     * @param operation the search method, so different result shapes never share an entry
+     * @param request the search criteria
+     * @return the cache key
+     */
+    public SearchKey keyFor(String operation, TaskSearchRequest request) {
+        return new SearchKey(operation, dataVersion.current(), request);
+    }
+
+    /**
+     * Immutable, normalized search criteria tagged with a data version.
+     */
+    public static final class SearchKey {
+        private final String operation;
+        private final long version;
+        private final String searchTerm;
+        private final Status status;
+        private final Priority priority;
+        private final LocalDate dueDateFrom;
+        private final LocalDate dueDateTo;
+        private final int page;
+        private final int size;
+        private final String sortBy;
+        private final boolean descending;
+
+        SearchKey(String operation, long version, TaskSearchRequest request) {
+            this.operation = operation;
+            this.version = version;
+            // The search trims the term and lower-cases both sides, so neither padding nor case changes the result
+            String term = request.getSearchTerm() != null ? request.getSearchTerm().trim() : "";
+            this.searchTerm = term.isEmpty() ? null : term.toLowerCase(Locale.ROOT);
+            this.status = request.getStatus();
+            this.priority = request.getPriority();
+            this.dueDateFrom = request.getDueDateFrom();
+            this.dueDateTo = request.getDueDateTo();
+            this.page = request.getPage();
+            this.size = request.getSize();
+            this.sortBy = request.getSortBy();
+            // Relevance order has no direction
+            this.descending = !TaskSearchIndex.SORT_RELEVANCE.equals(sortBy)
+                && "desc".equalsIgnoreCase(request.getSortDirection());
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SearchKey)) {
+                return false;
+            }
+            SearchKey other = (SearchKey) o;
+            return version == other.version
+                && page == other.page
+                && size == other.size
+                && descending == other.descending
+                && Objects.equals(operation, other.operation)
+                && Objects.equals(searchTerm, other.searchTerm)
+                && status == other.status
+                && priority == other.priority
+                && Objects.equals(dueDateFrom, other.dueDateFrom)
+                && Objects.equals(dueDateTo, other.dueDateTo)
+                && Objects.equals(sortBy, other.sortBy);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operation, version, searchTerm, status, priority, dueDateFrom, dueDateTo,
+                page, size, sortBy, descending);
+        }
+
+        @Override
+        public String toString() {
+            return "SearchKey{operation=" + operation + ", version=" + version
+                + ", searchTerm='" + searchTerm + "', status=" + status
+                + ", priority=" + priority + ", dueDateFrom=" + dueDateFrom + ", dueDateTo=" + dueDateTo
+                + ", page=" + page + ", size=" + size + ", sortBy='" + sortBy + "', descending=" + descending + "}";
+        }
+    }
+}
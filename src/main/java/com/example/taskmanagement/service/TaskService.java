@@ -1,35 +1,48 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.constants.TaskConstants;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskCursor;
+import com.example.taskmanagement.dto.TaskPatchRequest;
 import com.example.taskmanagement.dto.TaskRequest;
 import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.dto.TaskSearchRequest;
+import com.example.taskmanagement.dto.TaskSnapshot;
+import com.example.taskmanagement.dto.TaskSummary;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.event.TaskBulkCompletedEvent;
+import com.example.taskmanagement.event.TaskBulkStatusChangedEvent;
 import com.example.taskmanagement.event.TaskCompletedEvent;
 import com.example.taskmanagement.event.TaskCreatedEvent;
+import com.example.taskmanagement.event.TaskDeletedEvent;
 import com.example.taskmanagement.event.TaskUpdatedEvent;
 import com.example.taskmanagement.exception.TaskNotFoundException;
+import com.example.taskmanagement.exception.TaskVersionConflictException;
 import com.example.taskmanagement.repository.TaskRepository;
 import com.example.taskmanagement.util.TaskConverter;
 import org.springframework.beans.factory.annotation.Autowired;
-
-import java.util.Arrays;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -43,12 +56,17 @@ public class TaskService extends BaseService {
     private final TaskRepository taskRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final TaskConverter taskConverter;
+    private final TaskReadCache taskReadCache;
+    private final TaskSearchIndex taskSearchIndex;
 
     @Autowired
-    public TaskService(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher, TaskConverter taskConverter) {
+    public TaskService(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher, TaskConverter taskConverter,
+                       TaskReadCache taskReadCache, TaskSearchIndex taskSearchIndex) {
         this.taskRepository = taskRepository;
         this.eventPublisher = eventPublisher;
         this.taskConverter = taskConverter;
+        this.taskReadCache = taskReadCache;
+        this.taskSearchIndex = taskSearchIndex;
     }
 
     /**
@@ -69,17 +87,17 @@ public class TaskService extends BaseService {
     }
 
     /**
-     * Retrieves a task by ID.
+     * Retrieves a task by ID through the read cache.
+     * No transaction is opened here, so callers waiting on another caller's
+     * load do not hold a connection.
      *
      * @param id the task ID
      * @return the task response if found
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = "tasks", key = "#id")
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<TaskResponse> getTaskById(Long id) {
         logDebug("Retrieving task by ID: {}", id);
-        return taskRepository.findById(id)
-                .map(taskConverter::convertToResponse);
+        return taskReadCache.get(id);
     }
 
     /**
@@ -89,12 +107,26 @@ public class TaskService extends BaseService {
      * @param taskRequest the task update request
      * @return the updated task response if found
      */
-    @CacheEvict(value = "tasks", key = "#id")
     public Optional<TaskResponse> updateTask(Long id, TaskRequest taskRequest) {
+        return updateTask(id, taskRequest, null);
+    }
+
+    /**
+     * Updates an existing task if it is still at the expected version.
+     *
+     * @param id the task ID
+     * @param taskRequest the task update request
+     * @param expectedVersion the version the update was based on, or null to update any version
+     * @return the updated task response if found
+     * @throws TaskVersionConflictException if the task is at another version
+     */
+    public Optional<TaskResponse> updateTask(Long id, TaskRequest taskRequest, Long expectedVersion) {
         logDebug("Updating task: ID={}", id);
 
         return taskRepository.findById(id)
                 .map(existingTask -> {
+                    checkVersion(existingTask, expectedVersion);
+                    TaskSnapshot previousState = TaskSnapshot.of(existingTask);
                     existingTask.setTitle(taskRequest.getTitle());
                     existingTask.setDescription(taskRequest.getDescription());
                     existingTask.setPriority(taskRequest.getPriority());
@@ -105,29 +137,135 @@ public class TaskService extends BaseService {
                     existingTask.setUpdatedAt(LocalDateTime.now());
 
                     Task savedTask = taskRepository.save(existingTask);
-                    eventPublisher.publishEvent(new TaskUpdatedEvent(savedTask));
+                    // Flush now so the response carries the incremented version
+                    taskRepository.flush();
+                    eventPublisher.publishEvent(new TaskUpdatedEvent(savedTask, previousState));
 
                     logInfo("Task updated successfully: ID={}, Title='{}'", savedTask.getId(), savedTask.getTitle());
-                    return taskConverter.convertToResponse(savedTask);
+                    TaskResponse response = taskConverter.convertToResponse(savedTask);
+                    taskReadCache.putAfterCommit(response);
+                    return response;
                 });
     }
 
+    /**
+     * Updates only the fields set in the patch.
+     *
+     * <p>When the caller names the version it read and the read cache holds that
+     * same version, the change is written with a single conditional UPDATE and
+     * no SELECT; the cached copy supplies the previous state for the change
+     * event. Otherwise the task is loaded, checked against the expected version
+     * and updated, writing only the changed columns.</p>
+     *
+     * @param id the task ID
+     * @param patch the fields to change
+     * @param expectedVersion the version the patch was based on, or null to patch any version
+     * @return the updated task response if found
+     * @throws TaskVersionConflictException if the task is at another version
+     */
+    public Optional<TaskResponse> patchTask(Long id, TaskPatchRequest patch, Long expectedVersion) {
+        logDebug("Patching task: ID={}, version={}", id, expectedVersion);
+
+        if (expectedVersion != null) {
+            Optional<TaskResponse> cached = taskReadCache.getIfPresent(id)
+                    .filter(response -> expectedVersion.equals(response.getVersion()));
+            if (cached.isPresent()) {
+                return Optional.of(patchCachedTask(cached.get(), patch));
+            }
+        }
+
+        return taskRepository.findById(id)
+                .map(existingTask -> {
+                    checkVersion(existingTask, expectedVersion);
+                    TaskSnapshot previousState = TaskSnapshot.of(existingTask);
+                    applyPatch(existingTask, patch);
+                    existingTask.setUpdatedAt(LocalDateTime.now());
+
+                    Task savedTask = taskRepository.saveAndFlush(existingTask);
+                    return publishPatched(savedTask, previousState);
+                });
+    }
+
+    /**
+     * Patches a task whose current version is cached, without loading it.
+     */
+    private TaskResponse patchCachedTask(TaskResponse current, TaskPatchRequest patch) {
+        Long id = current.getId();
+        LocalDateTime updatedAt = LocalDateTime.now();
+        if (taskRepository.patchIfVersion(id, current.getVersion(), patch, updatedAt) == 0) {
+            // Changed or deleted since it was cached; the cached copy is stale either way
+            taskReadCache.evict(id);
+            if (!taskRepository.existsById(id)) {
+                throw new TaskNotFoundException("Task not found with ID: " + id);
+            }
+            throw new TaskVersionConflictException(
+                    "Task " + id + " is no longer at version " + current.getVersion());
+        }
+
+        Task task = taskConverter.convertToEntity(current);
+        TaskSnapshot previousState = TaskSnapshot.of(task);
+        applyPatch(task, patch);
+        task.setUpdatedAt(updatedAt);
+        task.setVersion(current.getVersion() + 1);
+        return publishPatched(task, previousState);
+    }
+
+    private TaskResponse publishPatched(Task task, TaskSnapshot previousState) {
+        eventPublisher.publishEvent(new TaskUpdatedEvent(task, previousState));
+
+        logInfo("Task patched successfully: ID={}, version={}", task.getId(), task.getVersion());
+        TaskResponse response = taskConverter.convertToResponse(task);
+        taskReadCache.putAfterCommit(response);
+        return response;
+    }
+
+    private static void applyPatch(Task task, TaskPatchRequest patch) {
+        if (patch.getTitle() != null) {
+            task.setTitle(patch.getTitle());
+        }
+        if (patch.hasDescription()) {
+            task.setDescription(patch.getDescription());
+        }
+        if (patch.getPriority() != null) {
+            task.setPriority(patch.getPriority());
+        }
+        if (patch.getStatus() != null) {
+            task.setStatus(patch.getStatus());
+        }
+        if (patch.hasDueDate()) {
+            task.setDueDate(patch.getDueDate());
+        }
+        if (patch.hasNotes()) {
+            task.setNotes(patch.getNotes());
+        }
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new TaskVersionConflictException("Task " + task.getId() + " is at version "
+                    + task.getVersion() + ", not " + expectedVersion);
+        }
+    }
+
     /**
      * Deletes a task by ID.
      *
      * @param id the task ID
      * @return true if the task was deleted, false if not found
      */
-    @CacheEvict(value = "tasks", key = "#id")
     public boolean deleteTask(Long id) {
         logDebug("Deleting task: ID={}", id);
 
-        if (taskRepository.existsById(id)) {
-            taskRepository.deleteById(id);
-            logInfo("Task deleted successfully: ID={}", id);
-            return true;
-        }
-        return false;
+        return taskRepository.findById(id)
+                .map(task -> {
+                    TaskSnapshot deletedState = TaskSnapshot.of(task);
+                    taskRepository.delete(task);
+                    taskReadCache.evictAfterCommit(Collections.singletonList(id));
+                    eventPublisher.publishEvent(new TaskDeletedEvent(Collections.singletonList(deletedState)));
+                    logInfo("Task deleted successfully: ID={}", id);
+                    return true;
+                })
+                .orElse(false);
     }
 
     /**
@@ -137,15 +275,18 @@ public class TaskService extends BaseService {
      * @param status the new status
      * @return true if updated successfully
      */
-    @CacheEvict(value = "tasks", key = "#id")
     public boolean updateTaskStatus(Long id, Status status) {
         logDebug("Updating task status: ID={}, Status={}", id, status);
 
         Optional<Task> taskOpt = taskRepository.findById(id);
         if (taskOpt.isPresent()) {
             Task task = taskOpt.get();
+            TaskSnapshot previousState = TaskSnapshot.of(task);
             task.setStatus(status);
-            taskRepository.save(task);
+            Task savedTask = taskRepository.save(task);
+            taskRepository.flush();
+            eventPublisher.publishEvent(new TaskUpdatedEvent(savedTask, previousState));
+            taskReadCache.putAfterCommit(taskConverter.convertToResponse(savedTask));
             logInfo("Task status updated successfully: ID={}, Status={}", id, status);
             return true;
         }
@@ -154,73 +295,104 @@ public class TaskService extends BaseService {
 
     /**
      * Searches tasks with pagination and filtering.
-     * Uses optimized repository methods for better performance.
+     * Searches with a search term are answered by the full-text index, which
+     * matches whole words or word prefixes; the rest apply the same filters as
+     * {@link #searchTaskSummaries}. Results are cached per normalized criteria
+     * and data version, so repeated searches between writes are served from
+     * memory. While the index is unavailable the database answers searches
+     * with a term by substring instead, and those results are not cached.
      *
      * @param searchRequest the search criteria
      * @return a page of task responses
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = TaskConstants.CACHE_TASK_SEARCH, keyGenerator = TaskSearchKeyGenerator.BEAN_NAME,
+               unless = DatabaseSearchPage.UNLESS_ANSWERED_BY_DATABASE)
     public Page<TaskResponse> searchTasks(TaskSearchRequest searchRequest) {
         logDebug("Searching tasks with criteria: {}", searchRequest);
 
+        Optional<Page<Long>> hits = taskSearchIndex.search(searchRequest);
+        if (hits.isPresent()) {
+            List<Task> tasks = inHitOrder(hits.get().getContent(), taskRepository.findAllById(hits.get().getContent()),
+                    Task::getId);
+            return new PageImpl<>(taskConverter.convertToResponseList(tasks), hits.get().getPageable(),
+                    hits.get().getTotalElements());
+        }
+
+        String searchTerm = searchTermOf(searchRequest);
+        Page<Task> tasks = taskRepository.findFiltered(searchTerm, searchRequest.getStatus(),
+                searchRequest.getPriority(), searchRequest.getDueDateFrom(), searchRequest.getDueDateTo(),
+                toPageable(searchRequest));
+        return answeredByDatabase(searchTerm, taskConverter.convertToResponsePage(tasks));
+    }
+
+    /**
+     * Searches tasks like {@link #searchTasks} but returns summaries read
+     * through a projection, skipping the large text columns.
+     *
+     * @param searchRequest the search criteria
+     * @return a page of task summaries
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = TaskConstants.CACHE_TASK_SEARCH, keyGenerator = TaskSearchKeyGenerator.BEAN_NAME,
+               unless = DatabaseSearchPage.UNLESS_ANSWERED_BY_DATABASE)
+    public Page<TaskSummary> searchTaskSummaries(TaskSearchRequest searchRequest) {
+        logDebug("Searching task summaries with criteria: {}", searchRequest);
+
+        Optional<Page<Long>> hits = taskSearchIndex.search(searchRequest);
+        if (hits.isPresent()) {
+            List<TaskSummary> summaries = inHitOrder(hits.get().getContent(),
+                    taskRepository.findSummariesByIdIn(hits.get().getContent()), TaskSummary::getId);
+            return new PageImpl<>(summaries, hits.get().getPageable(), hits.get().getTotalElements());
+        }
+
+        String searchTerm = searchTermOf(searchRequest);
+        return answeredByDatabase(searchTerm, taskRepository.findSummaries(searchTerm, searchRequest.getStatus(),
+                searchRequest.getPriority(), searchRequest.getDueDateFrom(), searchRequest.getDueDateTo(),
+                toPageable(searchRequest)));
+    }
+
+    /**
+     * Marks a database page answering a search term so it is not cached.
+     * Pages without a term match exactly what the index would and stay cacheable.
+     */
+    private static <T> Page<T> answeredByDatabase(String searchTerm, Page<T> page) {
+        return searchTerm != null ? new DatabaseSearchPage<>(page) : page;
+    }
+
+    /**
+     * Returns the trimmed search term, or null when it is blank and filters nothing.
+     */
+    private static String searchTermOf(TaskSearchRequest searchRequest) {
+        String searchTerm = searchRequest.getSearchTerm() != null ? searchRequest.getSearchTerm().trim() : "";
+        return searchTerm.isEmpty() ? null : searchTerm;
+    }
+
+    private Pageable toPageable(TaskSearchRequest searchRequest) {
+        // Relevance only exists in the full-text index; without a search term every row ranks the same
+        if (TaskSearchIndex.SORT_RELEVANCE.equals(searchRequest.getSortBy())) {
+            return PageRequest.of(searchRequest.getPage(), searchRequest.getSize(),
+                    Sort.by(Sort.Direction.DESC, TaskConstants.DEFAULT_SORT_FIELD));
+        }
         Sort sort = Sort.by(
                 "desc".equalsIgnoreCase(searchRequest.getSortDirection()) 
                     ? Sort.Direction.DESC 
                     : Sort.Direction.ASC,
                 searchRequest.getSortBy()
         );
-
-        Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize(), sort);
-
-        Page<Task> tasks;
-        
-        // Use optimized advanced search for complex criteria
-        if (hasMultipleCriteria(searchRequest)) {
-            List<Status> statuses = searchRequest.getStatus() != null ? 
-                Arrays.asList(searchRequest.getStatus()) : null;
-            List<Priority> priorities = searchRequest.getPriority() != null ? 
-                Arrays.asList(searchRequest.getPriority()) : null;
-            
-            tasks = taskRepository.findTasksWithAdvancedSearch(
-                searchRequest.getSearchTerm(),
-                statuses,
-                priorities,
-                searchRequest.getDueDateFrom(),
-                searchRequest.getDueDateTo(),
-                pageable
-            );
-        } else if (searchRequest.getSearchTerm() != null && !searchRequest.getSearchTerm().trim().isEmpty()) {
-            tasks = taskRepository.searchTasks(searchRequest.getSearchTerm(), pageable);
-        } else if (searchRequest.getStatus() != null) {
-            tasks = taskRepository.findByStatus(searchRequest.getStatus(), pageable);
-        } else {
-            tasks = taskRepository.findAll(pageable);
-        }
-
-        return taskConverter.convertToResponsePage(tasks);
+        return PageRequest.of(searchRequest.getPage(), searchRequest.getSize(), sort);
     }
 
     /**
-     * Checks if the search request has multiple criteria that would benefit from advanced search.
+     * Orders rows loaded by ID the way the search index ranked them.
+     * Rows deleted since the search are skipped.
      */
-    private boolean hasMultipleCriteria(TaskSearchRequest searchRequest) {
-        int criteriaCount = 0;
-        if (searchRequest.getSearchTerm() != null && !searchRequest.getSearchTerm().trim().isEmpty()) {
-            criteriaCount++;
-        }
-        if (searchRequest.getStatus() != null) {
-            criteriaCount++;
-        }
-        if (searchRequest.getPriority() != null) {
-            criteriaCount++;
-        }
-        if (searchRequest.getDueDateFrom() != null) {
-            criteriaCount++;
-        }
-        if (searchRequest.getDueDateTo() != null) {
-            criteriaCount++;
-        }
-        return criteriaCount >= 2;
+    private static <T> List<T> inHitOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = rows.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -240,6 +412,21 @@ public class TaskService extends BaseService {
         return taskConverter.convertToResponsePage(tasks);
     }
 
+    /**
+     * Retrieves summaries of all tasks with pagination, newest first.
+     *
+     * @param page the page number
+     * @param size the page size
+     * @return a page of task summaries
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskSummary> getAllTaskSummaries(int page, int size) {
+        logDebug("Retrieving all task summaries: page={}, size={}", page, size);
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return taskRepository.findSummaries(null, null, null, null, null, pageable);
+    }
+
     /**
      * Retrieves overdue tasks.
      *
@@ -253,26 +440,109 @@ public class TaskService extends BaseService {
         return taskConverter.convertToResponseList(overdueTasks);
     }
 
+    /**
+     * Retrieves one slice of tasks matching the search criteria, newest first,
+     * using keyset pagination. Page number and sort settings in the request are
+     * ignored; the cursor alone positions the slice. A search term is matched
+     * by the full-text index, the same way as {@link #searchTasks}, falling back
+     * to a substring match in the database while the index is unavailable.
+     *
+     * @param searchRequest the filters and slice size
+     * @param cursor the cursor returned with the previous slice, or null for the first slice
+     * @return the slice with a cursor for the next one
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> scrollTasks(TaskSearchRequest searchRequest, String cursor) {
+        logDebug("Scrolling tasks with criteria: {}, cursor={}", searchRequest, cursor);
+
+        int size = clampSliceSize(searchRequest.getSize());
+        Pageable limit = PageRequest.of(0, size + 1);
+        String searchTerm = searchTermOf(searchRequest);
+
+        TaskCursor position = cursor == null || cursor.isEmpty()
+                ? null : TaskCursor.decode(cursor, TaskCursor.SortKey.CREATED_AT);
+
+        Optional<List<Long>> hits = searchTerm == null ? Optional.empty() : taskSearchIndex.scroll(searchRequest,
+                position != null ? position.getCreatedAt() : null, position != null ? position.getId() : null,
+                size + 1);
+        List<Task> tasks;
+        if (hits.isPresent()) {
+            tasks = inHitOrder(hits.get(), taskRepository.findAllById(hits.get()), Task::getId);
+        } else if (position == null) {
+            tasks = taskRepository.findFirstSliceByCreatedAt(searchTerm, searchRequest.getStatus(),
+                    searchRequest.getPriority(), searchRequest.getDueDateFrom(), searchRequest.getDueDateTo(), limit);
+        } else {
+            tasks = taskRepository.findSliceByCreatedAtAfter(searchTerm, searchRequest.getStatus(),
+                    searchRequest.getPriority(), searchRequest.getDueDateFrom(), searchRequest.getDueDateTo(),
+                    position.getCreatedAt(), position.getId(), limit);
+        }
+
+        return toCursorPage(tasks, size, TaskCursor.SortKey.CREATED_AT);
+    }
+
+    /**
+     * Retrieves one slice of overdue tasks, earliest due date first, using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous slice, or null for the first slice
+     * @param size the slice size
+     * @return the slice with a cursor for the next one
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> scrollOverdueTasks(String cursor, int size) {
+        logDebug("Scrolling overdue tasks: cursor={}, size={}", cursor, size);
+
+        int sliceSize = clampSliceSize(size);
+        Pageable limit = PageRequest.of(0, sliceSize + 1);
+        LocalDate today = LocalDate.now();
+
+        List<Task> tasks;
+        if (cursor == null || cursor.isEmpty()) {
+            tasks = taskRepository.findFirstOverdueSlice(today, limit);
+        } else {
+            TaskCursor position = TaskCursor.decode(cursor, TaskCursor.SortKey.DUE_DATE);
+            tasks = taskRepository.findOverdueSliceAfter(today, position.getDueDate(), position.getId(), limit);
+        }
+
+        return toCursorPage(tasks, sliceSize, TaskCursor.SortKey.DUE_DATE);
+    }
+
+    /**
+     * Trims the extra look-ahead row and derives the next cursor from the last row kept.
+     */
+    private CursorPage<TaskResponse> toCursorPage(List<Task> tasks, int size, TaskCursor.SortKey sortKey) {
+        boolean hasNext = tasks.size() > size;
+        List<Task> slice = hasNext ? tasks.subList(0, size) : tasks;
+        String nextCursor = hasNext ? TaskCursor.after(sortKey, slice.get(size - 1)).encode() : null;
+        return new CursorPage<>(taskConverter.convertToResponseList(slice), nextCursor, size);
+    }
+
+    private int clampSliceSize(int size) {
+        return Math.max(1, Math.min(size, TaskConstants.MAX_PAGE_SIZE));
+    }
+
     /**
      * Completes a task by setting its status to COMPLETED.
      *
      * @param id the task ID
      * @return the updated task response if found
      */
-    @CacheEvict(value = "tasks", key = "#id")
     public Optional<TaskResponse> completeTask(Long id) {
         logDebug("Completing task: ID={}", id);
 
         return taskRepository.findById(id)
                 .map(task -> {
+                    TaskSnapshot previousState = TaskSnapshot.of(task);
                     task.setStatus(Status.COMPLETED);
                     task.setCompletedAt(LocalDateTime.now());
                     
                     Task savedTask = taskRepository.save(task);
-                    eventPublisher.publishEvent(new TaskCompletedEvent(savedTask));
+                    taskRepository.flush();
+                    eventPublisher.publishEvent(new TaskCompletedEvent(savedTask, previousState));
 
                     logInfo("Task completed successfully: ID={}, Title='{}'", savedTask.getId(), savedTask.getTitle());
-                    return taskConverter.convertToResponse(savedTask);
+                    TaskResponse response = taskConverter.convertToResponse(savedTask);
+                    taskReadCache.putAfterCommit(response);
+                    return response;
                 });
     }
 
@@ -329,7 +599,6 @@ public class TaskService extends BaseService {
      * @param status new status
      * @return number of updated tasks
      */
-    @CacheEvict(value = "tasks", allEntries = true)
     public int bulkUpdateTaskStatus(List<Long> taskIds, Status status) {
         logDebug("Bulk updating {} tasks to status: {}", taskIds.size(), status);
         
@@ -337,7 +606,10 @@ public class TaskService extends BaseService {
             return 0;
         }
         
+        List<TaskSnapshot> previousStates = taskRepository.findSnapshotsByIdIn(taskIds);
         int updatedCount = taskRepository.bulkUpdateTaskStatus(taskIds, status, LocalDateTime.now());
+        taskReadCache.evictAfterCommit(taskIds);
+        eventPublisher.publishEvent(new TaskBulkStatusChangedEvent(previousStates, status));
         
         logInfo("Bulk update completed: {} tasks updated to status {}", updatedCount, status);
         return updatedCount;
@@ -349,7 +621,6 @@ public class TaskService extends BaseService {
      * @param taskIds list of task IDs
      * @return number of deleted tasks
      */
-    @CacheEvict(value = "tasks", allEntries = true)
     public int bulkDeleteTasks(List<Long> taskIds) {
         logDebug("Bulk deleting {} tasks", taskIds.size());
         
@@ -357,14 +628,18 @@ public class TaskService extends BaseService {
             return 0;
         }
         
+        List<TaskSnapshot> deletedStates = taskRepository.findSnapshotsByIdIn(taskIds);
         int deletedCount = taskRepository.bulkDeleteTasks(taskIds);
+        taskReadCache.evictAfterCommit(taskIds);
+        eventPublisher.publishEvent(new TaskDeletedEvent(deletedStates));
         
         logInfo("Bulk delete completed: {} tasks deleted", deletedCount);
         return deletedCount;
     }
 
     /**
-     * Bulk complete tasks.
+     * Bulk complete tasks with one set-based update, reading the rows back afterwards.
+     * Publishes a single completion event for all tasks and evicts only their cache entries.
      *
      * @param taskIds list of task IDs
      * @return list of completed task responses
@@ -372,20 +647,34 @@ public class TaskService extends BaseService {
     public List<TaskResponse> bulkCompleteTasks(List<Long> taskIds) {
         logDebug("Bulk completing {} tasks", taskIds.size());
         
-        List<TaskResponse> completedTasks = new ArrayList<>();
-        for (Long taskId : taskIds) {
-            Optional<Task> taskOpt = taskRepository.findById(taskId);
-            if (taskOpt.isPresent()) {
-                Task task = taskOpt.get();
-                task.setStatus(Status.COMPLETED);
-                task.setCompletedAt(LocalDateTime.now());
-                Task savedTask = taskRepository.save(task);
-                eventPublisher.publishEvent(new TaskCompletedEvent(savedTask));
-                completedTasks.add(taskConverter.convertToResponse(savedTask));
-            }
+        if (taskIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        List<Task> tasks = taskRepository.findAllById(taskIds);
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        List<Long> foundIds = new ArrayList<>(tasks.size());
+        List<TaskSnapshot> previousStates = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            foundIds.add(task.getId());
+            previousStates.add(TaskSnapshot.of(task));
         }
         
-        return completedTasks;
+        LocalDateTime completedAt = LocalDateTime.now();
+        int completedCount = taskRepository.bulkCompleteTasks(foundIds, completedAt);
+        
+        // The update cleared the persistence context, so read back the rows as written
+        List<Task> completedTasks = taskRepository.findAllById(foundIds);
+        
+        eventPublisher.publishEvent(new TaskBulkCompletedEvent(previousStates, completedAt));
+        taskReadCache.evictAfterCommit(foundIds);
+        List<TaskResponse> responses = taskConverter.convertToResponseList(completedTasks);
+        
+        logInfo("Bulk complete completed: {} tasks completed", completedCount);
+        return responses;
     }
 
     /**
@@ -0,0 +1,126 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskCounters;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Aggregate task counters, loaded with two aggregate queries and reused until
+ * the task data changes. Holds status x priority counts and open tasks per due
+ * date, so analytics reads between writes cost nothing.
+ *
+ * <p>Each load is tagged with the {@link TaskDataVersion} read before its
+ * queries run. That version only advances once a change has committed, so a
+ * load never claims a version whose changes it could be missing, and a read
+ * that finds the version has moved loads again. Changes are never applied as
+ * deltas, so none is counted twice or against a stale previous state. Loads
+ * hold no lock, so readers and writers never wait on each other's queries.</p>
+ */
+@Service
+public class TaskStatisticsStore extends BaseService {
+
+    private static final int STATUS_COUNT = Status.values().length;
+    private static final int PRIORITY_COUNT = Priority.values().length;
+
+    private final TaskRepository taskRepository;
+    private final TaskDataVersion dataVersion;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    @Autowired
+    public TaskStatisticsStore(TaskRepository taskRepository, TaskDataVersion dataVersion) {
+        this.taskRepository = taskRepository;
+        this.dataVersion = dataVersion;
+    }
+
+    /**
+     * Loads the counters once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Loads the counters from the database using aggregate queries only.
+     */
+    public void rebuild() {
+        load(dataVersion.current());
+    }
+
+    /**
+     * Returns the counters for the current task data, loading them first if
+     * the data changed since the last load.
+     *
+     * @return the current task counters
+     */
+    public TaskCounters getCounters() {
+        long version = dataVersion.current();
+        Snapshot current = snapshot.get();
+        if (current == null || current.version != version) {
+            current = load(version);
+        }
+        return current.counters(LocalDate.now());
+    }
+
+    private Snapshot load(long version) {
+        logDebug("Loading task statistics from database at data version {}", version);
+
+        long[][] counts = new long[STATUS_COUNT][PRIORITY_COUNT];
+        for (Object[] row : taskRepository.getTaskStatisticsSummary()) {
+            Status status = (Status) row[0];
+            Priority priority = (Priority) row[1];
+            if (status != null && priority != null) {
+                counts[status.ordinal()][priority.ordinal()] = ((Number) row[2]).longValue();
+            }
+        }
+
+        NavigableMap<LocalDate, Long> openTasksByDueDate = new TreeMap<>();
+        for (Object[] row : taskRepository.countOpenTasksByDueDate()) {
+            openTasksByDueDate.put((LocalDate) row[0], ((Number) row[1]).longValue());
+        }
+
+        Snapshot loaded = new Snapshot(version, counts, openTasksByDueDate);
+        // A slower load of an older version must not replace a newer one
+        snapshot.accumulateAndGet(loaded,
+            (existing, candidate) -> existing != null && existing.version > candidate.version ? existing : candidate);
+        logDebug("Task statistics loaded: {} due dates tracked", openTasksByDueDate.size());
+        return loaded;
+    }
+
+    /**
+     * Counters loaded at one data version. Never modified once published.
+     */
+    private static final class Snapshot {
+        private final long version;
+        private final long[][] counts;
+        private final NavigableMap<LocalDate, Long> openTasksByDueDate;
+
+        Snapshot(long version, long[][] counts, NavigableMap<LocalDate, Long> openTasksByDueDate) {
+            this.version = version;
+            this.counts = counts;
+            this.openTasksByDueDate = Collections.unmodifiableNavigableMap(openTasksByDueDate);
+        }
+
+        /**
+         * Returns the counters with overdue tasks counted as of the given day.
+         */
+        TaskCounters counters(LocalDate today) {
+            long overdue = 0;
+            for (long count : openTasksByDueDate.headMap(today, false).values()) {
+                overdue += count;
+            }
+            return new TaskCounters(counts, overdue);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskSnapshot;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.event.TaskCreatedEvent;
+import com.example.taskmanagement.event.TaskDeletedEvent;
+import com.example.taskmanagement.event.TaskUpdatedEvent;
+import com.example.taskmanagement.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index from normalized title tokens to task IDs.
+ * Kept in step with task events so similarity lookups only touch tasks
+ * that share at least one token with the query.
+ *
+ * <p>The index is rebuilt from an ID/title projection on startup and
+ * whenever it has been marked stale.</p>
+ */
+@Service
+public class TaskTitleIndex extends BaseService {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Comparator<TitleMatch> BY_SCORE =
+        Comparator.comparingDouble(TitleMatch::getScore)
+            .thenComparing(TitleMatch::getTaskId, Comparator.reverseOrder());
+
+    private final TaskRepository taskRepository;
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, String[]> tokensByTask = new HashMap<>();
+    private boolean stale = true;
+
+    @Autowired
+    public TaskTitleIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Builds the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the index from task IDs and titles without loading full entities.
+     */
+    public synchronized void rebuild() {
+        logDebug("Rebuilding task title index from database");
+
+        postings.clear();
+        tokensByTask.clear();
+        for (Object[] row : taskRepository.findAllIdAndTitle()) {
+            index((Long) row[0], (String) row[1]);
+        }
+
+        stale = false;
+        logInfo("Task title index rebuilt: {} tasks, {} tokens", tokensByTask.size(), postings.size());
+    }
+
+    /**
+     * Marks the index as out of date so the next lookup reloads every title.
+     * The task events keep the index current; this is for tests that empty
+     * the table through the repository.
+     */
+    synchronized void markStale() {
+        stale = true;
+    }
+
+    /**
+     * Finds the tasks whose titles are most similar to the given title.
+     * Similarity is the Jaccard index of the two token sets and is computed
+     * once per candidate.
+     *
+     * @param title the title to match
+     * @param minScore matches must score strictly above this value
+     * @param limit maximum number of matches to return
+     * @return matches ordered by descending score
+     */
+    public synchronized List<TitleMatch> findSimilar(String title, double minScore, int limit) {
+        String[] queryTokens = tokenize(title);
+        if (queryTokens.length == 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+        if (stale) {
+            rebuild();
+        }
+
+        // Count shared tokens per candidate by walking the posting lists
+        Map<Long, int[]> sharedTokens = new HashMap<>();
+        for (String token : queryTokens) {
+            Set<Long> taskIds = postings.get(token);
+            if (taskIds != null) {
+                for (Long taskId : taskIds) {
+                    sharedTokens.computeIfAbsent(taskId, id -> new int[1])[0]++;
+                }
+            }
+        }
+
+        PriorityQueue<TitleMatch> best = new PriorityQueue<>(limit + 1, BY_SCORE);
+        for (Map.Entry<Long, int[]> candidate : sharedTokens.entrySet()) {
+            int intersection = candidate.getValue()[0];
+            int union = queryTokens.length + tokensByTask.get(candidate.getKey()).length - intersection;
+            double score = (double) intersection / union;
+            if (score > minScore) {
+                best.add(new TitleMatch(candidate.getKey(), score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<TitleMatch> matches = new ArrayList<>(best);
+        matches.sort(BY_SCORE.reversed());
+        return matches;
+    }
+
+    /**
+     * Splits a title into distinct lower-case word tokens.
+     *
+     * @param title the title to split
+     * @return distinct tokens, empty if the title has none
+     */
+    public static String[] tokenize(String title) {
+        if (title == null) {
+            return new String[0];
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(title.toLowerCase(Locale.ENGLISH))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void handleTaskCreated(TaskCreatedEvent event) {
+        Task task = event.getTask();
+        if (!stale && task != null && task.getId() != null) {
+            index(task.getId(), task.getTitle());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void handleTaskUpdated(TaskUpdatedEvent event) {
+        Task task = event.getTask();
+        if (!stale && task != null && task.getId() != null) {
+            remove(task.getId());
+            index(task.getId(), task.getTitle());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void handleTaskDeleted(TaskDeletedEvent event) {
+        if (stale) {
+            return;
+        }
+        for (TaskSnapshot deleted : event.getDeletedTasks()) {
+            remove(deleted.getId());
+        }
+    }
+
+    private void index(Long taskId, String title) {
+        String[] tokens = tokenize(title);
+        if (tokens.length == 0) {
+            return;
+        }
+        tokensByTask.put(taskId, tokens);
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, key -> new HashSet<>()).add(taskId);
+        }
+    }
+
+    private void remove(Long taskId) {
+        String[] tokens = tokensByTask.remove(taskId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Set<Long> taskIds = postings.get(token);
+            if (taskIds != null) {
+                taskIds.remove(taskId);
+                if (taskIds.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * A task ID paired with its title similarity score.
+     */
+    public static final class TitleMatch {
+        private final Long taskId;
+        private final double score;
+
+        public TitleMatch(Long taskId, double score) {
+            this.taskId = taskId;
+            this.score = score;
+        }
+
+        public Long getTaskId() {
+            return taskId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -35,6 +35,7 @@ public class TaskConverter {
         response.setNotes(task.getNotes());
         response.setCreatedAt(task.getCreatedAt());
         response.setUpdatedAt(task.getUpdatedAt());
+        response.setVersion(task.getVersion());
         response.setOverdue(task.isOverdue());
         
         return response;
@@ -59,6 +60,31 @@ public class TaskConverter {
         return task;
     }
     
+    /**
+     * Converts a TaskResponse back to a detached Task entity, for publishing
+     * changes made without loading the task
+     */
+    public Task convertToEntity(TaskResponse response) {
+        if (response == null) {
+            return null;
+        }
+        
+        Task task = new Task();
+        task.setId(response.getId());
+        task.setTitle(response.getTitle());
+        task.setDescription(response.getDescription());
+        task.setPriority(response.getPriority());
+        task.setStatus(response.getStatus());
+        task.setDueDate(response.getDueDate());
+        task.setCompletedAt(response.getCompletedAt());
+        task.setNotes(response.getNotes());
+        task.setCreatedAt(response.getCreatedAt());
+        task.setUpdatedAt(response.getUpdatedAt());
+        task.setVersion(response.getVersion());
+        
+        return task;
+    }
+    
     /**
      * Converts list of Task entities to TaskResponse DTOs
      */
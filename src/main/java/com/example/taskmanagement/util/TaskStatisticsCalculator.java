@@ -1,5 +1,6 @@
 package com.example.taskmanagement.util;
 
+import com.example.taskmanagement.dto.TaskCounters;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
@@ -83,4 +84,25 @@ public class TaskStatisticsCalculator {
         
         return stats;
     }
+    
+    /**
+     * Calculates comprehensive task statistics from pre-aggregated counters
+     */
+    public Map<String, Object> calculateComprehensiveStats(TaskCounters counters) {
+        Map<String, Object> stats = new HashMap<>();
+        
+        long totalTasks = counters.getTotalTasks();
+        long completedTasks = counters.getCompletedTasks();
+        long overdueTasks = counters.getOverdueTasks();
+        
+        stats.put("totalTasks", totalTasks);
+        stats.put("completedTasks", completedTasks);
+        stats.put("overdueTasks", overdueTasks);
+        stats.put("completionRate", calculateCompletionRate(totalTasks, completedTasks));
+        stats.put("overdueRate", calculateOverdueRate(totalTasks, overdueTasks));
+        stats.put("statusCounts", counters.getStatusCounts());
+        stats.put("priorityCounts", counters.getPriorityCounts());
+        
+        return stats;
+    }
 }
@@ -0,0 +1,134 @@
+package com.example.taskmanagement.validation;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Aho-Corasick automaton over a fixed set of lower-case ASCII keywords.
+ * Matching is ASCII case-insensitive, like {@link java.util.regex.Pattern#CASE_INSENSITIVE}.
+ *
+ * <p>The failure links are folded into a dense transition table when the automaton
+ * is built, so each input character costs one array lookup and nothing is allocated
+ * while scanning.</p>
+ */
+final class KeywordAutomaton {
+
+    static final int ROOT = 0;
+
+    private static final int ALPHABET = 128;
+    private static final int MAX_KEYWORDS = Integer.SIZE;
+
+    private final int[] transitions;
+    private final int[] outputs;
+    private final int[] lengths;
+
+    /**
+     * Builds the automaton.
+     *
+     * @param keywords lower-case ASCII keywords; at most 32, indexed in the given order
+     */
+    KeywordAutomaton(String... keywords) {
+        if (keywords.length > MAX_KEYWORDS) {
+            throw new IllegalArgumentException("At most " + MAX_KEYWORDS + " keywords are supported");
+        }
+        int maxStates = 1;
+        for (String keyword : keywords) {
+            maxStates += keyword.length();
+        }
+
+        int[] table = new int[maxStates * ALPHABET];
+        Arrays.fill(table, -1);
+        int[] output = new int[maxStates];
+        lengths = new int[keywords.length];
+
+        // Trie of all keywords
+        int stateCount = 1;
+        for (int k = 0; k < keywords.length; k++) {
+            String keyword = keywords[k];
+            lengths[k] = keyword.length();
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                int c = keyword.charAt(i);
+                if (c >= ALPHABET || (c >= 'A' && c <= 'Z')) {
+                    throw new IllegalArgumentException("Keywords must be lower-case ASCII: " + keyword);
+                }
+                int slot = state * ALPHABET + c;
+                if (table[slot] < 0) {
+                    table[slot] = stateCount++;
+                }
+                state = table[slot];
+            }
+            output[state] |= 1 << k;
+        }
+
+        // Breadth-first pass resolving failure links into direct transitions
+        int[] failure = new int[stateCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int child = table[c];
+            if (child < 0) {
+                table[c] = ROOT;
+            } else {
+                failure[child] = ROOT;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output[state] |= output[failure[state]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int slot = state * ALPHABET + c;
+                int fallback = table[failure[state] * ALPHABET + c];
+                if (table[slot] < 0) {
+                    table[slot] = fallback;
+                } else {
+                    failure[table[slot]] = fallback;
+                    queue.add(table[slot]);
+                }
+            }
+        }
+
+        transitions = Arrays.copyOf(table, stateCount * ALPHABET);
+        outputs = Arrays.copyOf(output, stateCount);
+    }
+
+    /**
+     * Advances the automaton by one input character.
+     *
+     * @param state the current state
+     * @param c the next input character
+     * @return the new state
+     */
+    int next(int state, char c) {
+        if (c >= ALPHABET) {
+            // No keyword contains non-ASCII characters
+            return ROOT;
+        }
+        return transitions[state * ALPHABET + toLowerAscii(c)];
+    }
+
+    /**
+     * Returns the keywords that end at the character that led to the given state.
+     *
+     * @param state the current state
+     * @return bit mask of keyword indexes
+     */
+    int matches(int state) {
+        return outputs[state];
+    }
+
+    /**
+     * Returns the length of a keyword.
+     *
+     * @param keyword the keyword index
+     * @return the keyword length
+     */
+    int length(int keyword) {
+        return lengths[keyword];
+    }
+
+    private static int toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+}
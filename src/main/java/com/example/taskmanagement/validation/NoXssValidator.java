@@ -2,11 +2,11 @@ package com.example.taskmanagement.validation;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.util.regex.Pattern;
 
 /**
  * Validator implementation for NoXss annotation.
- * Checks input for common XSS (Cross-Site Scripting) patterns.
+ * Checks input for common XSS (Cross-Site Scripting) patterns in a single pass
+ * using {@link XssScanner}.
  * 
  * @author Task Management Team
  * @version 1.0
@@ -14,20 +14,6 @@ import java.util.regex.Pattern;
  */
 public class NoXssValidator implements ConstraintValidator<NoXss, String> {
     
-    // Common XSS patterns
-    private static final Pattern[] XSS_PATTERNS = {
-        Pattern.compile(".*<script.*?>.*</script>.*", Pattern.CASE_INSENSITIVE | Pattern.DOTALL),
-        Pattern.compile(".*javascript:.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*onerror\\s*=.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*onload\\s*=.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*onclick\\s*=.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*<iframe.*?>.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*<object.*?>.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*<embed.*?>.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*eval\\s*\\(.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*expression\\s*\\(.*", Pattern.CASE_INSENSITIVE)
-    };
-    
     @Override
     public void initialize(NoXss constraintAnnotation) {
         // No initialization needed
@@ -40,17 +26,6 @@ public class NoXssValidator implements ConstraintValidator<NoXss, String> {
             return true;
         }
         
-        // Check against XSS patterns
-        for (Pattern pattern : XSS_PATTERNS) {
-            if (pattern.matcher(value).matches()) {
-                return false;
-            }
-        }
-        
-        return true;
+        return !XssScanner.isSuspicious(value);
     }
 }
-
-
-
-
@@ -0,0 +1,164 @@
+package com.example.taskmanagement.validation;
+
+/**
+ * Single-pass detector for the SQL injection rules enforced by {@link NoSqlInjection}.
+ *
+ * <p>A string is rejected when it contains any of:</p>
+ * <ul>
+ *   <li>a quote or semicolon, optional whitespace, then {@code drop}, {@code delete},
+ *       {@code insert}, {@code update}, {@code exec}, {@code union}, {@code select} or {@code --}</li>
+ *   <li>a semicolon, optional whitespace, then {@code create} or {@code alter}</li>
+ *   <li>a quote or semicolon followed by an {@code or}/{@code and} tautology such as {@code ' OR '1'='1}</li>
+ *   <li>a block comment {@code /* ... *}{@code /}</li>
+ *   <li>a stored procedure name starting with {@code xp_} or {@code sp_}</li>
+ * </ul>
+ *
+ * <p>Keywords are located by one Aho-Corasick pass; the quote/semicolon context is
+ * tracked alongside it as the position where a keyword must start to count.</p>
+ */
+final class SqlInjectionScanner {
+
+    private static final String[] KEYWORDS = {
+        "drop", "delete", "insert", "update", "exec", "union", "select", "--",
+        "create", "alter",
+        "or", "and",
+        "/*", "*/",
+        "xp_", "sp_"
+    };
+
+    private static final int AFTER_QUOTE_OR_SEMICOLON = mask(0, 8);
+    private static final int AFTER_SEMICOLON = mask(8, 10);
+    private static final int OPERATORS = mask(10, 12);
+    private static final int COMMENT_OPEN = 1 << 12;
+    private static final int COMMENT_CLOSE = 1 << 13;
+    private static final int PROCEDURE_PREFIXES = mask(14, 16);
+
+    private static final KeywordAutomaton AUTOMATON = new KeywordAutomaton(KEYWORDS);
+
+    private SqlInjectionScanner() {
+    }
+
+    /**
+     * Checks a string against all rules in one pass.
+     *
+     * @param value the string to check
+     * @return true if the string matches any rule
+     */
+    static boolean isSuspicious(String value) {
+        int state = KeywordAutomaton.ROOT;
+        // Position a keyword must start at to follow a quote or semicolon, and which of the two it was
+        int contextStart = -1;
+        boolean afterSemicolon = false;
+        // End of the first "/*", or -1 if none has been seen
+        int commentBodyStart = -1;
+
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '\'' || c == ';') {
+                contextStart = i + 1;
+                afterSemicolon = c == ';';
+            } else if (contextStart == i && isWhitespace(c)) {
+                contextStart = i + 1;
+            }
+
+            state = AUTOMATON.next(state, c);
+            int matches = AUTOMATON.matches(state);
+            if (matches == 0) {
+                continue;
+            }
+
+            for (int keyword = 0; matches != 0; keyword++, matches >>>= 1) {
+                if ((matches & 1) == 0) {
+                    continue;
+                }
+                int bit = 1 << keyword;
+                int start = i + 1 - AUTOMATON.length(keyword);
+                boolean inContext = start == contextStart;
+
+                if ((bit & AFTER_QUOTE_OR_SEMICOLON) != 0 && inContext) {
+                    return true;
+                }
+                if ((bit & AFTER_SEMICOLON) != 0 && inContext && afterSemicolon) {
+                    return true;
+                }
+                if ((bit & OPERATORS) != 0 && inContext && isTautology(value, i + 1)) {
+                    return true;
+                }
+                if ((bit & COMMENT_OPEN) != 0 && commentBodyStart < 0) {
+                    commentBodyStart = i + 1;
+                }
+                if ((bit & COMMENT_CLOSE) != 0 && commentBodyStart >= 0 && start >= commentBodyStart) {
+                    return true;
+                }
+                if ((bit & PROCEDURE_PREFIXES) != 0 && i + 1 < length && isWordChar(value.charAt(i + 1))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Matches {@code \s+['"]?\d+['"]?\s*=\s*['"]?\d} at the given position.
+     * Only whitespace, quotes, digits and '=' are consumed, so these checks never overlap.
+     */
+    private static boolean isTautology(String value, int from) {
+        int length = value.length();
+        int i = from;
+        if (i >= length || !isWhitespace(value.charAt(i))) {
+            return false;
+        }
+        i = skipWhitespace(value, i);
+        i = skipQuote(value, i);
+        if (i >= length || !isDigit(value.charAt(i))) {
+            return false;
+        }
+        while (i < length && isDigit(value.charAt(i))) {
+            i++;
+        }
+        i = skipWhitespace(value, skipQuote(value, i));
+        if (i >= length || value.charAt(i) != '=') {
+            return false;
+        }
+        i = skipQuote(value, skipWhitespace(value, i + 1));
+        return i < length && isDigit(value.charAt(i));
+    }
+
+    private static int skipWhitespace(String value, int from) {
+        int i = from;
+        while (i < value.length() && isWhitespace(value.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipQuote(String value, int from) {
+        if (from < value.length() && (value.charAt(from) == '\'' || value.charAt(from) == '"')) {
+            return from + 1;
+        }
+        return from;
+    }
+
+    /**
+     * Same character set as the regex class {@code \s}.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Same character set as the regex class {@code \w}.
+     */
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '_';
+    }
+
+    private static int mask(int fromKeyword, int toKeyword) {
+        return (1 << toKeyword) - (1 << fromKeyword);
+    }
+}
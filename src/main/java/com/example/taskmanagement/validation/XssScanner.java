@@ -0,0 +1,107 @@
+package com.example.taskmanagement.validation;
+
+/**
+ * Single-pass detector for the XSS rules enforced by {@link NoXss}.
+ *
+ * <p>A string is rejected when it contains any of:</p>
+ * <ul>
+ *   <li>a {@code <script ...>} tag followed later by {@code </script>}</li>
+ *   <li>an {@code <iframe}, {@code <object} or {@code <embed} tag followed later by {@code >}</li>
+ *   <li>{@code javascript:}</li>
+ *   <li>an {@code onerror}, {@code onload} or {@code onclick} handler followed by {@code =}</li>
+ *   <li>{@code eval} or {@code expression} followed by {@code (}</li>
+ * </ul>
+ *
+ * <p>Keywords are located by one Aho-Corasick pass; open tags are remembered as the
+ * position after which their closing characters must appear.</p>
+ */
+final class XssScanner {
+
+    private static final String[] KEYWORDS = {
+        "<script", "</script>",
+        "<iframe", "<object", "<embed",
+        "javascript:",
+        "onerror", "onload", "onclick",
+        "eval", "expression"
+    };
+
+    private static final int SCRIPT_OPEN = 1;
+    private static final int SCRIPT_CLOSE = 1 << 1;
+    private static final int EMBEDDING_TAGS = (1 << 5) - (1 << 2);
+    private static final int JAVASCRIPT_URL = 1 << 5;
+    private static final int EVENT_HANDLERS = (1 << 9) - (1 << 6);
+    private static final int CALLS = (1 << 11) - (1 << 9);
+
+    private static final KeywordAutomaton AUTOMATON = new KeywordAutomaton(KEYWORDS);
+
+    private XssScanner() {
+    }
+
+    /**
+     * Checks a string against all rules in one pass.
+     *
+     * @param value the string to check
+     * @return true if the string matches any rule
+     */
+    static boolean isSuspicious(String value) {
+        int state = KeywordAutomaton.ROOT;
+        boolean embeddingTagOpen = false;
+        boolean scriptOpen = false;
+        // Position of the '>' ending the first script tag, or -1 until it is seen
+        int scriptTagEnd = -1;
+
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            state = AUTOMATON.next(state, c);
+            int matches = AUTOMATON.matches(state);
+
+            for (int keyword = 0; matches != 0; keyword++, matches >>>= 1) {
+                if ((matches & 1) == 0) {
+                    continue;
+                }
+                int bit = 1 << keyword;
+                if ((bit & SCRIPT_CLOSE) != 0 && scriptTagEnd >= 0
+                        && i + 1 - AUTOMATON.length(keyword) > scriptTagEnd) {
+                    return true;
+                }
+                if ((bit & JAVASCRIPT_URL) != 0) {
+                    return true;
+                }
+                if ((bit & EVENT_HANDLERS) != 0 && isFollowedBy(value, i + 1, '=')) {
+                    return true;
+                }
+                if ((bit & CALLS) != 0 && isFollowedBy(value, i + 1, '(')) {
+                    return true;
+                }
+                if ((bit & EMBEDDING_TAGS) != 0) {
+                    embeddingTagOpen = true;
+                }
+                if ((bit & SCRIPT_OPEN) != 0) {
+                    scriptOpen = true;
+                }
+            }
+
+            if (c == '>') {
+                if (embeddingTagOpen) {
+                    return true;
+                }
+                if (scriptOpen && scriptTagEnd < 0) {
+                    scriptTagEnd = i;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the next non-whitespace character at or after the given position is the expected one.
+     */
+    private static boolean isFollowedBy(String value, int from, char expected) {
+        int i = from;
+        while (i < value.length() && SqlInjectionScanner.isWhitespace(value.charAt(i))) {
+            i++;
+        }
+        return i < value.length() && value.charAt(i) == expected;
+    }
+}
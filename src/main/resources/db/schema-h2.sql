@@ -0,0 +1,61 @@
+-- Schema for the persistent profile, where Hibernate only validates.
+-- Keep in step with the entity mappings; every statement is idempotent so
+-- the script runs safely against an existing database on each start.
+
+CREATE SEQUENCE IF NOT EXISTS task_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS task_audit_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS task_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id           BIGINT        NOT NULL PRIMARY KEY,
+    title        VARCHAR(255)  NOT NULL,
+    description  VARCHAR(2000),
+    priority     VARCHAR(20)   NOT NULL,
+    status       VARCHAR(20)   NOT NULL,
+    due_date     DATE,
+    completed_at TIMESTAMP,
+    notes        VARCHAR(1000),
+    created_at   TIMESTAMP     NOT NULL,
+    updated_at   TIMESTAMP     NOT NULL,
+    version      BIGINT        DEFAULT 0 NOT NULL
+);
+
+-- Added with optimistic locking; existing rows start at version 0
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_task_title ON tasks (title);
+CREATE INDEX IF NOT EXISTS idx_task_status ON tasks (status);
+CREATE INDEX IF NOT EXISTS idx_task_priority ON tasks (priority);
+CREATE INDEX IF NOT EXISTS idx_task_due_date ON tasks (due_date);
+CREATE INDEX IF NOT EXISTS idx_task_created_at ON tasks (created_at);
+
+-- Audit payloads are unbounded VARCHAR rather than TEXT: H2 maps TEXT to a
+-- CLOB, which Hibernate's validator rejects for a String column
+CREATE TABLE IF NOT EXISTS task_audit (
+    id               BIGINT        NOT NULL PRIMARY KEY,
+    task_id          BIGINT        NOT NULL,
+    task_title       VARCHAR(255)  NOT NULL,
+    action           VARCHAR(255)  NOT NULL,
+    old_values       VARCHAR(1000000),
+    new_values       VARCHAR(1000000),
+    changed_by       VARCHAR(255),
+    change_timestamp TIMESTAMP     NOT NULL,
+    ip_address       VARCHAR(255),
+    user_agent       VARCHAR(255)
+);
+
+-- Transactional outbox: one row per committed task change, in feed order by id
+CREATE TABLE IF NOT EXISTS task_outbox (
+    id           BIGINT        NOT NULL PRIMARY KEY,
+    task_id      BIGINT        NOT NULL,
+    action       VARCHAR(20)   NOT NULL,
+    status       VARCHAR(20),
+    version      BIGINT,
+    occurred_at  TIMESTAMP     NOT NULL,
+    processed_at TIMESTAMP
+);
+
+-- Added to carry the task version in change notifications; older entries have none
+ALTER TABLE task_outbox ADD COLUMN IF NOT EXISTS version BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_processed_at ON task_outbox (processed_at);
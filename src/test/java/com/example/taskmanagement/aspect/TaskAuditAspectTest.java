@@ -1,11 +1,8 @@
 package com.example.taskmanagement.aspect;
 
-import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.entity.TaskAudit;
-import com.example.taskmanagement.event.TaskCreatedEvent;
-import com.example.taskmanagement.event.TaskUpdatedEvent;
-import com.example.taskmanagement.repository.TaskAuditRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.taskmanagement.service.AuditWriter;
 import org.aspectj.lang.JoinPoint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,11 +10,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -27,22 +27,16 @@ import static org.mockito.Mockito.*;
 class TaskAuditAspectTest {
 
     @Mock
-    private TaskAuditRepository taskAuditRepository;
-
-    @Mock
-    private ObjectMapper objectMapper;
-
-    @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private AuditWriter auditWriter;
 
     @InjectMocks
     private TaskAuditAspect taskAuditAspect;
 
-    private Task testTask;
+    private TaskResponse testTask;
 
     @BeforeEach
     void setUp() {
-        testTask = new Task();
+        testTask = new TaskResponse();
         testTask.setId(1L);
         testTask.setTitle("Test Task");
         testTask.setDescription("Test Description");
@@ -51,25 +45,21 @@ class TaskAuditAspectTest {
     }
 
     @Test
-    void testAuditTaskCreation() throws Exception {
-        // Given
-        String taskJson = "{\"id\":1,\"title\":\"Test Task\"}";
-        when(objectMapper.writeValueAsString(testTask)).thenReturn(taskJson);
-
+    void testAuditTaskCreation() {
         // When
         taskAuditAspect.auditTaskCreation(mock(JoinPoint.class), testTask);
 
         // Then
-        verify(objectMapper).writeValueAsString(testTask);
-        verify(taskAuditRepository).save(argThat(audit -> 
+        verify(auditWriter).submit(argThat(audit -> 
             audit.getTaskId().equals(1L) &&
+            "Test Task".equals(audit.getTaskTitle()) &&
             "CREATED".equals(audit.getAction()) &&
             "SYSTEM".equals(audit.getChangedBy())
-        ));
+        ), eq(testTask));
     }
 
     @Test
-    void testAuditTaskCreationWithNonTaskObject() throws Exception {
+    void testAuditTaskCreationWithNonTaskObject() {
         // Given
         String nonTaskObject = "Not a task";
 
@@ -77,73 +67,63 @@ class TaskAuditAspectTest {
         taskAuditAspect.auditTaskCreation(null, nonTaskObject);
 
         // Then
-        verify(objectMapper, never()).writeValueAsString(any());
-        verify(taskAuditRepository, never()).save(any());
-        verify(eventPublisher, never()).publishEvent(any());
+        verify(auditWriter, never()).submit(any(), any());
     }
 
     @Test
-    void testAuditTaskCreationWithException() throws Exception {
+    void testAuditTaskCreationWithException() {
         // Given
-        when(objectMapper.writeValueAsString(testTask)).thenThrow(new RuntimeException("JSON error"));
+        doThrow(new RuntimeException("Queue error")).when(auditWriter).submit(any(TaskAudit.class), any());
 
         // When
         taskAuditAspect.auditTaskCreation(null, testTask);
 
         // Then
-        verify(objectMapper).writeValueAsString(testTask);
-        verify(taskAuditRepository, never()).save(any());
-        verify(eventPublisher, never()).publishEvent(any());
+        verify(auditWriter).submit(any(TaskAudit.class), eq(testTask));
     }
 
     @Test
-    void testAuditTaskUpdate() throws Exception {
+    void testAuditTaskUpdate() {
         // Given
-        Optional<Task> taskOptional = Optional.of(testTask);
-        String taskJson = "{\"id\":1,\"title\":\"Test Task\"}";
-        when(objectMapper.writeValueAsString(testTask)).thenReturn(taskJson);
+        Optional<TaskResponse> taskOptional = Optional.of(testTask);
 
         // When
-        taskAuditAspect.auditTaskUpdate(mock(JoinPoint.class), testTask);
+        taskAuditAspect.auditTaskUpdate(mock(JoinPoint.class), taskOptional);
 
         // Then
-        verify(objectMapper).writeValueAsString(testTask);
-        verify(taskAuditRepository).save(argThat(audit -> 
+        verify(auditWriter).submit(argThat(audit -> 
             audit.getTaskId().equals(1L) &&
             "UPDATED".equals(audit.getAction()) &&
             "SYSTEM".equals(audit.getChangedBy())
-        ));
+        ), eq(testTask));
     }
 
     @Test
-    void testAuditTaskUpdateWithEmptyOptional() throws Exception {
+    void testAuditTaskUpdateWithEmptyOptional() {
         // Given
-        Optional<Task> emptyOptional = Optional.empty();
+        Optional<TaskResponse> emptyOptional = Optional.empty();
 
         // When
         taskAuditAspect.auditTaskUpdate(mock(JoinPoint.class), emptyOptional);
 
         // Then
-        verify(objectMapper, never()).writeValueAsString(any());
-        verify(taskAuditRepository, never()).save(any());
+        verify(auditWriter, never()).submit(any(), any());
     }
 
     @Test
-    void testAuditTaskUpdateWithException() throws Exception {
-        // Given
-        Optional<Task> taskOptional = Optional.of(testTask);
-        when(objectMapper.writeValueAsString(testTask)).thenThrow(new RuntimeException("JSON error"));
-
+    void testAuditTaskCompletion() {
         // When
-        taskAuditAspect.auditTaskUpdate(mock(JoinPoint.class), testTask);
+        taskAuditAspect.auditTaskCompletion(mock(JoinPoint.class), Optional.of(testTask));
 
         // Then
-        verify(objectMapper).writeValueAsString(testTask);
-        verify(taskAuditRepository, never()).save(any());
+        verify(auditWriter).submit(argThat(audit -> 
+            audit.getTaskId().equals(1L) &&
+            "COMPLETED".equals(audit.getAction())
+        ), eq(testTask));
     }
 
     @Test
-    void testAuditTaskDeletion() throws Exception {
+    void testAuditTaskDeletion() {
         // Given
         Long taskId = 1L;
 
@@ -151,43 +131,40 @@ class TaskAuditAspectTest {
         taskAuditAspect.auditTaskDeletion(null, taskId);
 
         // Then
-        verify(taskAuditRepository).save(argThat(audit -> 
+        verify(auditWriter).submit(argThat(audit -> 
             audit.getTaskId().equals(taskId) &&
             "DELETED".equals(audit.getAction()) &&
             "SYSTEM".equals(audit.getChangedBy())
-        ));
+        ), isNull());
     }
 
     @Test
-    void testAuditTaskDeletionWithNoExistingAudit() {
+    void testAuditTaskDeletionAdviceSkipsWhenNothingDeleted() {
         // Given
-        Long taskId = 1L;
+        JoinPoint joinPoint = mock(JoinPoint.class);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{1L});
 
         // When
-        taskAuditAspect.auditTaskDeletion(null, taskId);
+        taskAuditAspect.auditTaskDeletion(joinPoint, (Object) Boolean.FALSE);
 
         // Then
-        verify(taskAuditRepository).save(argThat(audit -> 
-            audit.getTaskId().equals(taskId) &&
-            "DELETED".equals(audit.getAction()) &&
-            "SYSTEM".equals(audit.getChangedBy())
-        ));
+        verify(auditWriter, never()).submit(any(), any());
     }
 
     @Test
-    void testAuditTaskDeletionWithException() throws Exception {
+    void testAuditTaskDeletionAdviceWhenDeleted() {
         // Given
-        Long taskId = 1L;
+        JoinPoint joinPoint = mock(JoinPoint.class);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{1L});
 
         // When
-        taskAuditAspect.auditTaskDeletion(null, taskId);
+        taskAuditAspect.auditTaskDeletion(joinPoint, (Object) Boolean.TRUE);
 
         // Then
-        verify(taskAuditRepository).save(argThat(audit -> 
-            audit.getTaskId().equals(taskId) &&
-            "DELETED".equals(audit.getAction()) &&
-            "SYSTEM".equals(audit.getChangedBy())
-        ));
+        verify(auditWriter).submit(argThat(audit -> 
+            audit.getTaskId().equals(1L) &&
+            "DELETED".equals(audit.getAction())
+        ), isNull());
     }
 
     @Test
@@ -199,10 +176,10 @@ class TaskAuditAspectTest {
         taskAuditAspect.auditTaskDeletion(null, taskId);
 
         // Then
-        verify(taskAuditRepository).save(argThat(audit -> 
+        verify(auditWriter).submit(argThat(audit -> 
             audit.getTaskId() == null &&
             "DELETED".equals(audit.getAction()) &&
             "SYSTEM".equals(audit.getChangedBy())
-        ));
+        ), isNull());
     }
 }
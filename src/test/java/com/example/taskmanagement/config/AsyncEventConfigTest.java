@@ -0,0 +1,117 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.enums.EventRejectionPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AsyncEventConfig.
+ */
+class AsyncEventConfigTest {
+
+    private ApplicationConfig.ApplicationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ApplicationConfig.ApplicationProperties();
+        properties.getEvents().setCorePoolSize(1);
+        properties.getEvents().setMaxPoolSize(1);
+        properties.getEvents().setQueueCapacity(1);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run rejected listener calls on the caller under CALLER_RUNS")
+    void shouldRunOnCallerWhenSaturated() throws Exception {
+        startExecutor(EventRejectionPolicy.CALLER_RUNS);
+        CountDownLatch release = saturate();
+
+        AtomicReference<String> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread().getName()));
+        release.countDown();
+
+        assertEquals(Thread.currentThread().getName(), ranOn.get());
+        assertEquals(1.0, meterRegistry.get("task.events.rejected").tag("policy", "CALLER_RUNS").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should drop and count rejected listener calls under DISCARD")
+    void shouldDiscardWhenSaturated() throws Exception {
+        startExecutor(EventRejectionPolicy.DISCARD);
+        CountDownLatch release = saturate();
+
+        AtomicReference<String> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread().getName()));
+        release.countDown();
+
+        assertNull(ranOn.get());
+        assertEquals(1.0, meterRegistry.get("task.events.rejected").tag("policy", "DISCARD").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should carry the correlation ID to the listener thread")
+    void shouldPropagateMdc() throws Exception {
+        startExecutor(EventRejectionPolicy.CALLER_RUNS);
+        MDC.put("correlationId", "abc-123");
+
+        AtomicReference<String> seen = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            seen.set(MDC.get("correlationId"));
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("abc-123", seen.get());
+    }
+
+    private void startExecutor(EventRejectionPolicy policy) {
+        properties.getEvents().setRejectionPolicy(policy);
+        executor = new AsyncEventConfig().taskEventExecutor(properties, meterRegistry);
+        executor.initialize();
+    }
+
+    /**
+     * Occupies the single worker and the single queue slot; returns the latch that frees them.
+     */
+    private CountDownLatch saturate() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(() -> awaitQuietly(release));
+        return release;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
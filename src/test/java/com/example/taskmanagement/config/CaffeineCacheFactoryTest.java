@@ -0,0 +1,125 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.dto.TaskResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CaffeineCacheFactory.
+ */
+class CaffeineCacheFactoryTest {
+
+    private ApplicationConfig.ApplicationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineCacheFactory cacheFactory;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ApplicationConfig.ApplicationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        cacheFactory = new CaffeineCacheFactory(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should apply the default settings to caches without a spec")
+    void shouldApplyDefaultsWithoutSpec() {
+        Cache<Object, Object> cache = cacheFactory.build("unconfigured");
+
+        Policy.Eviction<Object, Object> eviction = cache.policy().eviction().orElseThrow(AssertionError::new);
+        assertFalse(eviction.isWeighted());
+        assertEquals(1000L, eviction.getMaximum());
+        assertEquals(10L, cache.policy().expireAfterWrite()
+                .orElseThrow(AssertionError::new).getExpiresAfter(TimeUnit.MINUTES));
+        assertEquals(5L, cache.policy().expireAfterAccess()
+                .orElseThrow(AssertionError::new).getExpiresAfter(TimeUnit.MINUTES));
+    }
+
+    @Test
+    @DisplayName("Should override defaults from the named spec")
+    void shouldApplyNamedSpec() {
+        ApplicationConfig.ApplicationProperties.CacheSettings.Spec spec =
+                new ApplicationConfig.ApplicationProperties.CacheSettings.Spec();
+        spec.setMaxSize(100L);
+        spec.setExpireAfterWriteMinutes(30);
+        spec.setExpireAfterAccessMinutes(0);
+        properties.getCache().getSpecs().put("taskStats", spec);
+
+        Cache<Object, Object> cache = cacheFactory.build("taskStats");
+
+        assertEquals(100L, cache.policy().eviction().orElseThrow(AssertionError::new).getMaximum());
+        assertEquals(30L, cache.policy().expireAfterWrite()
+                .orElseThrow(AssertionError::new).getExpiresAfter(TimeUnit.MINUTES));
+        assertFalse(cache.policy().expireAfterAccess().isPresent());
+    }
+
+    @Test
+    @DisplayName("Should bound weighted caches by estimated payload size")
+    void shouldWeighByPayloadBytes() {
+        ApplicationConfig.ApplicationProperties.CacheSettings.Spec spec =
+                new ApplicationConfig.ApplicationProperties.CacheSettings.Spec();
+        spec.setMaxWeightBytes(1024L);
+        properties.getCache().getSpecs().put("suggestions", spec);
+
+        Cache<Object, Object> cache = cacheFactory.build("suggestions");
+        cache.put("short", "abc");
+        cache.put("list", Collections.singletonList("abcdef"));
+        cache.cleanUp();
+
+        Policy.Eviction<Object, Object> eviction = cache.policy().eviction().orElseThrow(AssertionError::new);
+        assertTrue(eviction.isWeighted());
+        assertEquals(1024L, eviction.getMaximum());
+        // Strings and lists are estimated at their JSON size: "abc" is 5 bytes and ["abcdef"] is 10
+        assertEquals(15L, eviction.weightedSize().orElseThrow(AssertionError::new));
+    }
+
+    @Test
+    @DisplayName("Should give null placeholders the minimum weight")
+    void shouldWeighNullValuesAsOne() {
+        CaffeineCacheFactory.PayloadWeigher weigher = new CaffeineCacheFactory.PayloadWeigher();
+
+        assertEquals(1, weigher.weigh("key", NullValue.INSTANCE));
+        assertEquals(1, weigher.weigh("key", null));
+    }
+
+    @Test
+    @DisplayName("Should weigh tasks by their text and pages by their content")
+    void shouldWeighTasksByTextLength() {
+        CaffeineCacheFactory.PayloadWeigher weigher = new CaffeineCacheFactory.PayloadWeigher();
+        TaskResponse small = new TaskResponse();
+        small.setTitle("Short");
+        TaskResponse large = new TaskResponse();
+        large.setTitle("Short");
+        large.setDescription(String.join("", Collections.nCopies(1000, "x")));
+
+        assertEquals(1000, weigher.weigh("key", large) - weigher.weigh("key", small));
+        assertTrue(weigher.weigh("key", new PageImpl<>(Arrays.asList(small, large)))
+                > weigher.weigh("key", small) + weigher.weigh("key", large));
+    }
+
+    @Test
+    @DisplayName("Should register cache metrics tagged with the cache name")
+    void shouldRegisterMetrics() {
+        Cache<Object, Object> cache = cacheFactory.build("suggestions");
+        cache.put("key", "value");
+        cache.getIfPresent("key");
+        cache.getIfPresent("missing");
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "suggestions")
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "suggestions")
+                .tag("result", "miss").functionCounter().count());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "suggestions").functionCounter());
+    }
+}
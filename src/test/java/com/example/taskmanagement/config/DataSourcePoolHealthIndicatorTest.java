@@ -0,0 +1,157 @@
+package com.example.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DataSourceConfig and DataSourcePoolHealthIndicator.
+ */
+class DataSourcePoolHealthIndicatorTest {
+
+    private ApplicationConfig.ApplicationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private HikariDataSource dataSource;
+    private DataSourcePoolHealthIndicator healthIndicator;
+    private final AtomicLong clock = new AtomicLong();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new ApplicationConfig.ApplicationProperties();
+        properties.getDatasource().setAcquireLatencyThresholdMs(50);
+        meterRegistry = new SimpleMeterRegistry();
+
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:h2:mem:pooltest;DB_CLOSE_DELAY=-1");
+        dataSourceProperties.setUsername("sa");
+        dataSourceProperties.afterPropertiesSet();
+
+        dataSource = new DataSourceConfig().dataSource(dataSourceProperties, meterRegistry);
+        Map<String, String> poolSettings = new HashMap<>();
+        poolSettings.put(DataSourceConfig.HIKARI_PREFIX + ".pool-name", "test-pool");
+        poolSettings.put(DataSourceConfig.HIKARI_PREFIX + ".maximum-pool-size", "4");
+        poolSettings.put(DataSourceConfig.HIKARI_PREFIX + ".minimum-idle", "2");
+        new Binder(new MapConfigurationPropertySource(poolSettings))
+                .bind(DataSourceConfig.HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        healthIndicator = new DataSourcePoolHealthIndicator(dataSource, meterRegistry, properties, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should bind the standard spring.datasource.hikari settings onto the instrumented pool")
+    void shouldApplyPoolSettings() {
+        assertTrue(dataSource instanceof InstrumentedDataSource);
+        assertEquals("test-pool", dataSource.getPoolName());
+        assertEquals(4, dataSource.getMaximumPoolSize());
+        assertEquals(2, dataSource.getMinimumIdle());
+        assertEquals(30000L, dataSource.getConnectionTimeout());
+        assertEquals(0L, dataSource.getLeakDetectionThreshold());
+    }
+
+    @Test
+    @DisplayName("Should publish pool metrics once the pool starts")
+    void shouldPublishPoolMetrics() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertTrue(connection.isValid(1));
+            assertEquals(1.0, meterRegistry.get("hikaricp.connections.active").tag("pool", "test-pool").gauge().value());
+        }
+
+        assertEquals(1L, meterRegistry.get(DataSourcePoolHealthIndicator.ACQUIRE_TIMER)
+                .tag("pool", "test-pool").timer().count());
+        assertNotNull(meterRegistry.find("hikaricp.connections.pending").tag("pool", "test-pool").gauge());
+    }
+
+    @Test
+    @DisplayName("Should report unknown before the pool starts")
+    void shouldReportUnknownBeforePoolStarts() {
+        assertEquals(Status.UNKNOWN, healthIndicator.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should report up while connections are acquired quickly")
+    void shouldReportUpForFastAcquisition() throws Exception {
+        dataSource.getConnection().close();
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(1L, health.getDetails().get("acquiredInWindow"));
+        assertEquals(4, health.getDetails().get("maximum"));
+    }
+
+    @Test
+    @DisplayName("Should degrade while slow acquisitions are inside the window, then recover")
+    void shouldDegradeForSlowAcquisition() throws Exception {
+        dataSource.getConnection().close();
+        meterRegistry.timer(DataSourcePoolHealthIndicator.ACQUIRE_TIMER, "pool", "test-pool")
+                .record(500, TimeUnit.MILLISECONDS);
+
+        assertEquals(DataSourcePoolHealthIndicator.DEGRADED, healthIndicator.health().getStatus());
+
+        // Checking again does not move the window
+        assertEquals(DataSourcePoolHealthIndicator.DEGRADED, healthIndicator.health().getStatus());
+
+        advanceWindow();
+        assertEquals(DataSourcePoolHealthIndicator.DEGRADED, healthIndicator.health().getStatus());
+
+        // Nothing acquired in the last full window, so the slow sample no longer counts
+        advanceWindow();
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should start an empty window when checks are further apart than two windows")
+    void shouldDropStaleBaselinesAfterSparseChecks() throws Exception {
+        dataSource.getConnection().close();
+        meterRegistry.timer(DataSourcePoolHealthIndicator.ACQUIRE_TIMER, "pool", "test-pool")
+                .record(500, TimeUnit.MILLISECONDS);
+        assertEquals(DataSourcePoolHealthIndicator.DEGRADED, healthIndicator.health().getStatus());
+
+        // The slow acquisition is older than any window ending now
+        advanceWindow();
+        advanceWindow();
+        advanceWindow();
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(0L, health.getDetails().get("acquiredInWindow"));
+        assertEquals(0L, health.getDetails().get("windowSeconds"));
+    }
+
+    @Test
+    @DisplayName("Should degrade when a caller timed out waiting for a connection")
+    void shouldDegradeOnAcquireTimeout() throws Exception {
+        dataSource.getConnection().close();
+        meterRegistry.counter(DataSourcePoolHealthIndicator.TIMEOUT_COUNTER, "pool", "test-pool").increment();
+
+        Health health = healthIndicator.health();
+
+        assertEquals(DataSourcePoolHealthIndicator.DEGRADED, health.getStatus());
+        assertEquals(1L, health.getDetails().get("timeoutsInWindow"));
+    }
+
+    private void advanceWindow() {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(properties.getDatasource().getHealthWindowSeconds()));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.taskmanagement.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for HibernateStatisticsEndpoint.
+ */
+@ExtendWith(MockitoExtension.class)
+class HibernateStatisticsEndpointTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    private HibernateStatisticsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        endpoint = new HibernateStatisticsEndpoint(entityManagerFactory);
+
+        lenient().when(statistics.getQueries()).thenReturn(new String[0]);
+        lenient().when(statistics.getEntityNames()).thenReturn(new String[0]);
+    }
+
+    @Test
+    @DisplayName("Should list queries by total execution time, slowest first")
+    @SuppressWarnings("unchecked")
+    void shouldListQueriesByTotalTime() {
+        String byId = "select t from Task t where t.id = ?1";
+        String byTitle = "select t from Task t where lower(t.title) like ?1";
+        QueryStatistics frequent = queryStatistics(200, 4000, 3, 40);
+        QueryStatistics slow = queryStatistics(2, 2, 900, 1200);
+        when(statistics.getQueries()).thenReturn(new String[] {byId, byTitle});
+        when(statistics.getQueryStatistics(byId)).thenReturn(frequent);
+        when(statistics.getQueryStatistics(byTitle)).thenReturn(slow);
+
+        List<Map<String, Object>> queries = (List<Map<String, Object>>) endpoint.statistics().get("queries");
+
+        assertEquals(2, queries.size());
+        assertEquals(byTitle, queries.get(0).get("query"));
+        assertEquals(1800L, queries.get(0).get("totalTimeMs"));
+        assertEquals(1200L, queries.get(0).get("maxTimeMs"));
+        assertEquals(200L, queries.get(1).get("executions"));
+        assertEquals(4000L, queries.get(1).get("rows"));
+        assertEquals(3L, queries.get(1).get("meanTimeMs"));
+    }
+
+    @Test
+    @DisplayName("Should report load and fetch counts per entity")
+    @SuppressWarnings("unchecked")
+    void shouldReportEntityCounts() {
+        EntityStatistics task = mock(EntityStatistics.class);
+        when(task.getLoadCount()).thenReturn(120L);
+        when(task.getFetchCount()).thenReturn(7L);
+        when(statistics.getEntityNames()).thenReturn(new String[] {"com.example.taskmanagement.entity.Task"});
+        when(statistics.getEntityStatistics("com.example.taskmanagement.entity.Task")).thenReturn(task);
+        when(statistics.getEntityLoadCount()).thenReturn(120L);
+
+        Map<String, Object> report = endpoint.statistics();
+
+        Map<String, Object> entities = (Map<String, Object>) report.get("entities");
+        Map<String, Object> counts = (Map<String, Object>) entities.get("com.example.taskmanagement.entity.Task");
+        assertEquals(120L, counts.get("loads"));
+        assertEquals(7L, counts.get("fetches"));
+        assertEquals(120L, ((Map<String, Object>) report.get("totals")).get("entityLoads"));
+    }
+
+    @Test
+    @DisplayName("Should clear the statistics on reset")
+    void shouldClearOnReset() {
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+
+        Map<String, Object> report = endpoint.reset();
+
+        verify(statistics).clear();
+        assertEquals(true, report.get("enabled"));
+    }
+
+    private static QueryStatistics queryStatistics(long executions, long rows, long meanMs, long maxMs) {
+        QueryStatistics stats = mock(QueryStatistics.class);
+        when(stats.getExecutionCount()).thenReturn(executions);
+        when(stats.getExecutionRowCount()).thenReturn(rows);
+        when(stats.getExecutionAvgTime()).thenReturn(meanMs);
+        when(stats.getExecutionMaxTime()).thenReturn(maxMs);
+        return stats;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.taskmanagement.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InstrumentedDataSource and RequestStatistics.
+ */
+class InstrumentedDataSourceTest {
+
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new InstrumentedDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:instrumented;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS items (id BIGINT PRIMARY KEY)");
+            statement.execute("DELETE FROM items");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestStatistics current = RequestStatistics.current();
+        if (current != null) {
+            current.close();
+        }
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should hand out plain connections outside a request")
+    void shouldNotWrapOutsideScope() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertFalse(Proxy.isProxyClass(connection.getClass()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should count executions, batches and rows inside a request")
+    void shouldCountStatementsAndRows() throws Exception {
+        RequestStatistics statistics = RequestStatistics.start(true);
+
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO items (id) VALUES (?)")) {
+                for (long id = 1; id <= 3; id++) {
+                    insert.setLong(1, id);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement select = connection.prepareStatement("SELECT id FROM items ORDER BY id");
+                 ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    assertTrue(rows.getLong(1) > 0);
+                }
+            }
+        }
+        statistics.close();
+
+        assertEquals(2, statistics.getStatements());
+        assertEquals(3, statistics.getRows());
+        assertNull(RequestStatistics.current());
+    }
+
+    @Test
+    @DisplayName("Should measure allocation only when asked")
+    void shouldTrackAllocationOnRequest() {
+        RequestStatistics untracked = RequestStatistics.start(false);
+        untracked.close();
+        assertEquals(-1, untracked.getAllocatedBytes());
+
+        RequestStatistics tracked = RequestStatistics.start(true);
+        byte[] payload = new byte[64 * 1024];
+        assertEquals(64 * 1024, payload.length);
+        tracked.close();
+        // Allocation counters are optional JVM features; when present they see the buffer
+        assertTrue(tracked.getAllocatedBytes() == -1 || tracked.getAllocatedBytes() >= 64 * 1024);
+    }
+}
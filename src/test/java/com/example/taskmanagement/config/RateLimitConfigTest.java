@@ -1,10 +1,12 @@
 package com.example.taskmanagement.config;
 
 import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,14 +19,13 @@ import static org.junit.jupiter.api.Assertions.*;
 class RateLimitConfigTest {
 
     private RateLimitConfig rateLimitConfig;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        rateLimitConfig = new RateLimitConfig();
-        // Set test values using reflection
-        ReflectionTestUtils.setField(rateLimitConfig, "capacity", 100L);
-        ReflectionTestUtils.setField(rateLimitConfig, "refillTokens", 100L);
-        ReflectionTestUtils.setField(rateLimitConfig, "refillDuration", 1L);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitConfig = new RateLimitConfig(100L, 100L, 1L, 1000L, 10L,
+                Collections.singletonList("10.0.0.1"), meterRegistry);
     }
 
     @Test
@@ -132,8 +133,34 @@ class RateLimitConfigTest {
         assertEquals(90, bucket2.getAvailableTokens());
         assertSame(bucket1, bucket2);
     }
-}
 
+    @Test
+    @DisplayName("Should keep bucket count bounded under many distinct keys")
+    void shouldKeepBucketCountBounded() {
+        for (int i = 0; i < 10_000; i++) {
+            rateLimitConfig.resolveBucket("attacker-" + i);
+        }
+
+        assertTrue(rateLimitConfig.getBucketCount() <= 1000);
+        assertTrue(meterRegistry.get("cache.evictions").tag("cache", "rateLimitBuckets")
+                .functionCounter().count() > 0);
+    }
 
+    @Test
+    @DisplayName("Should expose bucket store size as a metric")
+    void shouldExposeBucketStoreSize() {
+        rateLimitConfig.resolveBucket("client-1");
+        rateLimitConfig.resolveBucket("client-2");
 
+        assertEquals(2L, rateLimitConfig.getBucketCount());
+        assertEquals(2.0, meterRegistry.get("cache.size").tag("cache", "rateLimitBuckets").gauge().value());
+    }
 
+    @Test
+    @DisplayName("Should only trust configured proxies")
+    void shouldOnlyTrustConfiguredProxies() {
+        assertTrue(rateLimitConfig.isTrustedProxy("10.0.0.1"));
+        assertFalse(rateLimitConfig.isTrustedProxy("192.168.1.1"));
+        assertFalse(rateLimitConfig.isTrustedProxy(null));
+    }
+}
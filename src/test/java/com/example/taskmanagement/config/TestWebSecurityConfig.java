@@ -37,7 +37,7 @@ public class TestWebSecurityConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                 .allowedHeaders("*")
-                .exposedHeaders("X-Rate-Limit-Remaining", "X-Rate-Limit-Retry-After-Seconds", "X-Correlation-ID")
+                .exposedHeaders("X-Rate-Limit-Remaining", "X-Rate-Limit-Retry-After-Seconds", "X-Correlation-ID", "ETag")
                 .allowCredentials(false)  // Set to false to allow wildcard origins
                 .maxAge(3600);
     }
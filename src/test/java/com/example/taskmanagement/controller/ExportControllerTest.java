@@ -9,11 +9,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,102 +48,125 @@ class ExportControllerTest {
     }
 
     @Test
-    void testExportTasksWithCsvFormat() {
+    void testExportTasksWithCsvFormat() throws IOException {
         // Given
-        when(exportService.exportTasksToCsv(null)).thenReturn(testCsvData);
+        doAnswer(writeTo(testCsvData)).when(exportService).writeTasksAsCsv(isNull(), any(OutputStream.class));
 
         // When
-        ResponseEntity<byte[]> response = exportController.exportTasks("csv");
+        ResponseEntity<StreamingResponseBody> response = exportController.exportTasks("csv");
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(testCsvData, response.getBody());
+        assertArrayEquals(testCsvData, readBody(response));
         
         HttpHeaders headers = response.getHeaders();
         assertTrue(headers.getContentDisposition().toString().contains("attachment"));
         assertTrue(headers.getContentDisposition().toString().contains(".csv"));
         assertEquals("text/csv;charset=utf-8", headers.getContentType().toString());
         
-        verify(exportService).exportTasksToCsv(null);
-        verify(exportService, never()).exportTasksToJson();
+        verify(exportService).writeTasksAsCsv(isNull(), any(OutputStream.class));
+        verify(exportService, never()).writeTasksAsJson(any(), any());
     }
 
     @Test
-    void testExportTasksWithJsonFormat() {
+    void testExportTasksWithJsonFormat() throws IOException {
         // Given
-        when(exportService.exportTasksToJson(null)).thenReturn(testJsonData);
+        doAnswer(writeTo(testJsonData)).when(exportService).writeTasksAsJson(isNull(), any(OutputStream.class));
 
         // When
-        ResponseEntity<byte[]> response = exportController.exportTasks("json");
+        ResponseEntity<StreamingResponseBody> response = exportController.exportTasks("json");
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(testJsonData, response.getBody());
+        assertArrayEquals(testJsonData, readBody(response));
         
         HttpHeaders headers = response.getHeaders();
         assertTrue(headers.getContentDisposition().toString().contains("attachment"));
         assertTrue(headers.getContentDisposition().toString().contains(".json"));
         assertEquals("application/json;charset=utf-8", headers.getContentType().toString());
         
-        verify(exportService).exportTasksToJson(null);
-        verify(exportService, never()).exportTasksToCsv();
+        verify(exportService).writeTasksAsJson(isNull(), any(OutputStream.class));
+        verify(exportService, never()).writeTasksAsCsv(any(), any());
     }
 
     @Test
-    void testExportTasksWithDefaultFormat() {
+    void testExportTasksWithDefaultFormat() throws IOException {
         // Given
-        when(exportService.exportTasksToJson(null)).thenReturn(testJsonData);
+        doAnswer(writeTo(testJsonData)).when(exportService).writeTasksAsJson(isNull(), any(OutputStream.class));
 
         // When
-        ResponseEntity<byte[]> response = exportController.exportTasks("json");
+        ResponseEntity<StreamingResponseBody> response = exportController.exportTasks("json");
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(testJsonData, response.getBody());
+        assertArrayEquals(testJsonData, readBody(response));
         
-        verify(exportService).exportTasksToJson(null);
-        verify(exportService, never()).exportTasksToCsv();
+        verify(exportService).writeTasksAsJson(isNull(), any(OutputStream.class));
+        verify(exportService, never()).writeTasksAsCsv(any(), any());
+    }
+
+    @Test
+    void testExportTasksDoesNotQueryUntilBodyIsWritten() {
+        // When
+        ResponseEntity<StreamingResponseBody> response = exportController.exportTasks("json");
+
+        // Then
+        assertNotNull(response.getBody());
+        verifyNoInteractions(exportService);
     }
 
     @Test
-    void testExportTasksWithUnsupportedFormat() {
+    void testExportTasksWithUnsupportedFormat() throws IOException {
         // Given
         String unsupportedFormat = "xml";
 
         // When
-        ResponseEntity<byte[]> response = exportController.exportTasks(unsupportedFormat);
+        ResponseEntity<StreamingResponseBody> response = exportController.exportTasks(unsupportedFormat);
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNotNull(response.getBody());
         
-        String errorMessage = new String(response.getBody());
+        String errorMessage = new String(readBody(response), StandardCharsets.UTF_8);
         assertTrue(errorMessage.contains("Unsupported format"));
         assertTrue(errorMessage.contains("csv"));
         assertTrue(errorMessage.contains("json"));
         
-        verify(exportService, never()).exportTasksToCsv();
-        verify(exportService, never()).exportTasksToJson();
+        verifyNoInteractions(exportService);
     }
 
     @Test
-    void testExportTasksWithCaseInsensitiveFormat() {
+    void testExportTasksWithCaseInsensitiveFormat() throws IOException {
         // Given
-        when(exportService.exportTasksToCsv(null)).thenReturn(testCsvData);
+        doAnswer(writeTo(testCsvData)).when(exportService).writeTasksAsCsv(isNull(), any(OutputStream.class));
 
         // When
-        ResponseEntity<byte[]> response = exportController.exportTasks("CSV");
+        ResponseEntity<StreamingResponseBody> response = exportController.exportTasks("CSV");
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(testCsvData, response.getBody());
+        assertArrayEquals(testCsvData, readBody(response));
         
-        verify(exportService).exportTasksToCsv(null);
+        verify(exportService).writeTasksAsCsv(isNull(), any(OutputStream.class));
+    }
+
+    @Test
+    void testExportTasksToCsvPassesFilters() throws IOException {
+        // Given
+        doAnswer(writeTo(testCsvData)).when(exportService).writeTasksAsCsv(eq("priority=HIGH"), any(OutputStream.class));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = exportController.exportTasksToCsv("priority=HIGH");
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(testCsvData, readBody(response));
+        assertTrue(response.getHeaders().getContentDisposition().toString().contains("tasks_export_"));
     }
 
     @Test
@@ -184,4 +217,18 @@ class ExportControllerTest {
         assertEquals(1, analyticsFormats.length);
         assertTrue(java.util.Arrays.asList(analyticsFormats).contains("json"));
     }
+
+    private static Answer<Void> writeTo(byte[] data) {
+        return invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(data);
+            return null;
+        };
+    }
+
+    private static byte[] readBody(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
 }
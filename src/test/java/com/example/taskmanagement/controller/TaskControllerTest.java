@@ -1,10 +1,13 @@
 package com.example.taskmanagement.controller;
 
+import com.example.taskmanagement.dto.CursorPage;
 import com.example.taskmanagement.dto.TaskRequest;
 import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.dto.TaskSearchRequest;
+import com.example.taskmanagement.dto.TaskSummary;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.exception.ValidationException;
 import com.example.taskmanagement.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +31,9 @@ import java.util.Optional;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -119,6 +125,39 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.data.totalElements").value(1));
     }
 
+    @Test
+    void testGetAllTasksSummaryView() throws Exception {
+        Page<TaskSummary> summaryPage = new PageImpl<>(Arrays.asList(
+                new TaskSummary(1L, "Test Task", Status.TODO, Priority.HIGH, LocalDate.now().plusDays(1))),
+                PageRequest.of(0, 10), 1);
+        when(taskService.getAllTaskSummaries(anyInt(), anyInt())).thenReturn(summaryPage);
+
+        mockMvc.perform(get("/api/tasks").param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(1L))
+                .andExpect(jsonPath("$.data.content[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.data.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].notes").doesNotExist());
+
+        verify(taskService, never()).getAllTasks(anyInt(), anyInt());
+    }
+
+    @Test
+    void testQuickSearchWithSummaryFields() throws Exception {
+        Page<TaskSummary> summaryPage = new PageImpl<>(Arrays.asList(
+                new TaskSummary(1L, "Test Task", Status.TODO, Priority.HIGH, null)), PageRequest.of(0, 10), 1);
+        when(taskService.searchTaskSummaries(any(TaskSearchRequest.class))).thenReturn(summaryPage);
+
+        mockMvc.perform(get("/api/tasks/search/quick")
+                .param("q", "test")
+                .param("fields", "id,title,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].status").value("TODO"))
+                .andExpect(jsonPath("$.data.content[0].createdAt").doesNotExist());
+
+        verify(taskService, never()).searchTasks(any(TaskSearchRequest.class));
+    }
+
     @Test
     void testUpdateTask() throws Exception {
         when(taskService.updateTask(eq(1L), any(TaskRequest.class))).thenReturn(Optional.of(taskResponse));
@@ -242,4 +281,42 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.data.content").isArray())
                 .andExpect(jsonPath("$.data.totalElements").value(1));
     }
+
+    @Test
+    void testScrollTasks() throws Exception {
+        CursorPage<TaskResponse> slice = new CursorPage<>(Arrays.asList(taskResponse), "next-token", 1);
+        when(taskService.scrollTasks(any(TaskSearchRequest.class), eq("token"))).thenReturn(slice);
+
+        mockMvc.perform(get("/api/tasks/scroll")
+                .param("cursor", "token")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content[0].id").value(1L))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
+    @Test
+    void testScrollOverdueTasks() throws Exception {
+        CursorPage<TaskResponse> slice = new CursorPage<>(Arrays.asList(taskResponse), null, 10);
+        when(taskService.scrollOverdueTasks(isNull(), eq(10))).thenReturn(slice);
+
+        mockMvc.perform(get("/api/tasks/overdue/scroll"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.nextCursor").isEmpty())
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    void testScrollTasksWithInvalidCursor() throws Exception {
+        when(taskService.scrollTasks(any(TaskSearchRequest.class), eq("bogus")))
+                .thenThrow(new ValidationException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/tasks/scroll")
+                .param("cursor", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,33 @@
+package com.example.taskmanagement.enums;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for TaskView.
+ */
+class TaskViewTest {
+
+    @Test
+    void testMissingFieldsSelectFullView() {
+        assertEquals(TaskView.FULL, TaskView.fromFields(null));
+        assertEquals(TaskView.FULL, TaskView.fromFields(" "));
+        assertEquals(TaskView.FULL, TaskView.fromFields("full"));
+    }
+
+    @Test
+    void testSummaryNameSelectsSummaryView() {
+        assertEquals(TaskView.SUMMARY, TaskView.fromFields("Summary"));
+    }
+
+    @Test
+    void testSummaryFieldListSelectsSummaryView() {
+        assertEquals(TaskView.SUMMARY, TaskView.fromFields("id, title,dueDate"));
+    }
+
+    @Test
+    void testAnyNonSummaryFieldSelectsFullView() {
+        assertEquals(TaskView.FULL, TaskView.fromFields("id,title,description"));
+    }
+}
@@ -241,5 +241,19 @@ public class AuditControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data.content").isArray())
                 .andExpect(jsonPath("$.data.content.length()").value(greaterThanOrEqualTo(1)));
     }
-}
 
+    @Test
+    public void testTaskChangesAreAudited() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        mockMvc.perform(put("/api/tasks/{id}/complete", taskId))
+                .andExpect(status().isOk());
+
+        auditWriter.flush();
+
+        mockMvc.perform(get("/api/audit/task/{taskId}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[?(@.action == 'CREATED')].newValues").isNotEmpty())
+                .andExpect(jsonPath("$.data.content[?(@.action == 'COMPLETED')]").isNotEmpty());
+    }
+}
@@ -5,7 +5,13 @@ import com.example.taskmanagement.dto.TaskRequest;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
 import com.example.taskmanagement.repository.TaskAuditRepository;
+import com.example.taskmanagement.repository.TaskOutboxRepository;
 import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.service.AuditWriter;
+import com.example.taskmanagement.service.TaskDataVersion;
+import com.example.taskmanagement.service.TaskReadCache;
+import com.example.taskmanagement.service.TaskSearchIndex;
+import com.example.taskmanagement.service.TaskTitleIndex;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,13 +56,36 @@ public abstract class BaseIntegrationTest {
     @Autowired
     protected TaskAuditRepository taskAuditRepository;
 
+    @Autowired
+    protected TaskOutboxRepository taskOutboxRepository;
+
+    @Autowired
+    protected AuditWriter auditWriter;
+
+    @Autowired
+    protected TaskTitleIndex taskTitleIndex;
+
+    @Autowired
+    protected TaskReadCache taskReadCache;
+
+    @Autowired
+    protected TaskDataVersion taskDataVersion;
+
+    @Autowired
+    protected TaskSearchIndex taskSearchIndex;
+
     /**
      * Clean up database before each test to ensure test isolation.
      */
     @BeforeEach
     public void setUp() {
+        // Write out audits queued by the previous test before clearing the table
+        auditWriter.flush();
         taskAuditRepository.deleteAll();
         taskRepository.deleteAll();
+        taskOutboxRepository.deleteAllInBatch();
+        // Repository deletes bypass the task events, so resync the derived models
+        TaskModelReset.afterDirectDelete(taskTitleIndex, taskSearchIndex, taskReadCache, taskDataVersion);
     }
 
     /**
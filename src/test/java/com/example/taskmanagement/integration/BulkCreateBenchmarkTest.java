@@ -0,0 +1,77 @@
+package com.example.taskmanagement.integration;
+
+import com.example.taskmanagement.dto.TaskRequest;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Throughput benchmark for POST /api/tasks/bulk/create.
+ *
+ * <p>Skipped by default. Run with:</p>
+ * <pre>
+ * mvn test -Dtest=BulkCreateBenchmarkTest -Dbenchmark=true
+ * </pre>
+ * <p>Pass {@code -Dapp.jpa.batch-size=1} to measure the same load without JDBC batching.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class BulkCreateBenchmarkTest extends BaseIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkCreateBenchmarkTest.class);
+
+    private static final int TASK_COUNT = 10_000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Test
+    public void benchmarkBulkCreate10k() throws Exception {
+        String payload = objectMapper.writeValueAsString(buildRequests(TASK_COUNT));
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            bulkCreate(payload);
+        }
+
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            taskRepository.deleteAllInBatch();
+            totalNanos += bulkCreate(payload);
+        }
+
+        assertEquals(TASK_COUNT, taskRepository.count());
+        double averageMs = TimeUnit.NANOSECONDS.toMicros(totalNanos / MEASURED_ROUNDS) / 1000.0;
+        logger.info("bulk/create {} tasks: avg {} ms, {} tasks/s over {} rounds", TASK_COUNT,
+                String.format("%.1f", averageMs), String.format("%.0f", TASK_COUNT / (averageMs / 1000.0)),
+                MEASURED_ROUNDS);
+    }
+
+    private long bulkCreate(String payload) throws Exception {
+        long start = System.nanoTime();
+        mockMvc.perform(post("/api/tasks/bulk/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+                .andExpect(status().isCreated());
+        return System.nanoTime() - start;
+    }
+
+    private List<TaskRequest> buildRequests(int count) {
+        Priority[] priorities = Priority.values();
+        List<TaskRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(createTaskRequest("Benchmark task " + i, "Bulk insert benchmark row " + i,
+                    priorities[i % priorities.length], Status.TODO));
+        }
+        return requests;
+    }
+}
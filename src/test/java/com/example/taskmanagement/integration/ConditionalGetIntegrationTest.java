@@ -0,0 +1,101 @@
+package com.example.taskmanagement.integration;
+
+import com.example.taskmanagement.dto.TaskRequest;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for conditional GETs on task endpoints.
+ * Verifies that unchanged tasks and lists are answered with 304 Not Modified
+ * and that any committed change produces a new ETag.
+ */
+public class ConditionalGetIntegrationTest extends BaseIntegrationTest {
+
+    @Test
+    public void testGetTaskById_ReturnsValidators() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    public void testGetTaskById_UnchangedTaskIsNotModified() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        String etag = etagOf("/api/tasks/" + taskId);
+
+        String body = mockMvc.perform(get("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(body.isEmpty());
+    }
+
+    @Test
+    public void testGetTaskById_UpdateChangesEtag() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        String etag = etagOf("/api/tasks/" + taskId);
+
+        TaskRequest update = createTaskRequest("Renamed", "Desc", Priority.LOW, Status.IN_PROGRESS);
+        mockMvc.perform(put("/api/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        String newEtag = mockMvc.perform(get("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("Renamed"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    public void testGetTaskById_MissingTaskIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", 999L)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"task-999\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testListUnchangedIsNotModified() throws Exception {
+        createTaskViaApi(createStandardTaskRequest());
+        String etag = etagOf("/api/tasks");
+
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/tasks/status/TODO").header(HttpHeaders.IF_NONE_MATCH, etagOf("/api/tasks/status/TODO")))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void testListChangesAfterAnyTaskChange() throws Exception {
+        createTaskViaApi(createStandardTaskRequest());
+        String etag = etagOf("/api/tasks");
+
+        createTaskViaApi(createTaskRequest("Another", "Desc", Priority.HIGH, Status.TODO));
+
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2));
+    }
+
+    private String etagOf(String uri) throws Exception {
+        String etag = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+}
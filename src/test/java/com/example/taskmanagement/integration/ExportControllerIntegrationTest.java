@@ -4,6 +4,9 @@ import com.example.taskmanagement.dto.TaskRequest;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,7 +33,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
         createTaskViaApi(createTaskRequest("Task 1", "Description 1", Priority.HIGH, Status.TODO));
         createTaskViaApi(createTaskRequest("Task 2", "Description 2", Priority.MEDIUM, Status.IN_PROGRESS));
 
-        mockMvc.perform(get("/api/export/tasks/csv"))
+        performStreamingExport(get("/api/export/tasks/csv"))
                 .andExpect(status().isOk())
                 .andExpect(header().exists("Content-Disposition"))
                 .andExpect(header().string("Content-Disposition", org.hamcrest.Matchers.containsString("attachment")))
@@ -40,7 +43,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
 
     @Test
     public void testExportTasksToCsv_EmptyDatabase() throws Exception {
-        mockMvc.perform(get("/api/export/tasks/csv"))
+        performStreamingExport(get("/api/export/tasks/csv"))
                 .andExpect(status().isOk())
                 .andExpect(header().exists("Content-Disposition"))
                 .andExpect(header().string("Content-Type", org.hamcrest.Matchers.containsString("text/csv")));
@@ -52,7 +55,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
         createTaskViaApi(createTaskRequest("High Priority Task", "Desc", Priority.HIGH, Status.TODO));
         createTaskViaApi(createTaskRequest("Low Priority Task", "Desc", Priority.LOW, Status.TODO));
 
-        mockMvc.perform(get("/api/export/tasks/csv")
+        performStreamingExport(get("/api/export/tasks/csv")
                 .param("filters", "priority=HIGH"))
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Type", org.hamcrest.Matchers.containsString("text/csv")));
@@ -64,7 +67,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
         createTaskViaApi(createTaskRequest("Task 1", "Description 1", Priority.HIGH, Status.TODO));
         createTaskViaApi(createTaskRequest("Task 2", "Description 2", Priority.MEDIUM, Status.COMPLETED));
 
-        mockMvc.perform(get("/api/export/tasks/json"))
+        performStreamingExport(get("/api/export/tasks/json"))
                 .andExpect(status().isOk())
                 .andExpect(header().exists("Content-Disposition"))
                 .andExpect(header().string("Content-Disposition", org.hamcrest.Matchers.containsString("attachment")))
@@ -74,7 +77,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
 
     @Test
     public void testExportTasksToJson_EmptyDatabase() throws Exception {
-        mockMvc.perform(get("/api/export/tasks/json"))
+        performStreamingExport(get("/api/export/tasks/json"))
                 .andExpect(status().isOk())
                 .andExpect(header().exists("Content-Disposition"))
                 .andExpect(header().string("Content-Type", org.hamcrest.Matchers.containsString("application/json")));
@@ -120,7 +123,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
     public void testExportTasks_CsvFormat() throws Exception {
         createTaskViaApi(createStandardTaskRequest());
 
-        mockMvc.perform(get("/api/export/tasks")
+        performStreamingExport(get("/api/export/tasks")
                 .param("format", "csv"))
                 .andExpect(status().isOk())
                 .andExpect(header().exists("Content-Disposition"))
@@ -131,7 +134,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
     public void testExportTasks_JsonFormat() throws Exception {
         createTaskViaApi(createStandardTaskRequest());
 
-        mockMvc.perform(get("/api/export/tasks")
+        performStreamingExport(get("/api/export/tasks")
                 .param("format", "json"))
                 .andExpect(status().isOk())
                 .andExpect(header().exists("Content-Disposition"))
@@ -143,7 +146,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
         createTaskViaApi(createStandardTaskRequest());
 
         // Should default to JSON
-        mockMvc.perform(get("/api/export/tasks"))
+        performStreamingExport(get("/api/export/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(header().exists("Content-Disposition"))
                 .andExpect(header().string("Content-Type", org.hamcrest.Matchers.containsString("application/json")));
@@ -153,7 +156,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
     public void testExportTasks_UnsupportedFormat() throws Exception {
         createTaskViaApi(createStandardTaskRequest());
 
-        mockMvc.perform(get("/api/export/tasks")
+        performStreamingExport(get("/api/export/tasks")
                 .param("format", "xml"))
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string(org.hamcrest.Matchers.containsString("Unsupported format")));
@@ -178,7 +181,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
         // Create a task with known values
         createTaskViaApi(createTaskRequest("Test CSV Task", "CSV Description", Priority.HIGH, Status.TODO));
 
-        byte[] csvContent = mockMvc.perform(get("/api/export/tasks/csv"))
+        byte[] csvContent = performStreamingExport(get("/api/export/tasks/csv"))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse()
@@ -197,7 +200,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
         // Create a task with known values
         createTaskViaApi(createTaskRequest("Test JSON Task", "JSON Description", Priority.MEDIUM, Status.TODO));
 
-        byte[] jsonContent = mockMvc.perform(get("/api/export/tasks/json"))
+        byte[] jsonContent = performStreamingExport(get("/api/export/tasks/json"))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse()
@@ -219,7 +222,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
         }
 
         // Export to CSV
-        byte[] csvContent = mockMvc.perform(get("/api/export/tasks/csv"))
+        byte[] csvContent = performStreamingExport(get("/api/export/tasks/csv"))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse()
@@ -228,7 +231,7 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
         assertTrue(csvContent.length > 1000, "CSV export should contain substantial data");
 
         // Export to JSON
-        byte[] jsonContent = mockMvc.perform(get("/api/export/tasks/json"))
+        byte[] jsonContent = performStreamingExport(get("/api/export/tasks/json"))
                 .andExpect(status().isOk())
                 .andReturn()
                 .getResponse()
@@ -236,5 +239,35 @@ public class ExportControllerIntegrationTest extends BaseIntegrationTest {
 
         assertTrue(jsonContent.length > 1000, "JSON export should contain substantial data");
     }
-}
 
+    @Test
+    public void testExportTasksToJson_StreamsEveryTask() throws Exception {
+        createTaskViaApi(createTaskRequest("First, with comma", "Desc", Priority.HIGH, Status.TODO));
+        createTaskViaApi(createTaskRequest("Second \"quoted\"", "Desc", Priority.LOW, Status.TODO));
+
+        performStreamingExport(get("/api/export/tasks/json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("First, with comma"))
+                .andExpect(jsonPath("$[1].title").value("Second \"quoted\""));
+
+        String csv = performStreamingExport(get("/api/export/tasks/csv"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertTrue(csv.contains(",\"First, with comma\","));
+        assertTrue(csv.contains(",\"Second \"\"quoted\"\"\","));
+    }
+
+    /**
+     * Task exports are streamed asynchronously, so the body is only complete
+     * after the async dispatch has run.
+     */
+    private ResultActions performStreamingExport(MockHttpServletRequestBuilder exportRequest) throws Exception {
+        MvcResult result = mockMvc.perform(exportRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
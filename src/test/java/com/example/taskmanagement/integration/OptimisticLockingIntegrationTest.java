@@ -0,0 +1,237 @@
+package com.example.taskmanagement.integration;
+
+import com.example.taskmanagement.dto.TaskRequest;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static com.example.taskmanagement.integration.QueryCountMatchers.queryCount;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for version-checked updates.
+ * Verifies that If-Match rejects updates based on a stale version, that PATCH
+ * changes only the fields sent and clears optional fields sent as null, and that a PATCH against a cached version is
+ * written without reading the task first.
+ */
+public class OptimisticLockingIntegrationTest extends BaseIntegrationTest {
+
+    @Test
+    public void testPatchChangesOnlyGivenFieldsAndBumpsVersion() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        String etag = etagOf(taskId);
+
+        String newEtag = mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusPatch(Status.IN_PROGRESS))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.data.title").value("Integration Test Task"))
+                .andExpect(jsonPath("$.data.version").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, newEtag))
+                .andExpect(jsonPath("$.data.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.data.description").value("Test Description"));
+    }
+
+    @Test
+    public void testPatchWithNullClearsOptionalField() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.description").doesNotExist())
+                .andExpect(jsonPath("$.data.title").value("Integration Test Task"));
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(jsonPath("$.data.description").doesNotExist());
+    }
+
+    @Test
+    public void testPatchClearingRequiredFieldIsRejected() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":null}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testPatchWithStaleEtagFailsPrecondition() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        String etag = etagOf(taskId);
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusPatch(Status.IN_PROGRESS))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusPatch(Status.CANCELLED))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("VERSION_CONFLICT"));
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(jsonPath("$.data.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    public void testPatchStaleVersionDetectedWithoutCachedCopy() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        String etag = etagOf(taskId);
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusPatch(Status.IN_PROGRESS))))
+                .andExpect(status().isOk());
+        taskReadCache.evict(taskId);
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusPatch(Status.CANCELLED))))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testPatchAgainstCachedVersionSkipsRead() throws Exception {
+        Long cachedId = createTaskViaApi(createStandardTaskRequest());
+        Long uncachedId = createTaskViaApi(createStandardTaskRequest());
+        String cachedEtag = etagOf(cachedId);
+        String uncachedEtag = etagOf(uncachedId);
+        taskReadCache.evict(uncachedId);
+
+        long fastPath = patchQueryCount(cachedId, cachedEtag);
+        long slowPath = patchQueryCount(uncachedId, uncachedEtag);
+
+        assertTrue(fastPath < slowPath,
+            "PATCH of a cached version took " + fastPath + " statements, of an uncached one " + slowPath);
+    }
+
+    @Test
+    public void testPutWithStaleEtagFailsPrecondition() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        String etag = etagOf(taskId);
+        TaskRequest update = createTaskRequest("Renamed", "Desc", Priority.LOW, Status.IN_PROGRESS);
+
+        String newEtag = mockMvc.perform(put("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+
+        mockMvc.perform(put("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testIfMatchForAnotherTaskFailsPrecondition() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        Long otherId = createTaskViaApi(createStandardTaskRequest());
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, etagOf(otherId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusPatch(Status.IN_PROGRESS))))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testPatchWithWildcardIfMatchApplies() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusPatch(Status.IN_PROGRESS))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testEmptyPatchIsRejected() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testPatchMissingTaskIsNotFound() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}", 999L)
+                .header(HttpHeaders.IF_MATCH, "\"task-999-v0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusPatch(Status.IN_PROGRESS))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testBulkCompleteAdvancesVersion() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        String etag = etagOf(taskId);
+
+        mockMvc.perform(put("/api/tasks/bulk/complete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + taskId + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].version").value(1));
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.version").value(1));
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusPatch(Status.TODO))))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private long patchQueryCount(Long taskId, String etag) throws Exception {
+        MvcResult result = mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(statusPatch(Status.IN_PROGRESS))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return queryCount(result);
+    }
+
+    private static Map<String, Object> statusPatch(Status status) {
+        return Collections.singletonMap("status", status);
+    }
+
+    private String etagOf(Long taskId) throws Exception {
+        String etag = mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.taskmanagement.integration;
+
+import com.example.taskmanagement.TaskManagementApplication;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.service.TaskSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Time-to-ready benchmark for the persistent profile with a large existing dataset.
+ *
+ * <p>Seeds a file-backed database once, then measures two restarts: the first
+ * rebuilds the search index from the database, the second reuses it. Skipped
+ * by default. Run with:</p>
+ * <pre>
+ * mvn test -Dtest=PersistentStartupBenchmarkTest -Dbenchmark=true
+ * </pre>
+ * <p>Pass {@code -Dbenchmark.tasks=N} to change the dataset size, and
+ * {@code -Dapp.storage.cache-size-kb}, {@code -Dapp.storage.compress} or
+ * {@code -Dapp.storage.write-delay-ms} to compare storage settings.</p>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class PersistentStartupBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistentStartupBenchmarkTest.class);
+
+    private static final int TASK_COUNT = Integer.getInteger("benchmark.tasks", 1_000_000);
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    private static final String INSERT_TASK =
+        "INSERT INTO tasks (id, title, description, priority, status, due_date, notes, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @TempDir
+    Path storage;
+
+    @Test
+    public void benchmarkStartupWithExistingTasks() {
+        long seedStart = System.nanoTime();
+        try (ConfigurableApplicationContext context = start()) {
+            seed(context.getBean(JdbcTemplate.class));
+        }
+        logger.info("seeded {} tasks in {} ms", TASK_COUNT,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+        // Seeding bypassed the task events, so the first restart rebuilds the search index
+        measureStartup("rebuilding search index");
+        measureStartup("reusing search index");
+    }
+
+    private void measureStartup(String label) {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = start()) {
+            long readyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertEquals(TASK_COUNT, context.getBean(TaskRepository.class).count());
+            assertEquals(TASK_COUNT, context.getBean(TaskSearchIndex.class).documentCount());
+            logger.info("startup with {} tasks ({}): ready in {} ms, heap used {} MB",
+                TASK_COUNT, label, readyMs, usedHeapMb());
+        }
+    }
+
+    /**
+     * Starts the application on the persistent profile; returns once every
+     * ApplicationReadyEvent listener has finished.
+     */
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+            .profiles("persistent")
+            .properties(
+                "app.storage.path=" + storage.toAbsolutePath(),
+                "server.port=0",
+                "logging.level.com.example=WARN")
+            .run();
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime now = LocalDateTime.now();
+        Priority[] priorities = Priority.values();
+        Status[] statuses = Status.values();
+
+        for (int offset = 0; offset < TASK_COUNT; offset += INSERT_BATCH_SIZE) {
+            int first = offset;
+            int size = Math.min(INSERT_BATCH_SIZE, TASK_COUNT - offset);
+            jdbcTemplate.batchUpdate(INSERT_TASK, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    long id = first + i + 1L;
+                    LocalDateTime createdAt = now.minusMinutes(TASK_COUNT - id);
+                    ps.setLong(1, id);
+                    ps.setString(2, "Benchmark task " + id);
+                    ps.setString(3, "Seeded description for task " + id + " covering review and planning work");
+                    ps.setString(4, priorities[(int) (id % priorities.length)].name());
+                    ps.setString(5, statuses[(int) (id % statuses.length)].name());
+                    ps.setDate(6, Date.valueOf(LocalDate.now().plusDays(id % 60 - 30)));
+                    ps.setString(7, id % 4 == 0 ? "Notes for task " + id : null);
+                    ps.setTimestamp(8, Timestamp.valueOf(createdAt));
+                    ps.setTimestamp(9, Timestamp.valueOf(createdAt));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+        // Rows were inserted with explicit IDs; move the sequence past them
+        jdbcTemplate.execute("ALTER SEQUENCE task_seq RESTART WITH " + (TASK_COUNT + 1L));
+    }
+
+    private static long usedHeapMb() {
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+    }
+}
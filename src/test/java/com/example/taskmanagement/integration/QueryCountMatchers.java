@@ -0,0 +1,50 @@
+package com.example.taskmanagement.integration;
+
+import com.example.taskmanagement.config.RequestStatistics;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc matchers over the per-request statement count header.
+ *
+ * <p>Pin an endpoint's query budget so an N+1 regression fails the test:</p>
+ * <pre>
+ * mockMvc.perform(get("/api/tasks")).andExpect(maxQueries(2));
+ * </pre>
+ */
+public final class QueryCountMatchers {
+
+    private QueryCountMatchers() {
+    }
+
+    /**
+     * Asserts that the request executed at most the given number of SQL statements.
+     *
+     * @param max the statement budget
+     * @return the matcher
+     */
+    public static ResultMatcher maxQueries(long max) {
+        return result -> {
+            long statements = queryCount(result);
+            assertTrue(statements <= max, () -> result.getRequest().getMethod() + " "
+                + result.getRequest().getRequestURI() + " executed " + statements
+                + " SQL statements; the budget is " + max);
+        };
+    }
+
+    /**
+     * Reads the number of SQL statements a request executed.
+     *
+     * @param result the MockMvc result
+     * @return the statement count
+     */
+    public static long queryCount(MvcResult result) {
+        String header = result.getResponse().getHeader(RequestStatistics.STATEMENTS_HEADER);
+        assertNotNull(header, "Missing " + RequestStatistics.STATEMENTS_HEADER
+            + " header; is app.request-stats.response-headers enabled?");
+        return Long.parseLong(header);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.taskmanagement.integration;
+
+import com.example.taskmanagement.config.RequestStatistics;
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskRequest;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.taskmanagement.integration.QueryCountMatchers.maxQueries;
+import static com.example.taskmanagement.integration.QueryCountMatchers.queryCount;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the per-request statement budget.
+ * Each test pins how many SQL statements an endpoint may execute, so work
+ * that grows with the number of rows fails here before it reaches production.
+ */
+public class RequestStatisticsIntegrationTest extends BaseIntegrationTest {
+
+    @Test
+    public void testResponsesCarryRequestStatistics() throws Exception {
+        createTaskViaApi(createStandardTaskRequest());
+
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(RequestStatistics.STATEMENTS_HEADER))
+                .andExpect(header().exists(RequestStatistics.ROWS_HEADER));
+    }
+
+    @Test
+    public void testGetTaskById_StaysWithinBudget() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(maxQueries(1));
+    }
+
+    @Test
+    public void testGetAllTasks_SinglePageReadsOnce() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            createTaskViaApi(createTaskRequest("Task " + i, "Desc", Priority.MEDIUM, Status.TODO));
+        }
+
+        // A partial first page needs no separate count query
+        mockMvc.perform(get("/api/tasks").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(3))
+                .andExpect(maxQueries(2));
+    }
+
+    @Test
+    public void testBulkComplete_StatementsDoNotGrowWithTaskCount() throws Exception {
+        long fewTasks = bulkCompleteQueryCount(createTasks(2));
+        long manyTasks = bulkCompleteQueryCount(createTasks(10));
+
+        assertTrue(manyTasks <= fewTasks,
+            "Completing 10 tasks took " + manyTasks + " statements, 2 tasks took " + fewTasks);
+    }
+
+    @Test
+    public void testScrollTasks_DeepSliceCostsTheSameAsTheFirst() throws Exception {
+        createTasks(12);
+
+        assertEverySliceCostsTheSame("/api/tasks/scroll");
+    }
+
+    @Test
+    public void testScrollOverdueTasks_DeepSliceCostsTheSameAsTheFirst() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            TaskRequest request = createTaskRequest("Overdue " + i, "Desc", Priority.MEDIUM, Status.TODO);
+            request.setDueDate(LocalDate.now().minusDays(1 + i % 4));
+            createTaskViaApi(request);
+        }
+
+        assertEverySliceCostsTheSame("/api/tasks/overdue/scroll");
+    }
+
+    /**
+     * Walks a keyset listing three rows at a time and checks that the last
+     * slice runs as many statements and reads as many rows as the first.
+     */
+    private void assertEverySliceCostsTheSame(String url) throws Exception {
+        List<long[]> costs = new ArrayList<>();
+        String cursor = "";
+        do {
+            MvcResult result = mockMvc.perform(get(url).param("size", "3").param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            costs.add(new long[]{queryCount(result),
+                Long.parseLong(result.getResponse().getHeader(RequestStatistics.ROWS_HEADER))});
+            CursorPage<TaskResponse> slice = extractDataFromApiResponse(result.getResponse().getContentAsString(),
+                    new TypeReference<CursorPage<TaskResponse>>() {});
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(4, costs.size());
+        long[] first = costs.get(0);
+        long[] deepest = costs.get(costs.size() - 2);
+        assertEquals(first[0], deepest[0], "Statements on the first and a deep slice differ");
+        assertEquals(first[1], deepest[1], "Rows read on the first and a deep slice differ");
+    }
+
+    private List<Long> createTasks(int count) throws Exception {
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            taskIds.add(createTaskViaApi(createTaskRequest("Bulk " + i, "Desc", Priority.MEDIUM, Status.TODO)));
+        }
+        return taskIds;
+    }
+
+    private long bulkCompleteQueryCount(List<Long> taskIds) throws Exception {
+        MvcResult result = mockMvc.perform(put("/api/tasks/bulk/complete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskIds)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(taskIds.size()))
+                .andReturn();
+        return queryCount(result);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.taskmanagement.integration;
+
+import com.example.taskmanagement.entity.TaskOutboxEntry;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.service.TaskChangeStream;
+import com.example.taskmanagement.service.TaskOutboxRelay;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the task change stream.
+ * Verifies that committed changes are pushed as server-sent events and that
+ * a reconnecting client is sent only the changes after its last event ID.
+ */
+public class TaskChangeStreamIntegrationTest extends BaseIntegrationTest {
+
+    private static final long DELIVERY_TIMEOUT_MS = 5000;
+
+    @Autowired
+    private TaskOutboxRelay taskOutboxRelay;
+
+    @Test
+    public void testCommittedChangeIsPushed() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        taskOutboxRelay.relayPending();
+
+        String events = awaitEvent(stream, "\"id\":" + taskId);
+        assertTrue(events.contains("event:" + TaskChangeStream.CHANGE_EVENT));
+        assertTrue(events.contains("\"action\":\"CREATED\""));
+        Long position = outboxPositions().get(0).getId();
+        assertTrue(events.contains("id:" + position));
+        assertTrue(events.contains("\"position\":" + position));
+        assertTrue(events.contains("\"version\":0"));
+    }
+
+    @Test
+    public void testResumeSkipsEventsAlreadySeen() throws Exception {
+        createTaskViaApi(createTaskRequest("Seen", "Desc", Priority.LOW, Status.TODO));
+        Long missedId = createTaskViaApi(createTaskRequest("Missed", "Desc", Priority.LOW, Status.TODO));
+        taskOutboxRelay.relayPending();
+        List<TaskOutboxEntry> positions = outboxPositions();
+
+        MvcResult stream = mockMvc.perform(get("/api/tasks/stream")
+                .header("Last-Event-ID", positions.get(0).getId().toString())
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String events = awaitEvent(stream, "\"id\":" + missedId);
+        assertTrue(events.contains("id:" + positions.get(1).getId()));
+        assertFalse(events.contains("id:" + positions.get(0).getId() + "\n"));
+    }
+
+    private List<TaskOutboxEntry> outboxPositions() {
+        return taskOutboxRepository.findAll(Sort.by("id"));
+    }
+
+    private String awaitEvent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_MS;
+        String content = stream.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            waitForAsync(50);
+            content = stream.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), "Stream did not deliver " + expected + ": " + content);
+        return content;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.taskmanagement.integration;
 
+import com.example.taskmanagement.dto.CursorPage;
 import com.example.taskmanagement.dto.TaskRequest;
 import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.dto.TaskSearchRequest;
@@ -12,6 +13,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
@@ -34,6 +38,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * 8. GET /api/tasks/search/quick - Quick search
  * 9. GET /api/tasks/status/{status} - Get tasks by status
  * 10. GET /api/tasks/overdue - Get overdue tasks
+ * 11. GET /api/tasks/scroll, /api/tasks/overdue/scroll - Cursor pagination
  */
 public class TaskControllerIntegrationTest extends BaseIntegrationTest {
 
@@ -270,7 +275,104 @@ public class TaskControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.content").isArray())
-                .andExpect(jsonPath("$.data.content.length()").value(greaterThanOrEqualTo(2)));
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[*].priority", everyItem(is("HIGH"))));
+    }
+
+    @Test
+    public void testSearchTasks_ReflectsWritesAfterCaching() throws Exception {
+        createTaskViaApi(createTaskRequest("Cache probe one", "Description", Priority.HIGH, Status.TODO));
+
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setSearchTerm("cache probe");
+        searchRequest.setPage(0);
+        searchRequest.setSize(10);
+        String json = objectMapper.writeValueAsString(searchRequest);
+
+        // Repeated identical searches are answered from the search cache
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/tasks/search")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(json))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(1));
+        }
+
+        // A write moves the data version, so the next search sees the new task
+        createTaskViaApi(createTaskRequest("Cache probe two", "Description", Priority.LOW, Status.TODO));
+
+        mockMvc.perform(post("/api/tasks/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2));
+    }
+
+    @Test
+    public void testQuickSearch_MatchesWordPrefixesAcrossTextFields() throws Exception {
+        TaskRequest withNotes = createTaskRequest("Prepare release", "Cut the branch", Priority.HIGH, Status.TODO);
+        withNotes.setNotes("Coordinate with the infrastructure team");
+        createTaskViaApi(withNotes);
+        createTaskViaApi(createTaskRequest("Infrastructure budget", "Quarterly review", Priority.LOW, Status.TODO));
+        createTaskViaApi(createTaskRequest("Unrelated task", "Nothing to see", Priority.LOW, Status.TODO));
+
+        // A prefix matches whole words in title, description and notes; title matches rank first
+        mockMvc.perform(get("/api/tasks/search/quick")
+                .param("q", "infra")
+                .param("sort", "relevance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2))
+                .andExpect(jsonPath("$.data.content[0].title").value("Infrastructure budget"))
+                .andExpect(jsonPath("$.data.content[1].title").value("Prepare release"));
+    }
+
+    @Test
+    public void testQuickSearchScroll_MatchesLikeQuickSearch() throws Exception {
+        TaskRequest withNotes = createTaskRequest("Prepare release", "Cut the branch", Priority.HIGH, Status.TODO);
+        withNotes.setNotes("Coordinate with the infrastructure team");
+        createTaskViaApi(withNotes);
+        createTaskViaApi(createTaskRequest("Infrastructure budget", "Quarterly review", Priority.LOW, Status.TODO));
+        // Contains the term only inside a word, which a substring match would accept
+        createTaskViaApi(createTaskRequest("Superinfra audit", "Nothing to see", Priority.LOW, Status.TODO));
+
+        MvcResult first = mockMvc.perform(get("/api/tasks/search/quick/scroll")
+                .param("q", "infra")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].title").value("Infrastructure budget"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn();
+        String cursor = extractDataFromApiResponse(first.getResponse().getContentAsString(),
+                new TypeReference<CursorPage<TaskResponse>>() {}).getNextCursor();
+
+        mockMvc.perform(get("/api/tasks/search/quick/scroll")
+                .param("q", "infra")
+                .param("size", "1")
+                .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].title").value("Prepare release"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    public void testGetAllTasks_SummaryFieldsOmitTextColumns() throws Exception {
+        createTaskViaApi(createTaskRequest("Summary probe", "Long description", Priority.HIGH, Status.TODO));
+
+        mockMvc.perform(get("/api/tasks").param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value("Summary probe"))
+                .andExpect(jsonPath("$.data.content[0].priority").value("HIGH"))
+                .andExpect(jsonPath("$.data.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].notes").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/search/quick")
+                .param("q", "summary probe")
+                .param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].description").doesNotExist());
     }
 
     @Test
@@ -351,5 +453,75 @@ public class TaskControllerIntegrationTest extends BaseIntegrationTest {
         mockMvc.perform(get("/api/tasks/{id}", taskId))
                 .andExpect(status().isNotFound());
     }
-}
 
+    @Test
+    public void testScrollTasks_WalksEverySliceWithoutGapsOrDuplicates() throws Exception {
+        // Create 12 tasks
+        for (int i = 1; i <= 12; i++) {
+            createTaskViaApi(createTaskRequest("Task " + i, "Desc " + i, Priority.MEDIUM, Status.TODO));
+        }
+
+        List<Long> seenIds = new ArrayList<>();
+        String cursor = null;
+        int slices = 0;
+        do {
+            MvcResult result = mockMvc.perform(get("/api/tasks/scroll")
+                    .param("size", "5")
+                    .param("cursor", cursor == null ? "" : cursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                    .andReturn();
+            CursorPage<TaskResponse> slice = extractDataFromApiResponse(
+                    result.getResponse().getContentAsString(), new TypeReference<CursorPage<TaskResponse>>() {});
+            slice.getContent().forEach(task -> seenIds.add(task.getId()));
+            cursor = slice.getNextCursor();
+            slices++;
+        } while (cursor != null);
+
+        assertEquals(3, slices);
+        assertEquals(12, seenIds.size());
+        assertEquals(12, new HashSet<>(seenIds).size());
+        // Newest first: IDs strictly descending
+        for (int i = 1; i < seenIds.size(); i++) {
+            assertTrue(seenIds.get(i) < seenIds.get(i - 1));
+        }
+    }
+
+    @Test
+    public void testScrollOverdueTasks_OrdersByDueDate() throws Exception {
+        TaskRequest lateRequest = createStandardTaskRequest();
+        lateRequest.setDueDate(LocalDate.now().minusDays(2));
+        Long lateId = createTaskViaApi(lateRequest);
+
+        TaskRequest laterRequest = createStandardTaskRequest();
+        laterRequest.setDueDate(LocalDate.now().minusDays(5));
+        Long laterId = createTaskViaApi(laterRequest);
+
+        TaskRequest upcomingRequest = createStandardTaskRequest();
+        upcomingRequest.setDueDate(LocalDate.now().plusDays(5));
+        createTaskViaApi(upcomingRequest);
+
+        MvcResult first = mockMvc.perform(get("/api/tasks/overdue/scroll")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(laterId))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn();
+        CursorPage<TaskResponse> firstSlice = extractDataFromApiResponse(
+                first.getResponse().getContentAsString(), new TypeReference<CursorPage<TaskResponse>>() {});
+
+        mockMvc.perform(get("/api/tasks/overdue/scroll")
+                .param("size", "1")
+                .param("cursor", firstSlice.getNextCursor()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(lateId))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    public void testScrollTasks_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks/scroll")
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.taskmanagement.integration;
+
+import com.example.taskmanagement.dto.TaskChange;
+import com.example.taskmanagement.dto.TaskRequest;
+import com.example.taskmanagement.entity.TaskOutboxEntry;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.enums.TaskChangeAction;
+import com.example.taskmanagement.service.TaskOutboxRelay;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the transactional outbox.
+ * Verifies that task changes are recorded with the transaction that makes them
+ * and that the relay and replay hand them out in feed order.
+ */
+public class TaskOutboxIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TaskOutboxRelay taskOutboxRelay;
+
+    @Test
+    public void testCreateRecordsCreatedChange() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+
+        List<TaskOutboxEntry> entries = taskOutboxRepository.findAll();
+        assertEquals(1, entries.size());
+        assertEquals(taskId, entries.get(0).getTaskId());
+        assertEquals(TaskChangeAction.CREATED, entries.get(0).getAction());
+        assertEquals(Status.TODO, entries.get(0).getStatus());
+        assertEquals(Long.valueOf(0L), entries.get(0).getVersion());
+    }
+
+    @Test
+    public void testUpdateRecordsVersionAfterChange() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+
+        mockMvc.perform(patch("/api/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk());
+
+        TaskOutboxEntry updated = taskOutboxRepository.findAll().stream()
+            .filter(entry -> entry.getAction() == TaskChangeAction.UPDATED)
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+        assertEquals(Long.valueOf(1L), updated.getVersion());
+        assertEquals(taskRepository.findById(taskId).get().getVersion(), updated.getVersion());
+    }
+
+    @Test
+    public void testBulkCompleteRecordsOneChangePerTask() throws Exception {
+        Long first = createTaskViaApi(createTaskRequest("First", "Desc", Priority.LOW, Status.TODO));
+        Long second = createTaskViaApi(createTaskRequest("Second", "Desc", Priority.HIGH, Status.TODO));
+
+        mockMvc.perform(put("/api/tasks/bulk/complete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(first, second))))
+                .andExpect(status().isOk());
+
+        List<TaskOutboxEntry> completed = taskOutboxRepository.findAll().stream()
+            .filter(entry -> entry.getAction() == TaskChangeAction.COMPLETED)
+            .collect(Collectors.toList());
+        assertEquals(Arrays.asList(first, second), completed.stream()
+            .map(TaskOutboxEntry::getTaskId)
+            .sorted()
+            .collect(Collectors.toList()));
+        // The set-based update bumps versions without loading the tasks
+        for (TaskOutboxEntry entry : completed) {
+            assertEquals(taskRepository.findById(entry.getTaskId()).get().getVersion(), entry.getVersion());
+        }
+    }
+
+    @Test
+    public void testRejectedWriteRecordsNothing() throws Exception {
+        TaskRequest invalid = createStandardTaskRequest();
+        invalid.setTitle("");
+
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(invalid)))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(0, taskOutboxRepository.count());
+    }
+
+    @Test
+    public void testRelayDeliversAndReplayRereadsInOrder() throws Exception {
+        Long taskId = createTaskViaApi(createStandardTaskRequest());
+        mockMvc.perform(delete("/api/tasks/{id}", taskId))
+                .andExpect(status().isNoContent());
+
+        taskOutboxRelay.relayPending();
+        assertEquals(0, taskOutboxRelay.getPendingCount());
+
+        // Delivered entries stay replayable for the retention period
+        List<TaskChange> replayed = new ArrayList<>();
+        long position = taskOutboxRelay.replay(0L, replayed::addAll);
+
+        assertEquals(2, replayed.size());
+        assertEquals(TaskChangeAction.CREATED, replayed.get(0).getAction());
+        assertEquals(TaskChangeAction.DELETED, replayed.get(1).getAction());
+        assertEquals(replayed.get(1).getPosition(), position);
+    }
+}
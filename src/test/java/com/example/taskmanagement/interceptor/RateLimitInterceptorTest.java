@@ -108,13 +108,16 @@ class RateLimitInterceptorTest {
     }
 
     @Test
-    @DisplayName("Should use X-Forwarded-For header when present")
+    @DisplayName("Should use X-Forwarded-For header when sent by trusted proxies")
     void shouldUseXForwardedForHeader() throws Exception {
         // Arrange
         request.setRequestURI("/api/tasks");
         request.addHeader("X-Forwarded-For", "203.0.113.1, 198.51.100.1");
         request.setRemoteAddr("192.168.1.1");
         
+        when(rateLimitConfig.isTrustedProxy("192.168.1.1")).thenReturn(true);
+        when(rateLimitConfig.isTrustedProxy("198.51.100.1")).thenReturn(true);
+        when(rateLimitConfig.isTrustedProxy("203.0.113.1")).thenReturn(false);
         when(rateLimitConfig.resolveBucket("203.0.113.1")).thenReturn(bucket);
         when(bucket.tryConsumeAndReturnRemaining(1)).thenReturn(consumptionProbe);
         when(consumptionProbe.isConsumed()).thenReturn(true);
@@ -205,8 +208,68 @@ class RateLimitInterceptorTest {
         // Assert
         assertTrue(result);
     }
-}
 
+    @Test
+    @DisplayName("Should ignore X-Forwarded-For header from untrusted clients")
+    void shouldIgnoreXForwardedForFromUntrustedClients() throws Exception {
+        // Arrange
+        request.setRequestURI("/api/tasks");
+        request.addHeader("X-Forwarded-For", "203.0.113.1");
+        request.setRemoteAddr("192.168.1.1");
+        
+        when(rateLimitConfig.isTrustedProxy("192.168.1.1")).thenReturn(false);
+        when(rateLimitConfig.resolveBucket("192.168.1.1")).thenReturn(bucket);
+        when(bucket.tryConsumeAndReturnRemaining(1)).thenReturn(consumptionProbe);
+        when(consumptionProbe.isConsumed()).thenReturn(true);
+        when(consumptionProbe.getRemainingTokens()).thenReturn(99L);
 
+        // Act
+        rateLimitInterceptor.preHandle(request, response, null);
 
+        // Assert
+        verify(rateLimitConfig).resolveBucket("192.168.1.1");
+    }
 
+    @Test
+    @DisplayName("Should take the rightmost untrusted hop so clients cannot pick their key")
+    void shouldIgnoreSpoofedLeadingHops() throws Exception {
+        // Arrange
+        request.setRequestURI("/api/tasks");
+        request.addHeader("X-Forwarded-For", "1.1.1.1, 203.0.113.1");
+        request.setRemoteAddr("127.0.0.1");
+        
+        when(rateLimitConfig.isTrustedProxy("127.0.0.1")).thenReturn(true);
+        when(rateLimitConfig.isTrustedProxy("203.0.113.1")).thenReturn(false);
+        when(rateLimitConfig.resolveBucket("203.0.113.1")).thenReturn(bucket);
+        when(bucket.tryConsumeAndReturnRemaining(1)).thenReturn(consumptionProbe);
+        when(consumptionProbe.isConsumed()).thenReturn(true);
+        when(consumptionProbe.getRemainingTokens()).thenReturn(99L);
+
+        // Act
+        rateLimitInterceptor.preHandle(request, response, null);
+
+        // Assert
+        verify(rateLimitConfig).resolveBucket("203.0.113.1");
+    }
+
+    @Test
+    @DisplayName("Should fall back to remote address when X-Forwarded-For is not an address")
+    void shouldRejectNonAddressForwardedValues() throws Exception {
+        // Arrange
+        request.setRequestURI("/api/tasks");
+        request.addHeader("X-Forwarded-For", "random-key-12345");
+        request.setRemoteAddr("127.0.0.1");
+        
+        when(rateLimitConfig.isTrustedProxy("127.0.0.1")).thenReturn(true);
+        when(rateLimitConfig.resolveBucket("127.0.0.1")).thenReturn(bucket);
+        when(bucket.tryConsumeAndReturnRemaining(1)).thenReturn(consumptionProbe);
+        when(consumptionProbe.isConsumed()).thenReturn(true);
+        when(consumptionProbe.getRemainingTokens()).thenReturn(99L);
+
+        // Act
+        rateLimitInterceptor.preHandle(request, response, null);
+
+        // Assert
+        verify(rateLimitConfig).resolveBucket("127.0.0.1");
+    }
+}
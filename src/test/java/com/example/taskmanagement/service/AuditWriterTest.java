@@ -0,0 +1,242 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.TaskAudit;
+import com.example.taskmanagement.enums.AuditOverflowPolicy;
+import com.example.taskmanagement.repository.TaskAuditRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for AuditWriter.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditWriterTest {
+
+    private static final long ONE_HOUR_MS = 3_600_000L;
+
+    @Mock
+    private TaskAuditRepository taskAuditRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditWriter auditWriter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (auditWriter != null) {
+            auditWriter.stop();
+        }
+    }
+
+    @Test
+    void testSubmitWritesSynchronouslyWhenNotStarted() {
+        // Given
+        auditWriter = createWriter(10, 10, ONE_HOUR_MS, AuditOverflowPolicy.BLOCK);
+        TaskResponse state = new TaskResponse();
+        state.setId(1L);
+        state.setTitle("Task");
+
+        // When
+        auditWriter.submit(new TaskAudit(1L, "Task", "CREATED"), state);
+
+        // Then
+        List<TaskAudit> written = captureWrites(1).get(0);
+        assertEquals(1, written.size());
+        assertTrue(written.get(0).getNewValues().contains("\"title\":\"Task\""));
+    }
+
+    @Test
+    void testSubmitInTransactionWaitsForCommit() {
+        // Given
+        auditWriter = createWriter(10, 10, ONE_HOUR_MS, AuditOverflowPolicy.BLOCK);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            auditWriter.submit(new TaskAudit(1L, "Task", "UPDATED"), null);
+
+            // Then
+            verify(taskAuditRepository, never()).saveAll(anyList());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1, captureWrites(1).get(0).size());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testSubmitInRolledBackTransactionWritesNothing() {
+        // Given
+        auditWriter = createWriter(10, 10, ONE_HOUR_MS, AuditOverflowPolicy.BLOCK);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            auditWriter.submit(new TaskAudit(1L, "Task", "UPDATED"), null);
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        verify(taskAuditRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testSubmitQueuesUntilFlushWhenStarted() {
+        // Given
+        auditWriter = createWriter(10, 10, ONE_HOUR_MS, AuditOverflowPolicy.BLOCK);
+        auditWriter.start();
+
+        // When
+        auditWriter.submit(new TaskAudit(1L, "Task 1", "CREATED"), null);
+        auditWriter.submit(new TaskAudit(2L, "Task 2", "CREATED"), null);
+
+        // Then
+        verify(taskAuditRepository, never()).saveAll(anyList());
+        assertEquals(2, auditWriter.getQueueDepth());
+        assertEquals(2.0, meterRegistry.get("audit.queue.depth").gauge().value());
+
+        auditWriter.flush();
+        List<TaskAudit> written = captureWrites(1).get(0);
+        assertEquals(2, written.size());
+        assertEquals(0, auditWriter.getQueueDepth());
+        assertEquals(2.0, meterRegistry.get("audit.records.written").counter().count());
+        assertEquals(1L, meterRegistry.get("audit.flush.latency").timer().count());
+    }
+
+    @Test
+    void testFullBatchWakesWriter() {
+        // Given
+        auditWriter = createWriter(10, 2, ONE_HOUR_MS, AuditOverflowPolicy.BLOCK);
+        auditWriter.start();
+
+        // When
+        auditWriter.submit(new TaskAudit(1L, "Task 1", "CREATED"), null);
+        auditWriter.submit(new TaskAudit(2L, "Task 2", "CREATED"), null);
+
+        // Then
+        verify(taskAuditRepository, timeout(5000)).saveAll(anyList());
+    }
+
+    @Test
+    void testDropOldestPolicyDiscardsOldestRecord() {
+        // Given
+        auditWriter = createWriter(2, 100, ONE_HOUR_MS, AuditOverflowPolicy.DROP_OLDEST);
+        auditWriter.start();
+
+        // When
+        auditWriter.submit(new TaskAudit(1L, "Task 1", "CREATED"), null);
+        auditWriter.submit(new TaskAudit(2L, "Task 2", "CREATED"), null);
+        auditWriter.submit(new TaskAudit(3L, "Task 3", "CREATED"), null);
+        auditWriter.flush();
+
+        // Then
+        List<TaskAudit> written = captureWrites(1).get(0);
+        assertEquals(2, written.size());
+        assertEquals(2L, written.get(0).getTaskId());
+        assertEquals(3L, written.get(1).getTaskId());
+        assertEquals(1.0, meterRegistry.get("audit.records.dropped").counter().count());
+    }
+
+    @Test
+    void testSyncPolicyWritesOverflowOnCallingThread() {
+        // Given
+        auditWriter = createWriter(1, 100, ONE_HOUR_MS, AuditOverflowPolicy.SYNC);
+        auditWriter.start();
+
+        // When
+        auditWriter.submit(new TaskAudit(1L, "Task 1", "CREATED"), null);
+        auditWriter.submit(new TaskAudit(2L, "Task 2", "CREATED"), null);
+
+        // Then
+        List<TaskAudit> written = captureWrites(1).get(0);
+        assertEquals(1, written.size());
+        assertEquals(2L, written.get(0).getTaskId());
+        assertEquals(1, auditWriter.getQueueDepth());
+        assertEquals(1.0, meterRegistry.get("audit.records.sync").counter().count());
+    }
+
+    @Test
+    void testBlockPolicyFallsBackToSyncAfterTimeout() {
+        // Given
+        auditWriter = createWriter(1, 100, ONE_HOUR_MS, AuditOverflowPolicy.BLOCK);
+        auditWriter.start();
+
+        // When
+        auditWriter.submit(new TaskAudit(1L, "Task 1", "CREATED"), null);
+        auditWriter.submit(new TaskAudit(2L, "Task 2", "CREATED"), null);
+
+        // Then
+        List<TaskAudit> written = captureWrites(1).get(0);
+        assertEquals(2L, written.get(0).getTaskId());
+        assertEquals(1.0, meterRegistry.get("audit.records.sync").counter().count());
+    }
+
+    @Test
+    void testStopFlushesQueuedRecords() {
+        // Given
+        auditWriter = createWriter(10, 10, ONE_HOUR_MS, AuditOverflowPolicy.BLOCK);
+        auditWriter.start();
+        auditWriter.submit(new TaskAudit(1L, "Task 1", "CREATED"), null);
+
+        // When
+        auditWriter.stop();
+
+        // Then
+        assertEquals(1, captureWrites(1).get(0).size());
+        assertEquals(0, auditWriter.getQueueDepth());
+    }
+
+    private AuditWriter createWriter(int capacity, int batchSize, long flushIntervalMs, AuditOverflowPolicy policy) {
+        ApplicationConfig.ApplicationProperties properties = new ApplicationConfig.ApplicationProperties();
+        properties.getAudit().setQueueCapacity(capacity);
+        properties.getAudit().setBatchSize(batchSize);
+        properties.getAudit().setFlushIntervalMs(flushIntervalMs);
+        properties.getAudit().setOverflowPolicy(policy);
+        properties.getAudit().setBlockTimeoutMs(0);
+        return new AuditWriter(taskAuditRepository, new ObjectMapper(), transactionManager, properties, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<TaskAudit>> captureWrites(int expectedCalls) {
+        ArgumentCaptor<List<TaskAudit>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskAuditRepository, times(expectedCalls)).saveAll(captor.capture());
+        return new ArrayList<>(captor.getAllValues());
+    }
+}
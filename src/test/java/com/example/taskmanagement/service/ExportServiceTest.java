@@ -1,5 +1,6 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.constants.TaskConstants;
 import com.example.taskmanagement.dto.TaskResponse;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.enums.Priority;
@@ -7,18 +8,29 @@ import com.example.taskmanagement.enums.Status;
 import com.example.taskmanagement.repository.TaskRepository;
 import com.example.taskmanagement.util.DateUtil;
 import com.example.taskmanagement.util.TaskConverter;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,8 +44,8 @@ class ExportServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
-    @Mock
-    private ObjectMapper objectMapper;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
     @Mock
     private TaskConverter taskConverter;
@@ -41,6 +53,9 @@ class ExportServiceTest {
     @Mock
     private DateUtil dateUtil;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ExportService exportService;
 
@@ -77,89 +92,134 @@ class ExportServiceTest {
     }
 
     @Test
-    void testExportTasksToCsv() {
+    void testWriteTasksAsCsv() {
         // Given
-        when(taskRepository.findAll()).thenReturn(testTasks);
+        when(taskRepository.streamAllForExport()).thenReturn(testTasks.stream());
         when(dateUtil.formatDate(any())).thenReturn("2025-10-08");
         when(dateUtil.formatDateTime(any())).thenReturn("2025-10-08 10:00:00");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
         // When
-        byte[] result = exportService.exportTasksToCsv();
+        exportService.writeTasksAsCsv(null, outputStream);
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.length > 0);
-        
-        String csvContent = new String(result);
+        String csvContent = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
         assertTrue(csvContent.contains("ID,Title,Description,Status,Priority,Due Date,Created At,Updated At,Notes"));
-        assertTrue(csvContent.contains("Test Task 1"));
+        assertTrue(csvContent.contains("1,\"Test Task 1\",\"First test task\",To Do,High,2025-10-08,"
+                + "2025-10-08 10:00:00,2025-10-08 10:00:00,\"Test notes\""));
         assertTrue(csvContent.contains("Test Task 2"));
-        assertTrue(csvContent.contains("To Do"));
         assertTrue(csvContent.contains("Completed"));
         
-        verify(taskRepository).findAll();
+        verify(taskRepository).streamAllForExport();
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
-    void testExportTasksToCsvWithEmptyList() {
+    void testWriteTasksAsCsvWithEmptyStream() {
         // Given
-        when(taskRepository.findAll()).thenReturn(Arrays.asList());
+        when(taskRepository.streamAllForExport()).thenReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
         // When
-        byte[] result = exportService.exportTasksToCsv();
+        exportService.writeTasksAsCsv(null, outputStream);
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.length > 0);
-        
-        String csvContent = new String(result);
-        assertTrue(csvContent.contains("ID,Title,Description,Status,Priority,Due Date,Created At,Updated At,Notes"));
-        assertFalse(csvContent.contains("Test Task"));
+        String csvContent = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals("ID,Title,Description,Status,Priority,Due Date,Created At,Updated At,Notes"
+                + System.lineSeparator(), csvContent);
         
-        verify(taskRepository).findAll();
+        verify(taskRepository).streamAllForExport();
     }
 
     @Test
-    void testExportTasksToJson() throws Exception {
+    void testWriteTasksAsCsvEscapesQuotesCommasAndNewlines() {
         // Given
-        TaskResponse response1 = createTaskResponse(testTask1);
-        TaskResponse response2 = createTaskResponse(testTask2);
-        List<TaskResponse> taskResponses = Arrays.asList(response1, response2);
-        
-        when(taskRepository.findAll()).thenReturn(testTasks);
-        when(taskConverter.convertToResponseList(testTasks)).thenReturn(taskResponses);
-        byte[] expectedJson = "{\"tasks\":[]}".getBytes();
-        when(objectMapper.writeValueAsBytes(any(List.class))).thenReturn(expectedJson);
+        testTask1.setTitle("Say \"hi\", then leave");
+        testTask1.setDescription("Line one\nLine two");
+        testTask1.setNotes(null);
+        when(taskRepository.streamAllForExport()).thenReturn(Stream.of(testTask1));
+        when(dateUtil.formatDate(any())).thenReturn("");
+        when(dateUtil.formatDateTime(any())).thenReturn("");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
         // When
-        byte[] result = exportService.exportTasksToJson();
+        exportService.writeTasksAsCsv(null, outputStream);
 
         // Then
-        assertNotNull(result);
-        assertEquals(expectedJson, result);
-        
-        verify(taskRepository).findAll();
-        verify(taskConverter).convertToResponseList(testTasks);
-        verify(objectMapper).writeValueAsBytes(any(List.class));
+        String csvContent = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(csvContent.contains("1,\"Say \"\"hi\"\", then leave\",\"Line one\nLine two\",To Do,High,,,,\"\""));
+    }
+
+    @Test
+    void testWriteTasksAsCsvClearsPersistenceContextPerChunk() {
+        // Given
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TaskConstants.EXPORT_CHUNK_SIZE * 2 + 1; i++) {
+            tasks.add(testTask1);
+        }
+        when(taskRepository.streamAllForExport()).thenReturn(tasks.stream());
+        when(dateUtil.formatDate(any())).thenReturn("");
+        when(dateUtil.formatDateTime(any())).thenReturn("");
+
+        // When
+        exportService.writeTasksAsCsv(null, new ByteArrayOutputStream());
+
+        // Then
+        verify(entityManager, times(2)).clear();
     }
 
     @Test
-    void testExportTasksToJsonWithException() throws Exception {
+    void testWriteTasksAsJson() throws Exception {
         // Given
-        TaskResponse response1 = createTaskResponse(testTask1);
-        TaskResponse response2 = createTaskResponse(testTask2);
-        List<TaskResponse> taskResponses = Arrays.asList(response1, response2);
+        when(taskRepository.streamAllForExport()).thenReturn(testTasks.stream());
+        when(taskConverter.convertToResponse(testTask1)).thenReturn(createTaskResponse(testTask1));
+        when(taskConverter.convertToResponse(testTask2)).thenReturn(createTaskResponse(testTask2));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        exportService.writeTasksAsJson(null, outputStream);
+
+        // Then
+        JsonNode json = objectMapper.readTree(outputStream.toByteArray());
+        assertTrue(json.isArray());
+        assertEquals(2, json.size());
+        assertEquals("Test Task 1", json.get(0).get("title").asText());
+        assertEquals("Test Task 2", json.get(1).get("title").asText());
         
-        when(taskRepository.findAll()).thenReturn(testTasks);
-        when(taskConverter.convertToResponseList(testTasks)).thenReturn(taskResponses);
-        when(objectMapper.writeValueAsBytes(any(List.class))).thenThrow(new RuntimeException("JSON error"));
+        verify(taskRepository).streamAllForExport();
+        verify(taskRepository, never()).findAll();
+        verify(taskConverter, never()).convertToResponseList(any());
+    }
+
+    @Test
+    void testWriteTasksAsJsonWithEmptyStream() throws Exception {
+        // Given
+        when(taskRepository.streamAllForExport()).thenReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        exportService.writeTasksAsJson(null, outputStream);
+
+        // Then
+        assertEquals("[]", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWriteTasksAsJsonWithException() {
+        // Given
+        when(taskRepository.streamAllForExport()).thenReturn(testTasks.stream());
+        when(taskConverter.convertToResponse(any(Task.class))).thenReturn(createTaskResponse(testTask1));
+        OutputStream failingStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Client disconnected");
+            }
+        };
 
         // When & Then
-        assertThrows(RuntimeException.class, () -> exportService.exportTasksToJson());
+        assertThrows(UncheckedIOException.class, () -> exportService.writeTasksAsJson(null, failingStream));
         
-        verify(taskRepository).findAll();
-        verify(taskConverter).convertToResponseList(testTasks);
-        verify(objectMapper).writeValueAsBytes(any(List.class));
+        verify(taskRepository).streamAllForExport();
     }
 
     @Test
@@ -171,7 +231,7 @@ class ExportServiceTest {
         when(taskRepository.countByStatus(Status.TODO)).thenReturn(1L);
         
         byte[] expectedJson = "{\"analytics\":{}}".getBytes();
-        when(objectMapper.writeValueAsBytes(any())).thenReturn(expectedJson);
+        doReturn(expectedJson).when(objectMapper).writeValueAsBytes(any());
 
         // When
         byte[] result = exportService.exportAnalyticsToJson();
@@ -194,7 +254,7 @@ class ExportServiceTest {
         when(taskRepository.countByStatus(Status.COMPLETED)).thenReturn(7L);
         when(taskRepository.countByStatus(Status.IN_PROGRESS)).thenReturn(2L);
         when(taskRepository.countByStatus(Status.TODO)).thenReturn(1L);
-        when(objectMapper.writeValueAsBytes(any())).thenThrow(new RuntimeException("JSON error"));
+        doThrow(new RuntimeException("JSON error")).when(objectMapper).writeValueAsBytes(any());
 
         // When & Then
         assertThrows(RuntimeException.class, () -> exportService.exportAnalyticsToJson());
@@ -212,7 +272,7 @@ class ExportServiceTest {
         when(taskRepository.countByStatus(Status.TODO)).thenReturn(0L);
         
         byte[] expectedJson = "{\"analytics\":{}}".getBytes();
-        when(objectMapper.writeValueAsBytes(any())).thenReturn(expectedJson);
+        doReturn(expectedJson).when(objectMapper).writeValueAsBytes(any());
 
         // When
         byte[] result = exportService.exportAnalyticsToJson();
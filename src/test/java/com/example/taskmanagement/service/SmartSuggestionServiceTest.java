@@ -4,17 +4,19 @@ import com.example.taskmanagement.constants.TaskConstants;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.event.TaskUpdatedEvent;
 import com.example.taskmanagement.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,7 +31,8 @@ class SmartSuggestionServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
-    @InjectMocks
+    private TaskTitleIndex titleIndex;
+
     private SmartSuggestionService smartSuggestionService;
 
     private Task testTask1;
@@ -39,6 +42,9 @@ class SmartSuggestionServiceTest {
 
     @BeforeEach
     void setUp() {
+        titleIndex = new TaskTitleIndex(taskRepository);
+        smartSuggestionService = new SmartSuggestionService(taskRepository, titleIndex);
+
         testTask1 = new Task();
         testTask1.setId(1L);
         testTask1.setTitle("Review code changes");
@@ -76,7 +82,7 @@ class SmartSuggestionServiceTest {
     @Test
     void testGenerateSuggestionsWithSimilarTitle() {
         // Given
-        when(taskRepository.findAll()).thenReturn(testTasks);
+        givenIndexedTasks(testTasks);
         String inputTitle = "code review";
 
         // When
@@ -91,13 +97,13 @@ class SmartSuggestionServiceTest {
                 .anyMatch(s -> s.getSuggestedTitle().toLowerCase().contains("code"));
         assertTrue(foundCodeReviewSuggestion);
         
-        verify(taskRepository).findAll();
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
     void testGenerateSuggestionsWithExactMatch() {
         // Given
-        when(taskRepository.findAll()).thenReturn(testTasks);
+        givenIndexedTasks(testTasks);
         String inputTitle = "Review code changes";
 
         // When
@@ -112,13 +118,13 @@ class SmartSuggestionServiceTest {
                 .anyMatch(s -> s.getSuggestedTitle().equals("Review code changes"));
         assertTrue(foundExactMatch);
         
-        verify(taskRepository).findAll();
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
     void testGenerateSuggestionsWithNoMatches() {
         // Given
-        when(taskRepository.findAll()).thenReturn(testTasks);
+        givenIndexedTasks(testTasks);
         String inputTitle = "completely different task";
 
         // When
@@ -134,13 +140,13 @@ class SmartSuggestionServiceTest {
                              s.getSuggestedTitle().contains("Plan Sprint"));
         assertTrue(foundDefaultSuggestion);
         
-        verify(taskRepository).findAll();
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
     void testGenerateSuggestionsWithEmptyRepository() {
         // Given
-        when(taskRepository.findAll()).thenReturn(Arrays.asList());
+        givenIndexedTasks(Arrays.asList());
         String inputTitle = "any title";
 
         // When
@@ -156,7 +162,7 @@ class SmartSuggestionServiceTest {
                              s.getSuggestedTitle().contains("Plan Sprint"));
         assertTrue(foundDefaultSuggestion);
         
-        verify(taskRepository).findAll();
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
@@ -186,7 +192,7 @@ class SmartSuggestionServiceTest {
     @Test
     void testGenerateSuggestionsWithPartialMatch() {
         // Given
-        when(taskRepository.findAll()).thenReturn(testTasks);
+        givenIndexedTasks(testTasks);
         String inputTitle = "code review";
 
         // When
@@ -201,13 +207,13 @@ class SmartSuggestionServiceTest {
                 .anyMatch(s -> s.getSuggestedTitle().toLowerCase().contains("code"));
         assertTrue(foundCodeSuggestion);
         
-        verify(taskRepository).findAll();
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
     void testGenerateSuggestionsConfidenceScores() {
         // Given
-        when(taskRepository.findAll()).thenReturn(testTasks);
+        givenIndexedTasks(testTasks);
         String inputTitle = "code review";
 
         // When
@@ -228,13 +234,13 @@ class SmartSuggestionServiceTest {
             assertTrue(suggestions.get(i).getConfidenceScore() >= suggestions.get(i + 1).getConfidenceScore());
         }
         
-        verify(taskRepository).findAll();
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
     void testGenerateSuggestionsWithSpecialCharacters() {
         // Given
-        when(taskRepository.findAll()).thenReturn(testTasks);
+        givenIndexedTasks(testTasks);
         String inputTitle = "code-review & testing!";
 
         // When
@@ -244,6 +250,56 @@ class SmartSuggestionServiceTest {
         assertNotNull(suggestions);
         assertFalse(suggestions.isEmpty());
         
-        verify(taskRepository).findAll();
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void testGenerateSuggestionsLoadsOnlyMatchedTasks() {
+        // Given
+        givenIndexedTasks(testTasks);
+
+        // When
+        List<SmartSuggestionService.TaskSuggestion> suggestions = smartSuggestionService.generateSuggestions("fix the bugs");
+
+        // Then
+        assertEquals(1, suggestions.size());
+        assertEquals("Fix bugs", suggestions.get(0).getSuggestedTitle());
+        assertEquals(2.0 / 3.0 * 0.2, suggestions.get(0).getConfidenceScore(), 0.0001);
+        
+        verify(taskRepository).findAllById(Collections.singletonList(3L));
+        verify(taskRepository, never()).findSimilarTasksByTitle(anyString());
+    }
+
+    @Test
+    void testGenerateSuggestionsReflectsTaskEvents() {
+        // Given
+        givenIndexedTasks(testTasks);
+        smartSuggestionService.generateSuggestions("fix the bugs");
+        Task renamed = new Task("Fix flaky tests", Priority.LOW, Status.TODO);
+        renamed.setId(3L);
+
+        // When
+        titleIndex.handleTaskUpdated(new TaskUpdatedEvent(renamed));
+        List<TaskTitleIndex.TitleMatch> matches = titleIndex.findSimilar("fix the bugs", 0.3, 5);
+
+        // Then
+        assertTrue(matches.isEmpty());
+        verify(taskRepository, times(1)).findAllIdAndTitle();
+    }
+
+    private void givenIndexedTasks(List<Task> tasks) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Task task : tasks) {
+            rows.add(new Object[]{task.getId(), task.getTitle()});
+        }
+        when(taskRepository.findAllIdAndTitle()).thenReturn(rows);
+        lenient().when(taskRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<Task> found = new ArrayList<>();
+            for (Long id : ids) {
+                tasks.stream().filter(task -> id.equals(task.getId())).forEach(found::add);
+            }
+            return found;
+        });
     }
 }
@@ -1,6 +1,6 @@
 package com.example.taskmanagement.service;
 
-import com.example.taskmanagement.constants.TaskConstants;
+import com.example.taskmanagement.dto.TaskCounters;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
@@ -24,6 +24,8 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -38,6 +40,9 @@ class TaskAnalyticsServiceTest {
     @Mock
     private TaskStatisticsCalculator statisticsCalculator;
 
+    @Mock
+    private TaskStatisticsStore statisticsStore;
+
     @InjectMocks
     private TaskAnalyticsService taskAnalyticsService;
 
@@ -60,55 +65,56 @@ class TaskAnalyticsServiceTest {
         task3.setCreatedAt(LocalDateTime.now());
     }
 
-        @Test
-        void testGetTaskStatistics() {
-            // Given
-            List<Task> allTasks = Arrays.asList(task1, task2, task3);
-            
-            Map<String, Object> mockStats = new HashMap<>();
-            mockStats.put("totalTasks", 3L);
-            mockStats.put("completedTasks", 1L);
-            mockStats.put("overdueTasks", 2L);
-            mockStats.put("completionRate", 33.33);
-            mockStats.put("overdueRate", 66.67);
-            
-            Map<Status, Long> statusCountsEnum = new HashMap<>();
-            statusCountsEnum.put(Status.TODO, 1L);
-            statusCountsEnum.put(Status.IN_PROGRESS, 1L);
-            statusCountsEnum.put(Status.COMPLETED, 1L);
-            mockStats.put("statusCounts", statusCountsEnum);
-            
-            Map<Priority, Long> priorityCountsEnum = new HashMap<>();
-            priorityCountsEnum.put(Priority.HIGH, 1L);
-            priorityCountsEnum.put(Priority.MEDIUM, 1L);
-            priorityCountsEnum.put(Priority.LOW, 1L);
-            mockStats.put("priorityCounts", priorityCountsEnum);
-
-            when(taskRepository.findAll()).thenReturn(allTasks);
-            when(statisticsCalculator.calculateComprehensiveStats(allTasks)).thenReturn(mockStats);
-
-            // When
-            Map<String, Object> result = taskAnalyticsService.getTaskStatistics();
-
-            // Then
-            assertNotNull(result);
-            assertTrue(result.containsKey("statusCounts"));
-            assertTrue(result.containsKey("priorityCounts"));
-            assertTrue(result.containsKey("overdueTasks"));
-            assertTrue(result.containsKey("totalTasks"));
-            assertTrue(result.containsKey("completionRate"));
-
-            assertEquals(3L, result.get("totalTasks"));
-            assertEquals(2L, result.get("overdueTasks"));
-            assertEquals(33.33, (Double) result.get("completionRate"), 0.01);
-            
-            // Verify that status/priority counts are converted to enum names
-            @SuppressWarnings("unchecked")
-            Map<String, Long> statusCounts = (Map<String, Long>) result.get("statusCounts");
-            assertTrue(statusCounts.containsKey("TODO"));
-            assertTrue(statusCounts.containsKey("IN_PROGRESS"));
-            assertTrue(statusCounts.containsKey("COMPLETED"));
-        }
+    @Test
+    void testGetTaskStatistics() {
+        // Given
+        TaskCounters counters = new TaskCounters(new long[Status.values().length][Priority.values().length], 2L);
+        
+        Map<String, Object> mockStats = new HashMap<>();
+        mockStats.put("totalTasks", 3L);
+        mockStats.put("completedTasks", 1L);
+        mockStats.put("overdueTasks", 2L);
+        mockStats.put("completionRate", 33.33);
+        mockStats.put("overdueRate", 66.67);
+        
+        Map<Status, Long> statusCountsEnum = new HashMap<>();
+        statusCountsEnum.put(Status.TODO, 1L);
+        statusCountsEnum.put(Status.IN_PROGRESS, 1L);
+        statusCountsEnum.put(Status.COMPLETED, 1L);
+        mockStats.put("statusCounts", statusCountsEnum);
+        
+        Map<Priority, Long> priorityCountsEnum = new HashMap<>();
+        priorityCountsEnum.put(Priority.HIGH, 1L);
+        priorityCountsEnum.put(Priority.MEDIUM, 1L);
+        priorityCountsEnum.put(Priority.LOW, 1L);
+        mockStats.put("priorityCounts", priorityCountsEnum);
+
+        when(statisticsStore.getCounters()).thenReturn(counters);
+        when(statisticsCalculator.calculateComprehensiveStats(counters)).thenReturn(mockStats);
+
+        // When
+        Map<String, Object> result = taskAnalyticsService.getTaskStatistics();
+
+        // Then
+        assertNotNull(result);
+        assertTrue(result.containsKey("statusCounts"));
+        assertTrue(result.containsKey("priorityCounts"));
+        assertTrue(result.containsKey("overdueTasks"));
+        assertTrue(result.containsKey("totalTasks"));
+        assertTrue(result.containsKey("completionRate"));
+
+        assertEquals(3L, result.get("totalTasks"));
+        assertEquals(2L, result.get("overdueTasks"));
+        assertEquals(33.33, (Double) result.get("completionRate"), 0.01);
+        
+        // Verify that status/priority counts are converted to enum names
+        @SuppressWarnings("unchecked")
+        Map<String, Long> statusCounts = (Map<String, Long>) result.get("statusCounts");
+        assertTrue(statusCounts.containsKey("TODO"));
+        assertTrue(statusCounts.containsKey("IN_PROGRESS"));
+        assertTrue(statusCounts.containsKey("COMPLETED"));
+        verify(taskRepository, never()).findAll();
+    }
 
     @Test
     void testGetTaskStatisticsForDateRange() {
@@ -155,7 +161,11 @@ class TaskAnalyticsServiceTest {
     @Test
     void testGetProductivityMetrics() {
         // Given
-        List<Task> allTasks = Arrays.asList(task1, task2, task3);
+        long[][] counts = new long[Status.values().length][Priority.values().length];
+        counts[Status.TODO.ordinal()][Priority.HIGH.ordinal()] = 1L;
+        counts[Status.IN_PROGRESS.ordinal()][Priority.MEDIUM.ordinal()] = 1L;
+        counts[Status.COMPLETED.ordinal()][Priority.LOW.ordinal()] = 1L;
+        TaskCounters counters = new TaskCounters(counts, 1L);
         
         Map<Status, Long> statusCountsEnum = new HashMap<>();
         statusCountsEnum.put(Status.TODO, 1L);
@@ -176,9 +186,8 @@ class TaskAnalyticsServiceTest {
         mockStats.put("statusCounts", statusCountsEnum);
         mockStats.put("priorityCounts", priorityCountsEnum);
 
-        when(taskRepository.findAll()).thenReturn(allTasks);
-        when(taskRepository.countByStatus(Status.IN_PROGRESS)).thenReturn(1L);
-        when(statisticsCalculator.calculateComprehensiveStats(allTasks)).thenReturn(mockStats);
+        when(statisticsStore.getCounters()).thenReturn(counters);
+        when(statisticsCalculator.calculateComprehensiveStats(counters)).thenReturn(mockStats);
 
         // When
         Map<String, Object> result = taskAnalyticsService.getProductivityMetrics();
@@ -198,12 +207,13 @@ class TaskAnalyticsServiceTest {
         assertEquals(1L, result.get("overdueTasks"));
         assertEquals(33.33, result.get("completionRate"));
         assertEquals(33.33, result.get("overdueRate"));
+        verify(taskRepository, never()).findAll();
     }
 
     @Test
     void testGetProductivityMetricsWithZeroTasks() {
         // Given
-        List<Task> emptyTasks = Arrays.asList();
+        TaskCounters counters = new TaskCounters(new long[Status.values().length][Priority.values().length], 0L);
         
         Map<String, Object> mockStats = new HashMap<>();
         mockStats.put("totalTasks", 0L);
@@ -214,8 +224,8 @@ class TaskAnalyticsServiceTest {
         mockStats.put("statusCounts", new HashMap<Status, Long>());
         mockStats.put("priorityCounts", new HashMap<Priority, Long>());
 
-        when(taskRepository.findAll()).thenReturn(emptyTasks);
-        when(statisticsCalculator.calculateComprehensiveStats(emptyTasks)).thenReturn(mockStats);
+        when(statisticsStore.getCounters()).thenReturn(counters);
+        when(statisticsCalculator.calculateComprehensiveStats(counters)).thenReturn(mockStats);
 
         // When
         Map<String, Object> result = taskAnalyticsService.getProductivityMetrics();
@@ -0,0 +1,121 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.dto.TaskChange;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.enums.TaskChangeAction;
+import com.example.taskmanagement.listener.TaskChangeSubscriber;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for TaskChangeStream.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskChangeStreamTest {
+
+    @Mock
+    private TaskOutboxRelay taskOutboxRelay;
+
+    private ApplicationConfig.ApplicationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskChangeStream stream;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ApplicationConfig.ApplicationProperties();
+        properties.getStream().setMaxClients(1);
+        properties.getStream().setClientBufferSize(2);
+        properties.getStream().setHeartbeatIntervalMs(0);
+        meterRegistry = new SimpleMeterRegistry();
+        stream = new TaskChangeStream(taskOutboxRelay, properties, meterRegistry);
+        stream.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.stop();
+    }
+
+    @Test
+    void testSubscribeRefusesClientsBeyondLimit() {
+        assertTrue(stream.subscribe(null).isPresent());
+        assertFalse(stream.subscribe(null).isPresent());
+        assertEquals(1, stream.getClientCount());
+        assertEquals(1.0, meterRegistry.get("task.stream.clients").gauge().value());
+    }
+
+    @Test
+    void testSubscribeRefusedWhenStopped() {
+        stream.stop();
+
+        assertFalse(stream.subscribe(null).isPresent());
+    }
+
+    @Test
+    void testNewStreamDoesNotReplay() {
+        stream.subscribe(null);
+
+        verify(taskOutboxRelay, never()).replayDeliveredAfter(anyLong(), any());
+    }
+
+    @Test
+    void testResumeReplaysAfterLastEventId() {
+        doAnswer(invocation -> {
+            TaskChangeSubscriber subscriber = invocation.getArgument(1);
+            subscriber.onChanges(Collections.singletonList(change(42L)));
+            return null;
+        }).when(taskOutboxRelay).replayDeliveredAfter(eq(41L), any());
+
+        assertTrue(stream.subscribe(41L).isPresent());
+
+        verify(taskOutboxRelay).replayDeliveredAfter(eq(41L), any());
+        assertEquals(0.0, meterRegistry.get("task.stream.overruns").counter().count());
+    }
+
+    @Test
+    void testResumeBeyondBufferAsksClientToResync() {
+        doAnswer(invocation -> {
+            TaskChangeSubscriber subscriber = invocation.getArgument(1);
+            subscriber.onChanges(Arrays.asList(change(1L), change(2L), change(3L)));
+            return null;
+        }).when(taskOutboxRelay).replayDeliveredAfter(eq(0L), any());
+
+        assertTrue(stream.subscribe(0L).isPresent());
+
+        assertEquals(1.0, meterRegistry.get("task.stream.overruns").counter().count());
+    }
+
+    @Test
+    void testClientFallingBehindIsCountedNotBlocking() {
+        stream.subscribe(null);
+
+        stream.onChanges(Arrays.asList(change(1L), change(2L), change(3L)));
+
+        assertEquals(1.0, meterRegistry.get("task.stream.overruns").counter().count());
+    }
+
+    private static TaskChange change(long position) {
+        return new TaskChange(position, position * 10, TaskChangeAction.UPDATED, Status.IN_PROGRESS, 1L,
+            LocalDateTime.now());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.taskmanagement.service;
+
+/**
+ * Test support for resetting the in-memory task models.
+ * Deleting rows through a repository publishes no task events, so tests that
+ * empty the tables directly use this to bring the models back in line.
+ */
+public final class TaskModelReset {
+
+    private TaskModelReset() {
+    }
+
+    /**
+     * Discards everything the models derived from the deleted rows.
+     *
+     * @param titleIndex the title similarity index
+     * @param searchIndex the full-text search index
+     * @param readCache the task read cache
+     * @param dataVersion the task data version
+     */
+    public static void afterDirectDelete(TaskTitleIndex titleIndex, TaskSearchIndex searchIndex,
+                                         TaskReadCache readCache, TaskDataVersion dataVersion) {
+        titleIndex.markStale();
+        searchIndex.markStale();
+        readCache.clear();
+        dataVersion.advance();
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.dto.TaskChange;
+import com.example.taskmanagement.entity.TaskOutboxEntry;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.enums.TaskChangeAction;
+import com.example.taskmanagement.listener.TaskChangeSubscriber;
+import com.example.taskmanagement.repository.TaskOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskOutboxRelay.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskOutboxRelayTest {
+
+    @Mock
+    private TaskOutboxRepository taskOutboxRepository;
+
+    @Mock
+    private ObjectProvider<TaskChangeSubscriber> subscribers;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationConfig.ApplicationProperties properties = new ApplicationConfig.ApplicationProperties();
+        properties.getOutbox().setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new TaskOutboxRelay(taskOutboxRepository, subscribers, transactionManager, properties, meterRegistry);
+    }
+
+    @Test
+    void testRelayPendingDeliversBatchesInOrderAndMarksThemProcessed() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        List<List<TaskChange>> delivered = new ArrayList<>();
+        when(subscribers.orderedStream()).thenAnswer(invocation -> Stream.of((TaskChangeSubscriber) delivered::add));
+        when(taskOutboxRepository.findByProcessedAtIsNullOrderByIdAsc(PageRequest.of(0, 2)))
+            .thenReturn(Arrays.asList(entry(1L, 10L), entry(2L, 11L)))
+            .thenReturn(Collections.singletonList(entry(3L, 12L)));
+
+        // When
+        int relayed = relay.relayPending();
+
+        // Then
+        assertEquals(3, relayed);
+        assertEquals(2, delivered.size());
+        assertEquals(Arrays.asList(10L, 11L), Arrays.asList(
+            delivered.get(0).get(0).getTaskId(), delivered.get(0).get(1).getTaskId()));
+        verify(taskOutboxRepository).markProcessed(eq(Arrays.asList(1L, 2L)), any());
+        verify(taskOutboxRepository).markProcessed(eq(Collections.singletonList(3L)), any());
+        assertEquals(3.0, meterRegistry.get("task.outbox.relayed").counter().count());
+        assertEquals(3.0, meterRegistry.get("task.outbox.position").gauge().value());
+    }
+
+    @Test
+    void testFailingSubscriberLeavesBatchPending() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        TaskChangeSubscriber failing = changes -> {
+            throw new IllegalStateException("subscriber down");
+        };
+        when(subscribers.orderedStream()).thenAnswer(invocation -> Stream.of(failing));
+        when(taskOutboxRepository.findByProcessedAtIsNullOrderByIdAsc(PageRequest.of(0, 2)))
+            .thenReturn(Collections.singletonList(entry(1L, 10L)));
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> relay.relayPending());
+        verify(taskOutboxRepository, never()).markProcessed(anyList(), any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void testReplayPagesFromPosition() {
+        // Given
+        when(taskOutboxRepository.findByIdGreaterThanOrderByIdAsc(5L, PageRequest.of(0, 2)))
+            .thenReturn(Arrays.asList(entry(6L, 10L), entry(7L, 11L)));
+        when(taskOutboxRepository.findByIdGreaterThanOrderByIdAsc(7L, PageRequest.of(0, 2)))
+            .thenReturn(Collections.singletonList(entry(8L, 12L)));
+        List<TaskChange> seen = new ArrayList<>();
+
+        // When
+        long position = relay.replay(5L, seen::addAll);
+
+        // Then
+        assertEquals(8L, position);
+        assertEquals(3, seen.size());
+        assertEquals(TaskChangeAction.UPDATED, seen.get(2).getAction());
+    }
+
+    @Test
+    void testBatchesAreNeverMarkedWithTheSameDeliveryTime() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(subscribers.orderedStream()).thenAnswer(invocation -> Stream.empty());
+        when(taskOutboxRepository.findByProcessedAtIsNullOrderByIdAsc(PageRequest.of(0, 2)))
+            .thenReturn(Arrays.asList(entry(1L, 10L), entry(2L, 11L)))
+            .thenReturn(Arrays.asList(entry(3L, 12L), entry(4L, 13L)))
+            .thenReturn(Collections.emptyList());
+        ArgumentCaptor<LocalDateTime> deliveredAt = ArgumentCaptor.forClass(LocalDateTime.class);
+
+        // When
+        relay.relayPending();
+
+        // Then
+        verify(taskOutboxRepository, times(2)).markProcessed(anyList(), deliveredAt.capture());
+        assertTrue(deliveredAt.getAllValues().get(1).isAfter(deliveredAt.getAllValues().get(0)));
+    }
+
+    @Test
+    void testReplayDeliveredAfterIncludesEntriesThatCommittedBehindThePosition() {
+        // Given: entry 3 committed after entry 7 was delivered
+        LocalDateTime deliveredAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        TaskOutboxEntry last = delivered(entry(7L, 10L), deliveredAt);
+        TaskOutboxEntry straggler = delivered(entry(3L, 11L), deliveredAt.plusSeconds(1));
+        TaskOutboxEntry next = delivered(entry(8L, 12L), deliveredAt.plusSeconds(1));
+        when(taskOutboxRepository.findById(7L)).thenReturn(Optional.of(last));
+        when(taskOutboxRepository.findDeliveredAfter(deliveredAt, 7L, PageRequest.of(0, 2)))
+            .thenReturn(Arrays.asList(straggler, next));
+        when(taskOutboxRepository.findDeliveredAfter(deliveredAt.plusSeconds(1), 8L, PageRequest.of(0, 2)))
+            .thenReturn(Collections.emptyList());
+        when(taskOutboxRepository.findByProcessedAtIsNullAndIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 2)))
+            .thenReturn(Collections.singletonList(entry(9L, 13L)));
+        List<TaskChange> seen = new ArrayList<>();
+
+        // When
+        relay.replayDeliveredAfter(7L, seen::addAll);
+
+        // Then
+        assertEquals(Arrays.asList(3L, 8L, 9L), Arrays.asList(
+            seen.get(0).getPosition(), seen.get(1).getPosition(), seen.get(2).getPosition()));
+    }
+
+    @Test
+    void testReplayDeliveredAfterPurgedEntryFallsBackToPosition() {
+        // Given
+        when(taskOutboxRepository.findById(5L)).thenReturn(Optional.empty());
+        when(taskOutboxRepository.findByIdGreaterThanOrderByIdAsc(5L, PageRequest.of(0, 2)))
+            .thenReturn(Collections.singletonList(entry(6L, 10L)));
+        List<TaskChange> seen = new ArrayList<>();
+
+        // When
+        relay.replayDeliveredAfter(5L, seen::addAll);
+
+        // Then
+        assertEquals(1, seen.size());
+        assertEquals(6L, seen.get(0).getPosition());
+        verify(taskOutboxRepository, never()).findDeliveredAfter(any(), any(), any());
+    }
+
+    @Test
+    void testOnlyRetainedDeliveredEntriesCanBeResumedFrom() {
+        // Given
+        when(taskOutboxRepository.findById(1L)).thenReturn(Optional.of(delivered(entry(1L, 10L), LocalDateTime.now())));
+        when(taskOutboxRepository.findById(2L)).thenReturn(Optional.of(entry(2L, 11L)));
+        when(taskOutboxRepository.findById(3L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertTrue(relay.isDelivered(1L));
+        assertFalse(relay.isDelivered(2L));
+        assertFalse(relay.isDelivered(3L));
+    }
+
+    private static TaskOutboxEntry delivered(TaskOutboxEntry entry, LocalDateTime processedAt) {
+        ReflectionTestUtils.setField(entry, "processedAt", processedAt);
+        return entry;
+    }
+
+    private static TaskOutboxEntry entry(Long position, Long taskId) {
+        TaskOutboxEntry entry = new TaskOutboxEntry(taskId, TaskChangeAction.UPDATED, Status.IN_PROGRESS, 1L,
+            LocalDateTime.now());
+        ReflectionTestUtils.setField(entry, "id", position);
+        return entry;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.config.CaffeineCacheFactory;
+import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.util.TaskConverter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskReadCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskReadCacheTest {
+
+    private static final int CONCURRENT_READERS = 16;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskConverter taskConverter;
+
+    private CaffeineCacheManager cacheManager;
+    private TaskReadCache readCache;
+    private Task task;
+    private TaskResponse response;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationConfig.ApplicationProperties properties = new ApplicationConfig.ApplicationProperties();
+        cacheManager = new CaffeineCacheManager();
+        readCache = new TaskReadCache(taskRepository, taskConverter, properties,
+                new CaffeineCacheFactory(properties, new SimpleMeterRegistry()), cacheManager);
+        task = new Task("Cached Task", Priority.HIGH, Status.TODO);
+        task.setId(1L);
+        response = new TaskResponse();
+        response.setId(1L);
+        response.setTitle("Cached Task");
+    }
+
+    @AfterEach
+    void tearDown() {
+        readCache.destroy();
+    }
+
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        when(taskRepository.findById(1L)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            assertTrue(releaseLoad.await(5, TimeUnit.SECONDS));
+            return Optional.of(task);
+        });
+        when(taskConverter.convertToResponse(task)).thenReturn(response);
+
+        ExecutorService readers = Executors.newFixedThreadPool(CONCURRENT_READERS);
+        try {
+            List<Future<Optional<TaskResponse>>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_READERS; i++) {
+                results.add(readers.submit(() -> readCache.get(1L)));
+            }
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            releaseLoad.countDown();
+
+            for (Future<Optional<TaskResponse>> result : results) {
+                Optional<TaskResponse> loaded = result.get(5, TimeUnit.SECONDS);
+                assertTrue(loaded.isPresent());
+                assertSame(response, loaded.get());
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testHitDoesNotReload() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskConverter.convertToResponse(task)).thenReturn(response);
+
+        readCache.get(1L);
+        Optional<TaskResponse> second = readCache.get(1L);
+
+        assertTrue(second.isPresent());
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testMissingTaskIsNotCached() {
+        when(taskRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertFalse(readCache.get(2L).isPresent());
+        assertFalse(readCache.get(2L).isPresent());
+
+        verify(taskRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void testEvictForcesReload() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskConverter.convertToResponse(task)).thenReturn(response);
+
+        readCache.get(1L);
+        readCache.evictAfterCommit(Collections.singletonList(1L));
+        readCache.get(1L);
+
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testPutReplacesEntryWithoutReload() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskConverter.convertToResponse(task)).thenReturn(response);
+        TaskResponse updated = new TaskResponse();
+        updated.setId(1L);
+        updated.setTitle("Updated Task");
+
+        readCache.get(1L);
+        readCache.putAfterCommit(updated);
+        Optional<TaskResponse> result = readCache.get(1L);
+
+        assertTrue(result.isPresent());
+        assertSame(updated, result.get());
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testPutIsDeferredUntilCommit() {
+        TaskResponse updated = new TaskResponse();
+        updated.setId(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskConverter.convertToResponse(task)).thenReturn(response);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            readCache.putAfterCommit(updated);
+            // Not yet committed: readers still see the stored state
+            assertSame(response, readCache.get(1L).get());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertSame(updated, readCache.get(1L).get());
+    }
+
+    @Test
+    void testRegistersWithCacheManager() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskConverter.convertToResponse(task)).thenReturn(response);
+        readCache.get(1L);
+
+        org.springframework.cache.Cache managed = cacheManager.getCache("tasks");
+        assertNotNull(managed);
+        assertNotNull(managed.get(1L));
+
+        // Clearing through the cache manager clears the read cache
+        managed.clear();
+        readCache.get(1L);
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testLoaderFailureIsRethrownUnwrapped() {
+        when(taskRepository.findById(3L)).thenThrow(new IllegalStateException("database unavailable"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> readCache.get(3L));
+
+        assertNotNull(exception.getMessage());
+        assertEquals("database unavailable", exception.getMessage());
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.dto.TaskChange;
+import com.example.taskmanagement.dto.TaskSearchRequest;
+import com.example.taskmanagement.dto.TaskSnapshot;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.enums.TaskChangeAction;
+import com.example.taskmanagement.event.TaskCreatedEvent;
+import com.example.taskmanagement.event.TaskDeletedEvent;
+import com.example.taskmanagement.event.TaskUpdatedEvent;
+import com.example.taskmanagement.listener.TaskChangeSubscriber;
+import com.example.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskSearchIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskOutboxRelay outboxRelay;
+
+    private TaskSearchIndex searchIndex;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ApplicationConfig.ApplicationProperties properties = new ApplicationConfig.ApplicationProperties();
+        searchIndex = new TaskSearchIndex(taskRepository, outboxRelay, properties);
+
+        tasks = Arrays.asList(
+                createTask(1L, "Review code changes", "Check the new parser", Status.TODO, 1),
+                createTask(2L, "Plan sprint", "Review the documentation backlog", Status.IN_PROGRESS, 2),
+                createTask(3L, "Write documentation", "User guide for the importer", Status.TODO, 3));
+        when(taskRepository.findIndexBatchAfter(anyLong(), any())).thenReturn(tasks);
+        searchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        searchIndex.destroy();
+    }
+
+    @Test
+    void testRebuildIndexesEveryTask() {
+        assertEquals(3, searchIndex.documentCount());
+        assertFalse(searchIndex.isStale());
+        verify(taskRepository).findIndexBatchAfter(0L, PageRequest.of(0, 1000));
+    }
+
+    @Test
+    void testPrefixMatchesWholeWords() {
+        Page<Long> hits = searchIndex.search(request("docum", TaskSearchIndex.SORT_RELEVANCE)).get();
+
+        assertEquals(2, hits.getTotalElements());
+        assertTrue(hits.getContent().containsAll(Arrays.asList(2L, 3L)));
+    }
+
+    @Test
+    void testTitleMatchesRankAboveDescriptionMatches() {
+        Page<Long> hits = searchIndex.search(request("review", TaskSearchIndex.SORT_RELEVANCE)).get();
+
+        assertEquals(Arrays.asList(1L, 2L), hits.getContent());
+    }
+
+    @Test
+    void testEveryQueryWordMustMatch() {
+        Page<Long> hits = searchIndex.search(request("review backlog", TaskSearchIndex.SORT_RELEVANCE)).get();
+
+        assertEquals(Collections.singletonList(2L), hits.getContent());
+    }
+
+    @Test
+    void testStructuredFiltersCombineWithText() {
+        TaskSearchRequest searchRequest = request("documentation", TaskSearchIndex.SORT_RELEVANCE);
+        searchRequest.setStatus(Status.TODO);
+        searchRequest.setDueDateFrom(LocalDate.now().plusDays(3));
+
+        Page<Long> hits = searchIndex.search(searchRequest).get();
+
+        assertEquals(Collections.singletonList(3L), hits.getContent());
+    }
+
+    @Test
+    void testSortsAndPagesByIndexedField() {
+        TaskSearchRequest searchRequest = request("the", "createdAt");
+        searchRequest.setSize(1);
+        searchRequest.setPage(1);
+
+        Page<Long> hits = searchIndex.search(searchRequest).get();
+
+        // "the" appears in all three descriptions; newest first puts task 2 second
+        assertEquals(3, hits.getTotalElements());
+        assertEquals(Collections.singletonList(2L), hits.getContent());
+    }
+
+    @Test
+    void testScrollSeeksPastPositionNewestFirst() {
+        TaskSearchRequest searchRequest = request("the", null);
+
+        List<Long> first = searchIndex.scroll(searchRequest, null, null, 2).get();
+        List<Long> next = searchIndex.scroll(searchRequest, tasks.get(1).getCreatedAt(), 2L, 2).get();
+
+        assertEquals(Arrays.asList(3L, 2L), first);
+        assertEquals(Collections.singletonList(1L), next);
+    }
+
+    @Test
+    void testMatchesWordsNotSubstrings() {
+        // The database fallback would match "view" inside "Review"; the index does not
+        assertTrue(searchIndex.search(request("view", TaskSearchIndex.SORT_RELEVANCE)).get().getContent().isEmpty());
+        assertTrue(searchIndex.scroll(request("view", null), null, null, 10).get().isEmpty());
+    }
+
+    @Test
+    void testEventsKeepIndexInStep() {
+        Task created = createTask(4L, "Deploy release", null, Status.TODO, 4);
+        searchIndex.handleTaskCreated(new TaskCreatedEvent(created));
+        assertEquals(Collections.singletonList(4L),
+                searchIndex.search(request("deploy", TaskSearchIndex.SORT_RELEVANCE)).get().getContent());
+
+        created.setTitle("Rollback release");
+        searchIndex.handleTaskUpdated(new TaskUpdatedEvent(created));
+        assertTrue(searchIndex.search(request("deploy", TaskSearchIndex.SORT_RELEVANCE)).get().getContent().isEmpty());
+
+        searchIndex.handleTaskDeleted(new TaskDeletedEvent(Collections.singletonList(TaskSnapshot.of(created))));
+        assertTrue(searchIndex.search(request("rollback", TaskSearchIndex.SORT_RELEVANCE)).get().getContent().isEmpty());
+    }
+
+    @Test
+    void testFeedChangesReindexCommittedRows() {
+        Task created = createTask(4L, "Deploy release", null, Status.TODO, 4);
+        when(taskRepository.findAllById(any())).thenReturn(Collections.singletonList(created));
+
+        // Task 1 has no row any more, so its document goes
+        searchIndex.onChanges(Arrays.asList(
+                change(5L, 4L, TaskChangeAction.CREATED), change(6L, 1L, TaskChangeAction.DELETED)));
+
+        assertEquals(Collections.singletonList(4L),
+                searchIndex.search(request("deploy", TaskSearchIndex.SORT_RELEVANCE)).get().getContent());
+        assertEquals(Collections.singletonList(2L),
+                searchIndex.search(request("review", TaskSearchIndex.SORT_RELEVANCE)).get().getContent());
+    }
+
+    @Test
+    void testSearchDuringRebuildIsLeftToTheDatabase() {
+        AtomicReference<Optional<Page<Long>>> duringRebuild = new AtomicReference<>();
+        doAnswer(invocation -> {
+            duringRebuild.set(CompletableFuture.supplyAsync(
+                    () -> searchIndex.search(request("review", TaskSearchIndex.SORT_RELEVANCE))).get());
+            return tasks;
+        }).when(taskRepository).findIndexBatchAfter(anyLong(), any());
+
+        searchIndex.rebuild();
+
+        assertFalse(duringRebuild.get().isPresent());
+        assertTrue(searchIndex.search(request("review", TaskSearchIndex.SORT_RELEVANCE)).isPresent());
+    }
+
+    @Test
+    void testReopenedIndexIsReusedWhenItsCommitIsCurrent(@TempDir Path indexDir) throws Exception {
+        indexAt(indexDir).destroy();
+
+        TaskSearchIndex reopened = openAt(indexDir);
+        try {
+            when(taskRepository.count()).thenReturn(3L);
+            when(taskRepository.findMaxUpdatedAt()).thenReturn(tasks.get(2).getUpdatedAt());
+
+            reopened.onApplicationReady();
+
+            assertFalse(reopened.isStale());
+            assertEquals(3, reopened.documentCount());
+            // Once for the in-memory index, once for the on-disk one, not again on reopening
+            verify(taskRepository, times(2)).findIndexBatchAfter(anyLong(), any());
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void testReopenedIndexCatchesUpFromItsFeedPosition(@TempDir Path indexDir) throws Exception {
+        TaskSearchIndex onDisk = indexAt(indexDir);
+        when(taskRepository.findAllById(any())).thenReturn(Collections.singletonList(tasks.get(0)));
+        onDisk.onChanges(Collections.singletonList(change(7L, 1L, TaskChangeAction.UPDATED)));
+        onDisk.destroy();
+
+        TaskSearchIndex reopened = openAt(indexDir);
+        try {
+            when(outboxRelay.isDelivered(7L)).thenReturn(true);
+
+            reopened.onApplicationReady();
+
+            assertFalse(reopened.isStale());
+            assertEquals(3, reopened.documentCount());
+            verify(outboxRelay).replayDeliveredAfter(eq(7L), any(TaskChangeSubscriber.class));
+            // Neither compared with nor rebuilt from the task table
+            verify(taskRepository, never()).count();
+            verify(taskRepository, times(2)).findIndexBatchAfter(anyLong(), any());
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void testReopenedIndexMissingLaterUpdatesIsRebuilt(@TempDir Path indexDir) throws Exception {
+        indexAt(indexDir).destroy();
+
+        TaskSearchIndex reopened = openAt(indexDir);
+        try {
+            // Same task count, but a task was updated after the index last committed
+            when(taskRepository.count()).thenReturn(3L);
+            when(taskRepository.findMaxUpdatedAt()).thenReturn(tasks.get(2).getUpdatedAt().plusSeconds(1));
+
+            reopened.onApplicationReady();
+
+            verify(taskRepository, times(3)).findIndexBatchAfter(anyLong(), any());
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void testRequestsWithoutWordsAreNotAnswered() {
+        assertFalse(searchIndex.search(request(null, TaskSearchIndex.SORT_RELEVANCE)).isPresent());
+        assertFalse(searchIndex.search(request(" %! ", TaskSearchIndex.SORT_RELEVANCE)).isPresent());
+    }
+
+    private TaskSearchIndex openAt(Path indexDir) throws IOException {
+        ApplicationConfig.ApplicationProperties properties = new ApplicationConfig.ApplicationProperties();
+        properties.getSearch().setIndexPath(indexDir.toString());
+        return new TaskSearchIndex(taskRepository, outboxRelay, properties);
+    }
+
+    private TaskSearchIndex indexAt(Path indexDir) throws IOException {
+        TaskSearchIndex onDisk = openAt(indexDir);
+        onDisk.rebuild();
+        return onDisk;
+    }
+
+    private static TaskSearchRequest request(String searchTerm, String sortBy) {
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setSearchTerm(searchTerm);
+        searchRequest.setSortBy(sortBy);
+        searchRequest.setSortDirection("desc");
+        return searchRequest;
+    }
+
+    private static TaskChange change(long position, Long taskId, TaskChangeAction action) {
+        return new TaskChange(position, taskId, action, Status.TODO, 0L, LocalDateTime.now());
+    }
+
+    private static Task createTask(Long id, String title, String description, Status status, int dayOffset) {
+        Task task = new Task(title, Priority.MEDIUM, status);
+        task.setId(id);
+        task.setDescription(description);
+        task.setDueDate(LocalDate.now().plusDays(dayOffset));
+        task.setCreatedAt(LocalDateTime.now().plusMinutes(dayOffset));
+        task.setUpdatedAt(task.getCreatedAt());
+        return task;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskSearchRequest;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Unit tests for TaskSearchKeyGenerator.
+ */
+class TaskSearchKeyGeneratorTest {
+
+    private static final String SEARCH = "searchTasks";
+
+    private TaskDataVersion dataVersion;
+    private TaskSearchKeyGenerator keyGenerator;
+
+    @BeforeEach
+    void setUp() {
+        dataVersion = new TaskDataVersion();
+        keyGenerator = new TaskSearchKeyGenerator(dataVersion);
+    }
+
+    @Test
+    void testEquivalentRequestsShareKey() {
+        TaskSearchRequest first = createRequest("Bug", "desc");
+        first.setCreatedFrom(LocalDate.of(2025, 1, 1));
+        TaskSearchRequest second = createRequest("bUG", "DESC");
+        second.setOverdue(Boolean.TRUE);
+
+        assertEquals(keyGenerator.keyFor(SEARCH, first), keyGenerator.keyFor(SEARCH, second));
+        assertEquals(keyGenerator.keyFor(SEARCH, first).hashCode(), keyGenerator.keyFor(SEARCH, second).hashCode());
+    }
+
+    @Test
+    void testPaddedAndBlankTermsAreNormalized() {
+        assertEquals(keyGenerator.keyFor(SEARCH, createRequest("bug", "desc")),
+                keyGenerator.keyFor(SEARCH, createRequest("  Bug ", "desc")));
+        assertEquals(keyGenerator.keyFor(SEARCH, createRequest(null, "desc")),
+                keyGenerator.keyFor(SEARCH, createRequest("   ", "desc")));
+    }
+
+    @Test
+    void testRelevanceOrderIgnoresDirection() {
+        TaskSearchRequest ascending = createRequest("bug", "asc");
+        ascending.setSortBy(TaskSearchIndex.SORT_RELEVANCE);
+        TaskSearchRequest descending = createRequest("bug", "desc");
+        descending.setSortBy(TaskSearchIndex.SORT_RELEVANCE);
+
+        assertEquals(keyGenerator.keyFor(SEARCH, ascending), keyGenerator.keyFor(SEARCH, descending));
+    }
+
+    @Test
+    void testDifferentCriteriaGetDifferentKeys() {
+        TaskSearchRequest base = createRequest("bug", "desc");
+
+        TaskSearchRequest otherPage = createRequest("bug", "desc");
+        otherPage.setPage(1);
+        TaskSearchRequest otherDirection = createRequest("bug", "asc");
+        TaskSearchRequest otherStatus = createRequest("bug", "desc");
+        otherStatus.setStatus(Status.COMPLETED);
+
+        assertNotEquals(keyGenerator.keyFor(SEARCH, base), keyGenerator.keyFor(SEARCH, otherPage));
+        assertNotEquals(keyGenerator.keyFor(SEARCH, base), keyGenerator.keyFor(SEARCH, otherDirection));
+        assertNotEquals(keyGenerator.keyFor(SEARCH, base), keyGenerator.keyFor(SEARCH, otherStatus));
+    }
+
+    @Test
+    void testOperationsDoNotShareKeys() {
+        TaskSearchRequest request = createRequest("bug", "desc");
+
+        assertNotEquals(keyGenerator.keyFor(SEARCH, request),
+                keyGenerator.keyFor("searchTaskSummaries", request));
+    }
+
+    @Test
+    void testWriteMovesToNewKey() {
+        TaskSearchRequest request = createRequest("bug", "desc");
+        TaskSearchKeyGenerator.SearchKey before = keyGenerator.keyFor(SEARCH, request);
+
+        dataVersion.handleTaskCreated(null);
+        TaskSearchKeyGenerator.SearchKey after = keyGenerator.keyFor(SEARCH, request);
+
+        assertNotEquals(before, after);
+        assertEquals(before.getVersion() + 1, after.getVersion());
+    }
+
+    private TaskSearchRequest createRequest(String searchTerm, String sortDirection) {
+        TaskSearchRequest request = new TaskSearchRequest();
+        request.setSearchTerm(searchTerm);
+        request.setPriority(Priority.HIGH);
+        request.setSortDirection(sortDirection);
+        return request;
+    }
+}
@@ -1,13 +1,22 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.dto.CursorPage;
+import com.example.taskmanagement.dto.TaskCursor;
+import com.example.taskmanagement.dto.TaskPatchRequest;
 import com.example.taskmanagement.dto.TaskRequest;
 import com.example.taskmanagement.dto.TaskResponse;
+import com.example.taskmanagement.dto.TaskSearchRequest;
+import com.example.taskmanagement.dto.TaskSummary;
 import com.example.taskmanagement.entity.Task;
 import com.example.taskmanagement.enums.Priority;
 import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.event.TaskBulkCompletedEvent;
 import com.example.taskmanagement.event.TaskCompletedEvent;
 import com.example.taskmanagement.event.TaskCreatedEvent;
+import com.example.taskmanagement.event.TaskDeletedEvent;
 import com.example.taskmanagement.event.TaskUpdatedEvent;
+import com.example.taskmanagement.exception.TaskVersionConflictException;
+import com.example.taskmanagement.exception.ValidationException;
 import com.example.taskmanagement.repository.TaskRepository;
 import com.example.taskmanagement.util.TaskConverter;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,16 +30,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -48,6 +63,12 @@ class TaskServiceTest {
     @Mock
     private TaskConverter taskConverter;
 
+    @Mock
+    private TaskReadCache taskReadCache;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -101,8 +122,7 @@ class TaskServiceTest {
     @Test
     void testGetTaskById() {
         // Given
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskConverter.convertToResponse(task)).thenReturn(createTaskResponse());
+        when(taskReadCache.get(1L)).thenReturn(Optional.of(createTaskResponse()));
 
         // When
         Optional<TaskResponse> result = taskService.getTaskById(1L);
@@ -110,21 +130,21 @@ class TaskServiceTest {
         // Then
         assertTrue(result.isPresent());
         assertEquals(task.getTitle(), result.get().getTitle());
-        verify(taskRepository).findById(1L);
-        verify(taskConverter).convertToResponse(task);
+        verify(taskReadCache).get(1L);
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
     void testGetTaskByIdNotFound() {
         // Given
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskReadCache.get(1L)).thenReturn(Optional.empty());
 
         // When
         Optional<TaskResponse> result = taskService.getTaskById(1L);
 
         // Then
         assertFalse(result.isPresent());
-        verify(taskRepository).findById(1L);
+        verify(taskReadCache).get(1L);
     }
 
     @Test
@@ -144,6 +164,7 @@ class TaskServiceTest {
         verify(taskRepository).save(any(Task.class));
         verify(eventPublisher).publishEvent(any(TaskUpdatedEvent.class));
         verify(taskConverter).convertToResponse(task);
+        verify(taskReadCache).putAfterCommit(result.get());
     }
 
     @Test
@@ -158,34 +179,37 @@ class TaskServiceTest {
         assertFalse(result.isPresent());
         verify(taskRepository).findById(1L);
         verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(taskReadCache);
     }
 
     @Test
     void testDeleteTask() {
         // Given
-        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
 
         // When
         boolean result = taskService.deleteTask(1L);
 
         // Then
         assertTrue(result);
-        verify(taskRepository).existsById(1L);
-        verify(taskRepository).deleteById(1L);
+        verify(taskRepository).findById(1L);
+        verify(taskRepository).delete(task);
+        verify(eventPublisher).publishEvent(any(TaskDeletedEvent.class));
+        verify(taskReadCache).evictAfterCommit(Collections.singletonList(1L));
     }
 
     @Test
     void testDeleteTaskNotFound() {
         // Given
-        when(taskRepository.existsById(1L)).thenReturn(false);
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When
         boolean result = taskService.deleteTask(1L);
 
         // Then
         assertFalse(result);
-        verify(taskRepository).existsById(1L);
-        verify(taskRepository, never()).deleteById(any());
+        verify(taskRepository).findById(1L);
+        verify(taskRepository, never()).delete(any(Task.class));
     }
 
     @Test
@@ -214,6 +238,7 @@ class TaskServiceTest {
         verify(taskRepository).save(any(Task.class));
         verify(eventPublisher).publishEvent(any(TaskCompletedEvent.class));
         verify(taskConverter).convertToResponse(completedTask);
+        verify(taskReadCache).putAfterCommit(completedTaskResponse);
     }
 
     @Test
@@ -249,6 +274,371 @@ class TaskServiceTest {
         verify(taskConverter).convertToResponsePage(taskPage);
     }
 
+    @Test
+    void testGetAllTaskSummariesUsesProjection() {
+        // Given
+        TaskSummary summary = new TaskSummary(1L, "Test Task", Status.TODO, Priority.HIGH, task.getDueDate());
+        when(taskRepository.findSummaries(isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Arrays.asList(summary)));
+
+        // When
+        Page<TaskSummary> result = taskService.getAllTaskSummaries(0, 10);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Test Task", result.getContent().get(0).getTitle());
+        verify(taskRepository, never()).findAll(any(Pageable.class));
+        verifyNoInteractions(taskConverter);
+    }
+
+    @Test
+    void testSearchTaskSummariesAppliesAllFilters() {
+        // Given
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setSearchTerm("  ");
+        searchRequest.setStatus(Status.TODO);
+        searchRequest.setPriority(Priority.HIGH);
+        when(taskRepository.findSummaries(isNull(), eq(Status.TODO), eq(Priority.HIGH), isNull(), isNull(),
+                any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        // When
+        Page<TaskSummary> result = taskService.searchTaskSummaries(searchRequest);
+
+        // Then
+        assertTrue(result.getContent().isEmpty());
+        verify(taskRepository).findSummaries(isNull(), eq(Status.TODO), eq(Priority.HIGH), isNull(), isNull(),
+                eq(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        verifyNoInteractions(taskConverter);
+    }
+
+    @Test
+    void testSearchTasksAppliesSingleFilter() {
+        // Given
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setPriority(Priority.HIGH);
+        Page<Task> taskPage = new PageImpl<>(Arrays.asList(task));
+        when(taskRepository.findFiltered(isNull(), isNull(), eq(Priority.HIGH), isNull(), isNull(),
+                any(Pageable.class))).thenReturn(taskPage);
+        when(taskConverter.convertToResponsePage(taskPage))
+                .thenReturn(new PageImpl<>(Arrays.asList(createTaskResponse())));
+
+        // When
+        Page<TaskResponse> result = taskService.searchTasks(searchRequest);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        verify(taskRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void testSearchTasksWithTermUsesIndexRanking() {
+        // Given
+        Task other = createTask();
+        other.setId(2L);
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setSearchTerm("test");
+        List<Long> rankedIds = Arrays.asList(2L, 1L);
+        when(taskSearchIndex.search(searchRequest))
+                .thenReturn(Optional.of(new PageImpl<>(rankedIds, PageRequest.of(0, 10), 12)));
+        when(taskRepository.findAllById(rankedIds)).thenReturn(Arrays.asList(task, other));
+        when(taskConverter.convertToResponseList(Arrays.asList(other, task)))
+                .thenReturn(Arrays.asList(createTaskResponse(), createTaskResponse()));
+
+        // When
+        Page<TaskResponse> result = taskService.searchTasks(searchRequest);
+
+        // Then
+        assertEquals(2, result.getContent().size());
+        assertEquals(12, result.getTotalElements());
+        verify(taskRepository, never()).searchTasks(any(), any(Pageable.class));
+    }
+
+    @Test
+    void testSearchTaskSummariesWithTermSkipsDeletedHits() {
+        // Given
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setSearchTerm("test");
+        List<Long> rankedIds = Arrays.asList(3L, 1L);
+        TaskSummary summary = new TaskSummary(1L, "Test Task", Status.TODO, Priority.HIGH, null);
+        when(taskSearchIndex.search(searchRequest))
+                .thenReturn(Optional.of(new PageImpl<>(rankedIds, PageRequest.of(0, 10), 2)));
+        when(taskRepository.findSummariesByIdIn(rankedIds)).thenReturn(Arrays.asList(summary));
+
+        // When
+        Page<TaskSummary> result = taskService.searchTaskSummaries(searchRequest);
+
+        // Then
+        assertEquals(Arrays.asList(summary), result.getContent());
+        verify(taskRepository, never()).findSummaries(any(), any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void testSearchTasksWithTermAnsweredByDatabaseIsNotCached() {
+        // Given
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setSearchTerm(" test ");
+        Page<Task> taskPage = new PageImpl<>(Arrays.asList(task));
+        when(taskSearchIndex.search(searchRequest)).thenReturn(Optional.empty());
+        when(taskRepository.findFiltered(eq("test"), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(taskPage);
+        when(taskConverter.convertToResponsePage(taskPage))
+                .thenReturn(new PageImpl<>(Arrays.asList(createTaskResponse())));
+
+        // When
+        Page<TaskResponse> result = taskService.searchTasks(searchRequest);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertTrue(skipsCache(result));
+    }
+
+    @Test
+    void testSearchWithoutTermAnsweredByDatabaseIsCached() {
+        // Given
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setStatus(Status.TODO);
+        when(taskRepository.findSummaries(isNull(), eq(Status.TODO), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        // When
+        Page<TaskSummary> result = taskService.searchTaskSummaries(searchRequest);
+
+        // Then
+        assertFalse(skipsCache(result));
+    }
+
+    @Test
+    void testScrollTasks_WithTermSeeksThroughIndex() {
+        // Given
+        Task older = createTask();
+        older.setId(2L);
+        String cursor = TaskCursor.after(TaskCursor.SortKey.CREATED_AT, task).encode();
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setSearchTerm("test");
+        searchRequest.setSize(5);
+        when(taskSearchIndex.scroll(searchRequest, task.getCreatedAt(), 1L, 6))
+                .thenReturn(Optional.of(Collections.singletonList(2L)));
+        when(taskRepository.findAllById(Collections.singletonList(2L))).thenReturn(Collections.singletonList(older));
+        when(taskConverter.convertToResponseList(Collections.singletonList(older)))
+                .thenReturn(Collections.singletonList(createTaskResponse()));
+
+        // When
+        CursorPage<TaskResponse> result = taskService.scrollTasks(searchRequest, cursor);
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        verify(taskRepository, never()).findSliceByCreatedAtAfter(any(), any(), any(), any(), any(), any(), any(),
+                any(Pageable.class));
+    }
+
+    @Test
+    void testScrollTasks_FirstSliceReturnsCursorWhenMoreRowsExist() {
+        // Given
+        Task older = createTask();
+        older.setId(2L);
+        older.setCreatedAt(task.getCreatedAt().minusMinutes(1));
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setSize(1);
+        when(taskRepository.findFirstSliceByCreatedAt(isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(task, older));
+        when(taskConverter.convertToResponseList(Arrays.asList(task))).thenReturn(Arrays.asList(createTaskResponse()));
+
+        // When
+        CursorPage<TaskResponse> result = taskService.scrollTasks(searchRequest, null);
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        TaskCursor cursor = TaskCursor.decode(result.getNextCursor(), TaskCursor.SortKey.CREATED_AT);
+        assertEquals(task.getId(), cursor.getId());
+        assertEquals(task.getCreatedAt(), cursor.getCreatedAt());
+        verify(taskRepository).findFirstSliceByCreatedAt(isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(PageRequest.of(0, 2)));
+        verify(taskRepository, never()).count();
+    }
+
+    @Test
+    void testScrollTasks_SeeksPastCursor() {
+        // Given
+        String cursor = TaskCursor.after(TaskCursor.SortKey.CREATED_AT, task).encode();
+        TaskSearchRequest searchRequest = new TaskSearchRequest();
+        searchRequest.setStatus(Status.TODO);
+        when(taskRepository.findSliceByCreatedAtAfter(isNull(), eq(Status.TODO), isNull(), isNull(), isNull(),
+                eq(task.getCreatedAt()), eq(1L), any(Pageable.class))).thenReturn(Collections.emptyList());
+        when(taskConverter.convertToResponseList(Collections.emptyList())).thenReturn(Collections.emptyList());
+
+        // When
+        CursorPage<TaskResponse> result = taskService.scrollTasks(searchRequest, cursor);
+
+        // Then
+        assertTrue(result.getContent().isEmpty());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testScrollTasks_RejectsCursorFromAnotherListing() {
+        // Given
+        String overdueCursor = TaskCursor.after(TaskCursor.SortKey.DUE_DATE, task).encode();
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> taskService.scrollTasks(new TaskSearchRequest(), overdueCursor));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testScrollOverdueTasks_SeeksByDueDate() {
+        // Given
+        task.setDueDate(LocalDate.now().minusDays(3));
+        String cursor = TaskCursor.after(TaskCursor.SortKey.DUE_DATE, task).encode();
+        when(taskRepository.findOverdueSliceAfter(any(LocalDate.class), eq(task.getDueDate()), eq(1L), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        when(taskConverter.convertToResponseList(Collections.emptyList())).thenReturn(Collections.emptyList());
+
+        // When
+        CursorPage<TaskResponse> result = taskService.scrollOverdueTasks(cursor, 500);
+
+        // Then
+        assertFalse(result.isHasNext());
+        assertEquals(100, result.getSize());
+        verify(taskRepository).findOverdueSliceAfter(any(LocalDate.class), eq(task.getDueDate()), eq(1L),
+                eq(PageRequest.of(0, 101)));
+    }
+
+    @Test
+    void testBulkCompleteTasksReadsBackUpdatedRows() {
+        // Given
+        List<Long> taskIds = Arrays.asList(1L, 2L);
+        Task completed = createTask();
+        completed.setStatus(Status.COMPLETED);
+        completed.setVersion(4L);
+        List<TaskResponse> responses = Collections.singletonList(createTaskResponse());
+        when(taskRepository.findAllById(taskIds)).thenReturn(Collections.singletonList(task));
+        when(taskRepository.bulkCompleteTasks(eq(Collections.singletonList(1L)), any(LocalDateTime.class))).thenReturn(1);
+        when(taskRepository.findAllById(Collections.singletonList(1L))).thenReturn(Collections.singletonList(completed));
+        when(taskConverter.convertToResponseList(Collections.singletonList(completed))).thenReturn(responses);
+
+        // When
+        List<TaskResponse> result = taskService.bulkCompleteTasks(taskIds);
+
+        // Then
+        assertSame(responses, result);
+        assertEquals(Status.TODO, task.getStatus());
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TaskBulkCompletedEvent.class));
+        verify(taskReadCache).evictAfterCommit(Collections.singletonList(1L));
+        verify(taskReadCache, never()).putAllAfterCommit(any());
+        verify(taskReadCache, never()).clear();
+    }
+
+    @Test
+    void testBulkCompleteTasksWithUnknownIds() {
+        // Given
+        when(taskRepository.findAllById(Collections.singletonList(99L))).thenReturn(Collections.emptyList());
+
+        // When
+        List<TaskResponse> result = taskService.bulkCompleteTasks(Collections.singletonList(99L));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(taskRepository, never()).bulkCompleteTasks(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testUpdateTaskRejectsStaleVersion() {
+        // Given
+        task.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // When / Then
+        assertThrows(TaskVersionConflictException.class, () -> taskService.updateTask(1L, taskRequest, 2L));
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testPatchTaskWithCachedVersionSkipsSelect() {
+        // Given
+        TaskResponse cached = createTaskResponse();
+        cached.setVersion(2L);
+        Task detached = createTask();
+        detached.setVersion(2L);
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setStatus(Status.IN_PROGRESS);
+        when(taskReadCache.getIfPresent(1L)).thenReturn(Optional.of(cached));
+        when(taskRepository.patchIfVersion(eq(1L), eq(2L), eq(patch), any(LocalDateTime.class))).thenReturn(1);
+        when(taskConverter.convertToEntity(cached)).thenReturn(detached);
+        when(taskConverter.convertToResponse(detached)).thenReturn(createTaskResponse());
+
+        // When
+        Optional<TaskResponse> result = taskService.patchTask(1L, patch, 2L);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(Status.IN_PROGRESS, detached.getStatus());
+        assertEquals("Test Task", detached.getTitle());
+        assertEquals(3L, detached.getVersion());
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(any(TaskUpdatedEvent.class));
+        verify(taskReadCache).putAfterCommit(result.get());
+    }
+
+    @Test
+    void testPatchTaskWithCachedVersionDetectsConcurrentChange() {
+        // Given
+        TaskResponse cached = createTaskResponse();
+        cached.setVersion(2L);
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setTitle("Renamed");
+        when(taskReadCache.getIfPresent(1L)).thenReturn(Optional.of(cached));
+        when(taskRepository.patchIfVersion(eq(1L), eq(2L), eq(patch), any(LocalDateTime.class))).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        // When / Then
+        assertThrows(TaskVersionConflictException.class, () -> taskService.patchTask(1L, patch, 2L));
+        verify(taskReadCache).evict(1L);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testPatchTaskLoadsTaskWhenVersionNotCached() {
+        // Given
+        task.setVersion(5L);
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setNotes("Changed");
+        when(taskReadCache.getIfPresent(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
+        when(taskConverter.convertToResponse(task)).thenReturn(createTaskResponse());
+
+        // When
+        Optional<TaskResponse> result = taskService.patchTask(1L, patch, 5L);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals("Changed", task.getNotes());
+        assertEquals("Test Task", task.getTitle());
+        verify(taskRepository, never()).patchIfVersion(any(), anyLong(), any(), any());
+        verify(eventPublisher).publishEvent(any(TaskUpdatedEvent.class));
+    }
+
+    @Test
+    void testPatchTaskRejectsStaleVersionWhenNotCached() {
+        // Given
+        task.setVersion(5L);
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setNotes("Changed");
+        when(taskReadCache.getIfPresent(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        // When / Then
+        assertThrows(TaskVersionConflictException.class, () -> taskService.patchTask(1L, patch, 4L));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+    }
+
     @Test
     void testGetTaskCountByStatus() {
         // Given
@@ -275,6 +665,13 @@ class TaskServiceTest {
         verify(taskRepository).countByPriority(Priority.HIGH);
     }
 
+    private static boolean skipsCache(Page<?> result) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setVariable("result", result);
+        return new SpelExpressionParser().parseExpression(DatabaseSearchPage.UNLESS_ANSWERED_BY_DATABASE)
+                .getValue(context, Boolean.class);
+    }
+
     private Task createTask() {
         Task task = new Task();
         task.setId(1L);
@@ -0,0 +1,107 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskCounters;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.event.TaskCreatedEvent;
+import com.example.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskStatisticsStore.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsStoreTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskDataVersion dataVersion;
+    private TaskStatisticsStore statisticsStore;
+    private List<Object[]> summary;
+    private List<Object[]> openByDueDate;
+
+    @BeforeEach
+    void setUp() {
+        summary = new ArrayList<>();
+        summary.add(new Object[]{Status.TODO, Priority.HIGH, 2L});
+        summary.add(new Object[]{Status.COMPLETED, Priority.LOW, 1L});
+        openByDueDate = new ArrayList<>();
+        openByDueDate.add(new Object[]{LocalDate.now().minusDays(1), 1L});
+        openByDueDate.add(new Object[]{LocalDate.now().plusDays(1), 1L});
+
+        when(taskRepository.getTaskStatisticsSummary()).thenReturn(summary);
+        when(taskRepository.countOpenTasksByDueDate()).thenReturn(openByDueDate);
+        dataVersion = new TaskDataVersion();
+        statisticsStore = new TaskStatisticsStore(taskRepository, dataVersion);
+        statisticsStore.rebuild();
+    }
+
+    @Test
+    void testRebuildLoadsCountersFromAggregateQueries() {
+        TaskCounters counters = statisticsStore.getCounters();
+
+        assertEquals(3L, counters.getTotalTasks());
+        assertEquals(2L, counters.getStatusCount(Status.TODO));
+        assertEquals(1L, counters.getCompletedTasks());
+        assertEquals(1L, counters.getOverdueTasks());
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void testCountersAreReusedWhileDataIsUnchanged() {
+        statisticsStore.getCounters();
+        statisticsStore.getCounters();
+
+        verify(taskRepository, times(1)).getTaskStatisticsSummary();
+        verify(taskRepository, times(1)).countOpenTasksByDueDate();
+    }
+
+    @Test
+    void testCountersAreReloadedAfterCommittedChange() {
+        summary.add(new Object[]{Status.IN_PROGRESS, Priority.MEDIUM, 1L});
+        openByDueDate.add(new Object[]{LocalDate.now().minusDays(3), 1L});
+
+        dataVersion.handleTaskCreated(new TaskCreatedEvent(createTask(10L)));
+
+        TaskCounters counters = statisticsStore.getCounters();
+        assertEquals(4L, counters.getTotalTasks());
+        assertEquals(1L, counters.getCount(Status.IN_PROGRESS, Priority.MEDIUM));
+        assertEquals(2L, counters.getOverdueTasks());
+        verify(taskRepository, times(2)).getTaskStatisticsSummary();
+    }
+
+    @Test
+    void testChangeAlreadyLoadedIsNotCountedAgain() {
+        // The change is visible to a load that runs before its commit listener advances the version
+        summary.add(new Object[]{Status.IN_PROGRESS, Priority.MEDIUM, 1L});
+        statisticsStore.rebuild();
+
+        dataVersion.handleTaskCreated(new TaskCreatedEvent(createTask(10L)));
+
+        TaskCounters counters = statisticsStore.getCounters();
+        assertEquals(4L, counters.getTotalTasks());
+        assertEquals(1L, counters.getCount(Status.IN_PROGRESS, Priority.MEDIUM));
+    }
+
+    private Task createTask(Long id) {
+        Task task = new Task("Task " + id, Priority.MEDIUM, Status.IN_PROGRESS);
+        task.setId(id);
+        return task;
+    }
+}
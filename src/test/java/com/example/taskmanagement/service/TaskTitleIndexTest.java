@@ -0,0 +1,100 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.TaskSnapshot;
+import com.example.taskmanagement.entity.Task;
+import com.example.taskmanagement.enums.Priority;
+import com.example.taskmanagement.enums.Status;
+import com.example.taskmanagement.event.TaskCreatedEvent;
+import com.example.taskmanagement.event.TaskDeletedEvent;
+import com.example.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskTitleIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskTitleIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskTitleIndex titleIndex;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, "Review code changes"});
+        rows.add(new Object[]{2L, "Review design doc"});
+        rows.add(new Object[]{3L, "Write documentation"});
+        when(taskRepository.findAllIdAndTitle()).thenReturn(rows);
+        titleIndex.rebuild();
+    }
+
+    @Test
+    void testFindSimilarRanksByJaccardScore() {
+        List<TaskTitleIndex.TitleMatch> matches = titleIndex.findSimilar("review code", 0.0, 5);
+
+        assertEquals(2, matches.size());
+        assertEquals(1L, matches.get(0).getTaskId());
+        assertEquals(2.0 / 3.0, matches.get(0).getScore(), 0.0001);
+        assertEquals(2L, matches.get(1).getTaskId());
+        assertEquals(0.25, matches.get(1).getScore(), 0.0001);
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void testFindSimilarAppliesThresholdAndLimit() {
+        assertEquals(1, titleIndex.findSimilar("review code", 0.3, 5).size());
+        assertEquals(1, titleIndex.findSimilar("review", 0.0, 1).size());
+        assertTrue(titleIndex.findSimilar("unrelated", 0.0, 5).isEmpty());
+    }
+
+    @Test
+    void testTaskEventsUpdateIndex() {
+        Task created = new Task("Review release notes", Priority.LOW, Status.TODO);
+        created.setId(4L);
+
+        titleIndex.handleTaskCreated(new TaskCreatedEvent(created));
+        titleIndex.handleTaskDeleted(new TaskDeletedEvent(Collections.singletonList(
+                new TaskSnapshot(1L, Status.TODO, Priority.HIGH, null, 0L))));
+
+        List<TaskTitleIndex.TitleMatch> matches = titleIndex.findSimilar("review", 0.0, 5);
+        assertEquals(2, matches.size());
+        assertEquals(2L, matches.get(0).getTaskId());
+        assertEquals(4L, matches.get(1).getTaskId());
+        verify(taskRepository, times(1)).findAllIdAndTitle();
+    }
+
+    @Test
+    void testMarkStaleRebuildsOnNextLookup() {
+        titleIndex.markStale();
+        titleIndex.findSimilar("review", 0.0, 5);
+
+        verify(taskRepository, times(2)).findAllIdAndTitle();
+    }
+
+    @Test
+    void testTokenizeNormalizesCaseAndPunctuation() {
+        assertArrayEquals(new String[]{"code", "review", "testing"},
+                TaskTitleIndex.tokenize("Code-review & TESTING! code"));
+        assertEquals(0, TaskTitleIndex.tokenize("  ").length);
+    }
+}
@@ -129,7 +129,40 @@ class NoSqlInjectionValidatorTest {
         assertTrue(validator.isValid("test SELECT", null));
         assertTrue(validator.isValid("test drop table", null));
     }
-}
 
+    @Test
+    @DisplayName("Should reject tautologies with optional quotes and spacing")
+    void shouldRejectTautologyVariations() {
+        assertFalse(validator.isValid("x' and 2 = 2", null));
+        assertFalse(validator.isValid("x';or\t\"7\"=\"7\"", null));
+        assertTrue(validator.isValid("x' or 1", null));
+        assertTrue(validator.isValid("x' order=1", null));
+    }
 
+    @Test
+    @DisplayName("Should reject stored procedure names and CREATE/ALTER after a semicolon")
+    void shouldRejectProceduresAndDdl() {
+        assertFalse(validator.isValid("run sp_who now", null));
+        assertFalse(validator.isValid("a; ALTER TABLE tasks", null));
+        // CREATE and ALTER only count after a semicolon, not after a quote
+        assertTrue(validator.isValid("the 'create' step", null));
+        assertTrue(validator.isValid("sp_ alone", null));
+    }
 
+    @Test
+    @DisplayName("Should reject injection patterns split across lines")
+    void shouldRejectMultiLineInjection() {
+        assertFalse(validator.isValid("first line\n'; DROP TABLE tasks", null));
+        assertFalse(validator.isValid("/* spans\nlines */", null));
+    }
+
+    @Test
+    @DisplayName("Should accept long multi-line descriptions")
+    void shouldAcceptLongDescriptions() {
+        StringBuilder description = new StringBuilder();
+        while (description.length() < 2000) {
+            description.append("Review the draft with the client's team, then file notes.\n");
+        }
+        assertTrue(validator.isValid(description.substring(0, 2000), null));
+    }
+}
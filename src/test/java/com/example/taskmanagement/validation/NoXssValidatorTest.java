@@ -133,8 +133,27 @@ class NoXssValidatorTest {
         assertFalse(validator.isValid("JaVaScRiPt:alert(1)", null));
         assertFalse(validator.isValid("OnErRoR=alert(1)", null));
     }
-}
-
 
+    @Test
+    @DisplayName("Should reject script tags only when the tag is closed before </script>")
+    void shouldRejectClosedScriptTags() {
+        assertFalse(validator.isValid("<script src=x>\n</script>", null));
+        assertTrue(validator.isValid("<script</script>", null));
+        assertTrue(validator.isValid("</script> then <script>", null));
+    }
 
+    @Test
+    @DisplayName("Should reject handlers and calls with whitespace before the operator")
+    void shouldRejectSpacedHandlers() {
+        assertFalse(validator.isValid("onload \t= go()", null));
+        assertFalse(validator.isValid("eval (code)", null));
+        assertTrue(validator.isValid("evaluation (draft)", null));
+    }
 
+    @Test
+    @DisplayName("Should reject XSS patterns split across lines")
+    void shouldRejectMultiLineXss() {
+        assertFalse(validator.isValid("line one\njavascript:alert(1)", null));
+        assertFalse(validator.isValid("<iframe\nsrc=x>", null));
+    }
+}